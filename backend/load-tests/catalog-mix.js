@@ -0,0 +1,63 @@
+// Catalog + cart read mix used to compare platform-thread and virtual-thread modes.
+// Usage: k6 run -e BASE_URL=http://localhost:8080 -e EMAIL=... -e PASSWORD=... load-tests/catalog-mix.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+  scenarios: {
+    evening_peak: {
+      executor: 'ramping-arrival-rate',
+      startRate: 50,
+      timeUnit: '1s',
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+      stages: [
+        { target: 200, duration: '1m' },
+        { target: 600, duration: '3m' },
+        { target: 0, duration: '30s' },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.02'],
+    http_req_duration: ['p(95)<800'],
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+  if (!__ENV.EMAIL) {
+    return { token: null };
+  }
+  const res = http.post(`${BASE_URL}/api/auth/login`,
+    JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+    { headers: { 'Content-Type': 'application/json' } });
+  return { token: res.json('token') };
+}
+
+export default function (data) {
+  const roll = Math.random();
+  let res;
+  if (roll < 0.45) {
+    res = http.get(`${BASE_URL}/api/products?page=${Math.floor(Math.random() * 5)}&size=12`,
+      { tags: { name: 'catalog' } });
+  } else if (roll < 0.65) {
+    res = http.get(`${BASE_URL}/api/products/suggestions?q=mi`, { tags: { name: 'suggestions' } });
+  } else if (roll < 0.80) {
+    res = http.get(`${BASE_URL}/api/products/featured`, { tags: { name: 'featured' } });
+  } else if (roll < 0.90 || !data.token) {
+    res = http.get(`${BASE_URL}/api/products/categories`, { tags: { name: 'categories' } });
+  } else {
+    res = http.get(`${BASE_URL}/api/cart`, {
+      headers: { Authorization: `Bearer ${data.token}` },
+      tags: { name: 'cart' },
+    });
+  }
+  // 503 is the admission filter shedding load in virtual-thread mode; count it separately
+  check(res, {
+    'status is 2xx': (r) => r.status >= 200 && r.status < 300,
+    'not shed (503)': (r) => r.status !== 503,
+  });
+}
@@ -0,0 +1,163 @@
+// Realistic storefront mix for capacity planning: browse, search, cart, checkout (order,
+// payment intent, signed webhook) and admin reporting, each as its own arrival-rate scenario.
+// Run against the load-test launcher (./mvnw -P loadtest spring-boot:run), which seeds
+// products 1..PRODUCTS and loadtest-customer-{1..CUSTOMERS}@urbanfresh.test.
+// Usage: k6 run load-tests/checkout-mix.js --summary-export=checkout.json
+import http from 'k6/http';
+import crypto from 'k6/crypto';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PRODUCTS = parseInt(__ENV.PRODUCTS || '2000', 10);
+const CUSTOMERS = parseInt(__ENV.CUSTOMERS || '200', 10);
+const PASSWORD = __ENV.PASSWORD || 'LoadTest#2026';
+const WEBHOOK_SECRET = __ENV.WEBHOOK_SECRET || 'whsec_loadtest';
+// Multiplies every scenario's arrival rate; 1 ≈ an evening peak for a single store
+const SCALE = parseFloat(__ENV.SCALE || '1');
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+const SEARCH_TERMS = ['mi', 'fresh', 'org', 'man', 'chee', 'tea', 'ban', 'rice'];
+
+function scenario(exec, rate) {
+  return {
+    executor: 'ramping-arrival-rate',
+    exec,
+    startRate: 0,
+    timeUnit: '1s',
+    preAllocatedVUs: Math.ceil(rate * SCALE * 2),
+    maxVUs: Math.ceil(rate * SCALE * 20),
+    stages: [
+      { target: Math.ceil(rate * SCALE), duration: '1m' },
+      { target: Math.ceil(rate * SCALE), duration: '4m' },
+      { target: 0, duration: '30s' },
+    ],
+  };
+}
+
+export const options = {
+  scenarios: {
+    browse: scenario('browse', 120),
+    search: scenario('search', 60),
+    cart: scenario('cart', 40),
+    checkout: scenario('checkout', 8),
+    admin: scenario('admin', 2),
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.02'],
+    'http_req_duration{scenario:browse}': ['p(95)<500'],
+    'http_req_duration{scenario:search}': ['p(95)<300'],
+    'http_req_duration{scenario:cart}': ['p(95)<500'],
+    'http_req_duration{name:place-order}': ['p(95)<1500'],
+    'http_req_duration{scenario:admin}': ['p(95)<3000'],
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+function randomProductId() {
+  return 1 + Math.floor(Math.random() * PRODUCTS);
+}
+
+function auth(token) {
+  return { ...JSON_HEADERS, Authorization: `Bearer ${token}` };
+}
+
+function login(email) {
+  const res = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({ email, password: PASSWORD }),
+    { headers: JSON_HEADERS, tags: { name: 'login' } });
+  return res.json('token');
+}
+
+export function setup() {
+  const customers = [];
+  for (let i = 1; i <= CUSTOMERS; i++) {
+    customers.push(login(`loadtest-customer-${i}@urbanfresh.test`));
+  }
+  return { customers, admin: login('loadtest-admin@urbanfresh.test') };
+}
+
+function customerToken(data) {
+  return data.customers[Math.floor(Math.random() * data.customers.length)];
+}
+
+export function browse() {
+  const roll = Math.random();
+  let res;
+  if (roll < 0.5) {
+    res = http.get(`${BASE_URL}/api/products?page=${Math.floor(Math.random() * 20)}&size=12`,
+      { tags: { name: 'catalog' } });
+  } else if (roll < 0.8) {
+    res = http.get(`${BASE_URL}/api/products/${randomProductId()}`, { tags: { name: 'product-detail' } });
+  } else if (roll < 0.9) {
+    res = http.get(`${BASE_URL}/api/products/featured`, { tags: { name: 'featured' } });
+  } else {
+    res = http.get(`${BASE_URL}/api/products/categories`, { tags: { name: 'categories' } });
+  }
+  check(res, { 'browse 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
+
+export function search() {
+  const term = SEARCH_TERMS[Math.floor(Math.random() * SEARCH_TERMS.length)];
+  const res = Math.random() < 0.6
+    ? http.get(`${BASE_URL}/api/products/suggestions?q=${term}`, { tags: { name: 'suggestions' } })
+    : http.get(`${BASE_URL}/api/products?search=${term}&page=0&size=12`, { tags: { name: 'search' } });
+  check(res, { 'search 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
+
+export function cart(data) {
+  const headers = auth(customerToken(data));
+  const add = http.post(`${BASE_URL}/api/cart/items`,
+    JSON.stringify({ productId: randomProductId(), quantity: 1 }), { headers, tags: { name: 'cart-add' } });
+  const view = http.get(`${BASE_URL}/api/cart`, { headers, tags: { name: 'cart-view' } });
+  check(add, { 'cart add 2xx': (r) => r.status >= 200 && r.status < 300 });
+  check(view, { 'cart view 2xx': (r) => r.status === 200 });
+}
+
+/** Stripe-Signature header: t=<unix>,v1=HMAC-SHA256(secret, "<t>.<body>"). */
+function stripeSignature(body) {
+  const timestamp = Math.floor(Date.now() / 1000);
+  const signature = crypto.hmac('sha256', WEBHOOK_SECRET, `${timestamp}.${body}`, 'hex');
+  return `t=${timestamp},v1=${signature}`;
+}
+
+export function checkout(data) {
+  const headers = auth(customerToken(data));
+  const items = [];
+  const lines = 1 + Math.floor(Math.random() * 4);
+  for (let i = 0; i < lines; i++) {
+    items.push({ productId: randomProductId(), quantity: 2 + Math.floor(Math.random() * 3) });
+  }
+
+  const order = http.post(`${BASE_URL}/api/orders`,
+    JSON.stringify({ deliveryAddress: 'No. 12, Galle Road, Colombo 03', items }),
+    { headers, tags: { name: 'place-order' } });
+  if (!check(order, { 'order placed': (r) => r.status === 201 || r.status === 200 })) {
+    return;
+  }
+
+  const intent = http.post(`${BASE_URL}/api/payments/create-intent`,
+    JSON.stringify({ orderId: order.json('orderId') }), { headers, tags: { name: 'create-intent' } });
+  if (!check(intent, { 'intent created': (r) => r.status === 200 })) {
+    return;
+  }
+
+  const body = JSON.stringify({
+    id: `evt_lt_${intent.json('paymentIntentId')}`,
+    object: 'event',
+    type: 'payment_intent.succeeded',
+    created: Math.floor(Date.now() / 1000),
+    data: { object: { id: intent.json('paymentIntentId'), object: 'payment_intent', status: 'succeeded' } },
+  });
+  const webhook = http.post(`${BASE_URL}/api/payments/webhook`, body, {
+    headers: { ...JSON_HEADERS, 'Stripe-Signature': stripeSignature(body) },
+    tags: { name: 'webhook' },
+  });
+  check(webhook, { 'webhook accepted': (r) => r.status === 200 });
+}
+
+export function admin(data) {
+  const headers = auth(data.admin);
+  const res = Math.random() < 0.7
+    ? http.get(`${BASE_URL}/api/admin/dashboard`, { headers, tags: { name: 'admin-dashboard' } })
+    : http.get(`${BASE_URL}/api/admin/waste-report`, { headers, tags: { name: 'waste-report' } });
+  check(res, { 'admin 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,88 @@
+package com.urbanfresh.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.urbanfresh.dto.response.CartResponse;
+import com.urbanfresh.model.Cart;
+import com.urbanfresh.model.CartItem;
+import com.urbanfresh.model.Product;
+import com.urbanfresh.model.Role;
+import com.urbanfresh.model.User;
+import com.urbanfresh.repository.CartRepository;
+import com.urbanfresh.repository.UserRepository;
+import com.urbanfresh.service.ProductBatchService;
+import com.urbanfresh.service.impl.CartServiceImpl;
+import com.urbanfresh.service.impl.CoPurchaseIndex;
+import com.urbanfresh.service.impl.LinePricing;
+
+/**
+ * Benchmark – Discount BigDecimal math shared by cart responses and order placement
+ * (LinePricing), and the full cart response mapping (CartServiceImpl.getCart) around it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CartPricingBenchmark {
+
+    private static final String EMAIL = "bench@example.com";
+
+    @Param({ "5", "40" })
+    public int cartItems;
+
+    private CartServiceImpl cartService;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        products = Fixtures.products(cartItems);
+        User customer = User.builder().id(1L).email(EMAIL).name("Bench Customer").role(Role.CUSTOMER).build();
+        Cart cart = Cart.builder().id(1L).customer(customer).items(new ArrayList<>()).build();
+        for (int i = 0; i < products.size(); i++) {
+            cart.getItems().add(CartItem.builder()
+                    .id((long) i + 1).cart(cart).product(products.get(i)).quantity(1 + i % 4).build());
+        }
+
+        UserRepository userRepository = Stubs.of(UserRepository.class,
+                Map.of("findByEmail", args -> Optional.of(customer)));
+        CartRepository cartRepository = Stubs.of(CartRepository.class,
+                Map.of("findByCustomerId", args -> Optional.of(cart)));
+        ProductBatchService batchService = Stubs.of(ProductBatchService.class,
+                Map.of("getTotalAvailableQuantity", args -> 25));
+        cartService = new CartServiceImpl(cartRepository, null, null, userRepository, batchService,
+                new CoPurchaseIndex(null, null, null));
+    }
+
+    @Benchmark
+    public void lineTotals(Blackhole blackhole) {
+        for (Product product : products) {
+            blackhole.consume(LinePricing.lineTotal(product.getPrice(), product.getDiscountPercentage(), 3));
+        }
+    }
+
+    @Benchmark
+    public BigDecimal cartResponse() {
+        CartResponse response = cartService.getCart(EMAIL);
+        return response.getTotalAmount();
+    }
+}
@@ -0,0 +1,74 @@
+package com.urbanfresh.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.urbanfresh.model.OrderItem;
+import com.urbanfresh.model.Product;
+import com.urbanfresh.model.ProductBatch;
+import com.urbanfresh.repository.OrderItemBatchAllocationRepository;
+import com.urbanfresh.repository.ProductBatchRepository;
+import com.urbanfresh.service.impl.ProductBatchServiceImpl;
+
+/**
+ * Benchmark – FIFO batch allocation (ProductBatchServiceImpl.allocateBatchesFifo) for one
+ * order line, with repositories stubbed in memory. The order line spans several batches so
+ * the loop, entity updates and allocation rows are all exercised.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FifoAllocationBenchmark {
+
+    private static final int UNITS_PER_BATCH = 10;
+
+    @Param({ "4", "32" })
+    public int batchCount;
+
+    private ProductBatchServiceImpl service;
+    private List<ProductBatch> batches;
+    private OrderItem orderItem;
+    private int quantity;
+
+    @Setup
+    public void setUp() {
+        Product product = Fixtures.products(1).get(0);
+        batches = Fixtures.batches(product, batchCount, UNITS_PER_BATCH);
+        orderItem = OrderItem.builder().id(1L).product(product).productName(product.getName()).quantity(1).build();
+        // Draw from three quarters of the batches
+        quantity = Math.max(1, batchCount * 3 / 4) * UNITS_PER_BATCH;
+
+        ProductBatchRepository batchRepository = Stubs.of(ProductBatchRepository.class, Map.of(
+                "findAllocatableBatchesByProductId", args -> batches,
+                "save", args -> args[0]));
+        OrderItemBatchAllocationRepository allocationRepository = Stubs.of(OrderItemBatchAllocationRepository.class,
+                Map.of("save", args -> args[0]));
+        service = new ProductBatchServiceImpl(batchRepository, allocationRepository, null, event -> { }, null, null);
+    }
+
+    @Benchmark
+    public OrderItem allocate() {
+        // Restock before each call; a handful of setter calls, negligible next to the allocation
+        for (ProductBatch batch : batches) {
+            batch.setAvailableQuantity(UNITS_PER_BATCH);
+        }
+        service.allocateBatchesFifo(orderItem, quantity);
+        return orderItem;
+    }
+}
@@ -0,0 +1,89 @@
+package com.urbanfresh.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.urbanfresh.model.ApprovalStatus;
+import com.urbanfresh.model.BatchStatus;
+import com.urbanfresh.model.Brand;
+import com.urbanfresh.model.PricingUnit;
+import com.urbanfresh.model.Product;
+import com.urbanfresh.model.ProductBatch;
+import com.urbanfresh.model.WasteRecord;
+
+/**
+ * Benchmark support – Deterministic in-memory entities shared by the benchmarks.
+ * A fixed seed keeps prices and discounts identical across runs, so results compare.
+ */
+final class Fixtures {
+
+    private static final long SEED = 42L;
+
+    private Fixtures() {
+    }
+
+    static List<Product> products(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Brand brand = Brand.builder().id(1L).name("Fresh Farms").code("FF").active(true).build();
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            products.add(Product.builder()
+                    .id((long) i)
+                    .name("Product " + i)
+                    .description("Benchmark product " + i)
+                    .price(BigDecimal.valueOf(random.nextInt(5_000, 250_000), 2))
+                    .unit(i % 3 == 0 ? PricingUnit.PER_KG : PricingUnit.PER_ITEM)
+                    .category(i % 2 == 0 ? "Vegetables" : "Dairy")
+                    .brand(brand)
+                    .imageUrl("/uploads/product-" + i + ".jpg")
+                    .featured(i % 5 == 0)
+                    // Roughly a third of the catalogue is discounted
+                    .discountPercentage(i % 3 == 0 ? random.nextInt(5, 40) : 0)
+                    .stockQuantity(random.nextInt(0, 200))
+                    .approvalStatus(ApprovalStatus.APPROVED)
+                    .build());
+        }
+        return products;
+    }
+
+    /** Batches for one product, oldest expiry first as the allocatable-batch query returns them. */
+    static List<ProductBatch> batches(Product product, int count, int unitsPerBatch) {
+        LocalDate firstExpiry = LocalDate.of(2026, 1, 1);
+        List<ProductBatch> batches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            batches.add(ProductBatch.builder()
+                    .id((long) i + 1)
+                    .product(product)
+                    .batchNumber("B-" + product.getId() + "-" + (i + 1))
+                    .expiryDate(firstExpiry.plusDays(i))
+                    .receivedQuantity(unitsPerBatch)
+                    .availableQuantity(unitsPerBatch)
+                    .status(BatchStatus.ACTIVE)
+                    .build());
+        }
+        return batches;
+    }
+
+    /** Waste records spread over twelve months. */
+    static List<WasteRecord> wasteRecords(List<Product> products, int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        List<WasteRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Product product = products.get(random.nextInt(products.size()));
+            int quantity = random.nextInt(1, 50);
+            records.add(WasteRecord.builder()
+                    .id((long) i + 1)
+                    .product(product)
+                    .wastedQuantity(quantity)
+                    .pricePerUnit(product.getPrice())
+                    .wastedValue(product.getPrice().multiply(BigDecimal.valueOf(quantity)))
+                    .expiryDate(start.plusDays(random.nextInt(365)))
+                    .build());
+        }
+        return records;
+    }
+}
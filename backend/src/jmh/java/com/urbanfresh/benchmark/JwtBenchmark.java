@@ -0,0 +1,50 @@
+package com.urbanfresh.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.urbanfresh.security.JwtUtil;
+
+/**
+ * Benchmark – JwtUtil token issue and the per-request validation path used by JwtAuthFilter
+ * (isTokenValid followed by extractEmail, i.e. two signature checks per request).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-at-least-32-bytes-long";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 86_400_000L);
+        token = jwtUtil.generateToken("bench@example.com", "CUSTOMER");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("bench@example.com", "CUSTOMER");
+    }
+
+    @Benchmark
+    public String filterPath() {
+        return jwtUtil.isTokenValid(token) ? jwtUtil.extractEmail(token) : null;
+    }
+}
@@ -0,0 +1,67 @@
+package com.urbanfresh.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.urbanfresh.dto.response.ProductResponse;
+import com.urbanfresh.model.Product;
+import com.urbanfresh.repository.ProductRepository;
+import com.urbanfresh.service.ProductBatchService;
+import com.urbanfresh.service.impl.CoPurchaseIndex;
+import com.urbanfresh.service.impl.ProductServiceImpl;
+
+/**
+ * Benchmark – Entity to DTO mapping in ProductServiceImpl for the featured list and the
+ * product detail page. Batch lookups are stubbed, so this isolates the mapping cost.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductMappingBenchmark {
+
+    private static final int CATALOGUE_SIZE = 200;
+
+    private ProductServiceImpl productService;
+
+    @Setup
+    public void setUp() {
+        List<Product> products = Fixtures.products(CATALOGUE_SIZE);
+        List<Product> featured = products.stream().filter(Product::isFeatured).toList();
+        Optional<LocalDate> earliestExpiry = Optional.of(LocalDate.now().plusDays(5));
+
+        ProductRepository productRepository = Stubs.of(ProductRepository.class, Map.of(
+                "findByFeaturedTrue", args -> featured,
+                "findById", args -> Optional.of(products.get((int) ((Long) args[0] - 1)))));
+        ProductBatchService batchService = Stubs.of(ProductBatchService.class, Map.of(
+                "getTotalAvailableQuantity", args -> 25,
+                "getEarliestExpiryDate", args -> earliestExpiry));
+        productService = new ProductServiceImpl(productRepository, batchService, new CoPurchaseIndex(null, null, null));
+    }
+
+    @Benchmark
+    public List<ProductResponse> featuredProducts() {
+        return productService.getFeaturedProducts();
+    }
+
+    @Benchmark
+    public ProductResponse productDetail() {
+        return productService.getProductById(42L);
+    }
+}
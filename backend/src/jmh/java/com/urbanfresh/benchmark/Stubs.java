@@ -0,0 +1,37 @@
+package com.urbanfresh.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Benchmark support – Minimal interface stubs for repositories and services.
+ * Benchmarks exercise the service logic in-process without Spring or a database, so each
+ * dependency is a JDK proxy answering only the methods the benchmarked path calls.
+ */
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * @param type    interface to stub
+     * @param answers method name → answer computed from the call arguments
+     * @return proxy that throws UnsupportedOperationException for any other method
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            return switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + "Stub";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            };
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package com.urbanfresh.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.urbanfresh.dto.response.WasteReportResponse;
+import com.urbanfresh.model.WasteRecord;
+import com.urbanfresh.repository.WasteRecordRepository;
+import com.urbanfresh.service.impl.WasteReportServiceImpl;
+
+/**
+ * Benchmark – In-memory aggregation behind the admin waste report (monthly grouping,
+ * BigDecimal totals and the top-wasted ranking) over a year of waste records.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WasteReportBenchmark {
+
+    @Param({ "1000", "20000" })
+    public int records;
+
+    private WasteReportServiceImpl wasteReportService;
+
+    @Setup
+    public void setUp() {
+        List<WasteRecord> wasteRecords = Fixtures.wasteRecords(Fixtures.products(500), records);
+        WasteRecordRepository repository = Stubs.of(WasteRecordRepository.class,
+                Map.of("findAllByOrderByExpiryDateAsc", args -> wasteRecords));
+        wasteReportService = new WasteReportServiceImpl(null, repository);
+    }
+
+    @Benchmark
+    public WasteReportResponse wasteReport() {
+        return wasteReportService.getWasteReport();
+    }
+}
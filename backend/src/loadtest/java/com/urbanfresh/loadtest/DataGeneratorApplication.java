@@ -0,0 +1,35 @@
+package com.urbanfresh.loadtest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.urbanfresh.UrbanFreshApplication;
+
+/**
+ * Load Test – Command-line entry point that fills a database with synthetic data at scale.
+ * Boots the backend without a web server under the "loadtest" and "datagen" profiles, so
+ * Hibernate creates the schema, SyntheticDataRunner writes the data set, and the process
+ * then exits with the runner's status.
+ *
+ * Requires DB_URL: the data set is meant to outlive the process, which the embedded
+ * MariaDB used by LoadTestApplication does not.
+ */
+public final class DataGeneratorApplication {
+
+    private DataGeneratorApplication() {
+    }
+
+    public static void main(String[] args) {
+        if (System.getenv("DB_URL") == null) {
+            System.err.println("DB_URL must point at the MySQL database to fill");
+            System.exit(2);
+        }
+
+        SpringApplication application = new SpringApplication(UrbanFreshApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setAdditionalProfiles("loadtest", "datagen");
+        ConfigurableApplicationContext context = application.run(args);
+        System.exit(SpringApplication.exit(context));
+    }
+}
@@ -0,0 +1,26 @@
+package com.urbanfresh.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.urbanfresh.model.IdGenerators;
+
+/**
+ * Load Test – Moves the pooled ID generators past rows bulk-loaded with explicit IDs.
+ * Same statement as V2__pooled_id_generators.sql, which only runs once per schema and so
+ * cannot see rows seeded after startup.
+ */
+final class IdGeneratorSync {
+
+    private IdGeneratorSync() {
+    }
+
+    static void advancePastExistingIds(JdbcTemplate jdbcTemplate) {
+        int margin = IdGenerators.ALLOCATION_SIZE + 1;
+        for (String table : IdGenerators.POOLED_TABLES) {
+            jdbcTemplate.update("INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.NAME_COLUMN + ", "
+                    + IdGenerators.VALUE_COLUMN + ") SELECT ?, COALESCE(MAX(id), 0) + ? FROM " + table
+                    + " ON DUPLICATE KEY UPDATE " + IdGenerators.VALUE_COLUMN + " = GREATEST("
+                    + IdGenerators.VALUE_COLUMN + ", VALUES(" + IdGenerators.VALUE_COLUMN + "))", table, margin);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.urbanfresh.loadtest;
+
+import org.springframework.boot.SpringApplication;
+
+import com.urbanfresh.UrbanFreshApplication;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+/**
+ * Load Test – Boots the backend against an embedded MariaDB with the "loadtest" profile.
+ * MariaDB runs as a local child process unpacked from the classpath (no Docker, no install)
+ * and understands every MySQL construct the backend relies on — INSERT IGNORE,
+ * ON DUPLICATE KEY UPDATE, SELECT … FOR UPDATE and STORED generated columns — which an
+ * in-memory H2 in MySQL mode does not. The database lives in a temp directory and is
+ * discarded on exit, so every run starts from the same seeded state.
+ *
+ * Set DB_URL to run against an existing MySQL instead of the embedded server.
+ */
+public final class LoadTestApplication {
+
+    private static final String DATABASE = "urbanfresh_loadtest";
+
+    private LoadTestApplication() {
+    }
+
+    public static void main(String[] args) throws ManagedProcessException {
+        if (System.getenv("DB_URL") == null) {
+            DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+            config.setPort(Integer.getInteger("loadtest.db.port", 0));
+            DB db = DB.newEmbeddedDB(config.build());
+            db.start();
+            db.createDB(DATABASE);
+            System.setProperty("spring.datasource.url", config.getURL(DATABASE));
+        }
+
+        SpringApplication application = new SpringApplication(UrbanFreshApplication.class);
+        application.setAdditionalProfiles("loadtest");
+        application.run(args);
+    }
+}
@@ -0,0 +1,219 @@
+package com.urbanfresh.loadtest;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Load Test – Seeds a fresh database with a deterministic catalogue and order history.
+ * Runs once at startup under the "loadtest" profile and skips an already-seeded database.
+ * Rows are written with explicit IDs in JDBC batches, so k6 scripts can address products
+ * 1..products and customers by index without discovering them first.
+ *
+ * Accounts: loadtest-admin@urbanfresh.test and loadtest-customer-{1..customers}@urbanfresh.test,
+ * all with the configured password.
+ */
+@Slf4j
+@Component
+@Profile("loadtest & !datagen")
+@RequiredArgsConstructor
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 1000;
+
+    /** Deep enough that sustained checkout load never exhausts stock during a run. */
+    private static final int UNITS_PER_BATCH = 10_000;
+
+    private static final String[] CATEGORIES = {
+            "Vegetables", "Fruits", "Dairy", "Bakery", "Meat", "Seafood", "Beverages", "Pantry"
+    };
+
+    private static final String[] NAME_WORDS = {
+            "Organic", "Fresh", "Farm", "Milk", "Mango", "Carrot", "Bread", "Cheese", "Chicken",
+            "Prawn", "Tea", "Rice", "Banana", "Yoghurt", "Tomato", "Onion", "Coconut", "Butter"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${app.loadtest.seed.random-seed:20260101}")
+    private long randomSeed;
+
+    @Value("${app.loadtest.seed.products:2000}")
+    private int products;
+
+    @Value("${app.loadtest.seed.batches-per-product:3}")
+    private int batchesPerProduct;
+
+    @Value("${app.loadtest.seed.customers:500}")
+    private int customers;
+
+    @Value("${app.loadtest.seed.orders:5000}")
+    private int orders;
+
+    @Value("${app.loadtest.seed.password:LoadTest#2026}")
+    private String password;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Integer.class);
+        if (existing != null && existing > 0) {
+            log.info("[LoadTestDataSeeder] {} product(s) already present — skipping seed", existing);
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(randomSeed);
+        LocalDateTime now = LocalDateTime.now();
+
+        seedUsers(now);
+        BigDecimal[] prices = seedProducts(random, now);
+        seedBatches(random, now);
+        seedOrders(random, prices, now);
+        IdGeneratorSync.advancePastExistingIds(jdbcTemplate);
+
+        log.info("[LoadTestDataSeeder] Seeded {} product(s), {} batch(es), {} customer(s), {} order(s) in {} ms",
+                products, products * batchesPerProduct, customers, orders, System.currentTimeMillis() - started);
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    /** Admin is user 1; customers are users 2..customers+1. */
+    private void seedUsers(LocalDateTime now) {
+        // One hash for every account: BCrypt per row would dominate seeding time
+        String hash = passwordEncoder.encode(password);
+        Timestamp createdAt = Timestamp.valueOf(now);
+
+        List<Object[]> rows = new ArrayList<>(customers + 1);
+        rows.add(new Object[] { 1L, "Load Test Admin", "loadtest-admin@urbanfresh.test", hash, "ADMIN", createdAt });
+        for (int i = 1; i <= customers; i++) {
+            rows.add(new Object[] { (long) i + 1, "Customer " + i, "loadtest-customer-" + i + "@urbanfresh.test",
+                    hash, "CUSTOMER", createdAt });
+        }
+        batchInsert("INSERT INTO users (id, name, email, password, role, active, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, TRUE, ?)", rows);
+    }
+
+    /** Products 1..products; stock matches the batches seeded for them. */
+    private BigDecimal[] seedProducts(SplittableRandom random, LocalDateTime now) {
+        BigDecimal[] prices = new BigDecimal[products + 1];
+        int unitsPerProduct = batchesPerProduct * UNITS_PER_BATCH;
+        Timestamp createdAt = Timestamp.valueOf(now);
+
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int id = 1; id <= products; id++) {
+            prices[id] = BigDecimal.valueOf(random.nextInt(5_000, 250_000), 2);
+            String name = NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " "
+                    + NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " " + id;
+            rows.add(new Object[] {
+                    (long) id, name, "Load test product " + id, prices[id],
+                    CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    random.nextInt(20) == 0,                       // ~5% featured
+                    random.nextInt(3) == 0 ? "PER_KG" : "PER_ITEM",
+                    random.nextInt(4) == 0 ? random.nextInt(5, 40) : 0,
+                    unitsPerProduct, 20, batchesPerProduct, createdAt
+            });
+            if (rows.size() == BATCH_SIZE) {
+                insertProducts(rows);
+                rows.clear();
+            }
+        }
+        insertProducts(rows);
+        return prices;
+    }
+
+    private void insertProducts(List<Object[]> rows) {
+        batchInsert("INSERT INTO products (id, name, description, price, category, hidden, featured, unit, "
+                + "discount_percentage, stock_quantity, reorder_threshold, batch_sequence, approval_status, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, FALSE, ?, ?, ?, ?, ?, ?, 'APPROVED', ?)", rows);
+    }
+
+    /** Expiry spread over the next two months, so some batches are always near expiry. */
+    private void seedBatches(SplittableRandom random, LocalDateTime now) {
+        LocalDate today = now.toLocalDate();
+        Timestamp receivedAt = Timestamp.valueOf(now);
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int productId = 1; productId <= products; productId++) {
+            for (int seq = 1; seq <= batchesPerProduct; seq++) {
+                LocalDate expiry = today.plusDays(random.nextInt(2, 60));
+                rows.add(new Object[] {
+                        (long) productId, String.format("LT-%d-%03d", productId, seq),
+                        Date.valueOf(expiry.minusDays(14)), Date.valueOf(expiry),
+                        UNITS_PER_BATCH, UNITS_PER_BATCH, receivedAt
+                });
+                if (rows.size() == BATCH_SIZE) {
+                    insertBatches(rows);
+                    rows.clear();
+                }
+            }
+        }
+        insertBatches(rows);
+    }
+
+    private void insertBatches(List<Object[]> rows) {
+        batchInsert("INSERT INTO product_batches (product_id, batch_number, manufacturing_date, expiry_date, "
+                + "received_quantity, available_quantity, status, received_at) VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE', ?)",
+                rows);
+    }
+
+    /** Delivered history over the last 90 days: feeds dashboards, recommendations and co-purchase. */
+    private void seedOrders(SplittableRandom random, BigDecimal[] prices, LocalDateTime now) {
+        List<Object[]> orderRows = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> itemRows = new ArrayList<>(BATCH_SIZE * 4);
+        long itemId = 0;
+        for (int orderId = 1; orderId <= orders; orderId++) {
+            long customerId = random.nextInt(customers) + 2L;
+            int lines = random.nextInt(1, 6);
+            BigDecimal total = BigDecimal.ZERO;
+            for (int line = 0; line < lines; line++) {
+                int productId = random.nextInt(1, products + 1);
+                int quantity = random.nextInt(1, 4);
+                BigDecimal lineTotal = prices[productId].multiply(BigDecimal.valueOf(quantity));
+                total = total.add(lineTotal);
+                itemRows.add(new Object[] {
+                        ++itemId, (long) orderId, (long) productId, "Product " + productId, prices[productId], quantity, lineTotal
+                });
+            }
+            LocalDateTime createdAt = now.minusMinutes(random.nextLong(90L * 24 * 60));
+            orderRows.add(new Object[] {
+                    (long) orderId, customerId, "No. " + orderId + ", Galle Road, Colombo 03", total,
+                    Timestamp.valueOf(createdAt)
+            });
+            if (orderRows.size() == BATCH_SIZE) {
+                insertOrders(orderRows, itemRows);
+            }
+        }
+        insertOrders(orderRows, itemRows);
+    }
+
+    private void insertOrders(List<Object[]> orderRows, List<Object[]> itemRows) {
+        batchInsert("INSERT INTO orders (id, user_id, delivery_address, total_amount, discount_amount, points_redeemed, "
+                + "status, payment_status, created_at) VALUES (?, ?, ?, ?, 0, 0, 'DELIVERED', 'PAID', ?)", orderRows);
+        batchInsert("INSERT INTO order_items (id, order_id, product_id, product_name, unit_price, "
+                + "product_discount_percentage, quantity, line_total) VALUES (?, ?, ?, ?, ?, 0, ?, ?)", itemRows);
+        orderRows.clear();
+        itemRows.clear();
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+}
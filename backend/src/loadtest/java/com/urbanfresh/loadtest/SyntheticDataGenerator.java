@@ -0,0 +1,362 @@
+package com.urbanfresh.loadtest;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Load Test – Deterministic synthetic data at production scale.
+ *
+ * Writes users, products, batches with category-specific shelf lives, waste records for
+ * batches that expired with stock left, orders with line items and FIFO batch allocations,
+ * and order notifications — all with plain JDBC batch inserts and explicit IDs.
+ *
+ * Work is split into fixed-size chunks of IDs and spread over a thread pool. Every chunk
+ * draws from its own SplittableRandom seeded by (seed, stage, chunk), so the generated rows
+ * are identical for a given seed regardless of thread count or scheduling. Stages run in
+ * foreign-key order: users, then catalogue (products → batches → waste), then orders
+ * (orders → items → allocations → notifications). Expects empty tables.
+ *
+ * Every row has an explicit ID (pooled-ID tables have no AUTO_INCREMENT on a fresh schema):
+ * an allocation shares its order item's ID, a notification its order's and a waste record
+ * its batch's. The pooled generators are advanced past them at the end.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SyntheticDataGenerator {
+
+    /** IDs per chunk; one chunk is one unit of work and a few JDBC batches. */
+    private static final int CHUNK = 5_000;
+
+    private static final int JDBC_BATCH = 1_000;
+
+    /** Order item IDs are (orderId − 1) × MAX_LINES + line, so allocations can reference them. */
+    private static final int MAX_LINES = 5;
+
+    private static final int NEAR_EXPIRY_WINDOW_DAYS = 7;
+
+    private static final String[] CATEGORIES = {
+            "Vegetables", "Fruits", "Dairy", "Bakery", "Meat", "Seafood", "Beverages", "Pantry"
+    };
+
+    /** Typical shelf life in days, parallel to CATEGORIES. */
+    private static final int[] SHELF_LIFE_DAYS = { 7, 10, 14, 4, 5, 3, 180, 365 };
+
+    private static final String[] NAME_WORDS = {
+            "Organic", "Fresh", "Farm", "Milk", "Mango", "Carrot", "Bread", "Cheese", "Chicken",
+            "Prawn", "Tea", "Rice", "Banana", "Yoghurt", "Tomato", "Onion", "Coconut", "Butter"
+    };
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (id, name, email, password, role, active, created_at) VALUES (?, ?, ?, ?, ?, TRUE, ?)";
+
+    private static final String INSERT_PRODUCT_SQL =
+            "INSERT INTO products (id, name, description, price, category, hidden, featured, unit, "
+            + "discount_percentage, stock_quantity, reorder_threshold, batch_sequence, approval_status, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, FALSE, ?, ?, ?, ?, ?, ?, 'APPROVED', ?)";
+
+    private static final String INSERT_BATCH_SQL =
+            "INSERT INTO product_batches (id, product_id, batch_number, manufacturing_date, expiry_date, "
+            + "received_quantity, available_quantity, status, received_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_WASTE_SQL =
+            "INSERT INTO waste_records (id, product_id, batch_id, wasted_quantity, price_per_unit, wasted_value, "
+            + "expiry_date, recorded_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ORDER_SQL =
+            "INSERT INTO orders (id, user_id, delivery_address, total_amount, discount_amount, points_redeemed, "
+            + "status, payment_status, created_at) VALUES (?, ?, ?, ?, 0, 0, ?, ?, ?)";
+
+    private static final String INSERT_ITEM_SQL =
+            "INSERT INTO order_items (id, order_id, product_id, product_name, unit_price, "
+            + "product_discount_percentage, quantity, line_total) VALUES (?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private static final String INSERT_ALLOCATION_SQL =
+            "INSERT INTO order_item_batch_allocations (id, order_item_id, batch_id, allocated_quantity, allocated_at) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_NOTIFICATION_SQL =
+            "INSERT INTO notifications (id, customer_id, order_id, message, is_read, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * Sizes of one generated data set.
+     *
+     * @param products          catalogue size; product IDs are 1..products
+     * @param batchesPerProduct batches received per product
+     * @param minBatchUnits     smallest received quantity per batch
+     * @param maxBatchUnits     largest received quantity per batch
+     * @param customers         customer accounts; user IDs 2..customers+1 (1 is the admin)
+     * @param orders            orders spread evenly over the history window
+     * @param historyDays       how far back orders go
+     */
+    public record Volumes(int products, int batchesPerProduct, int minBatchUnits, int maxBatchUnits,
+                          int customers, int orders, int historyDays) {
+    }
+
+    /** Per-product values the order stage needs; each catalogue chunk fills its own range. */
+    private record Catalogue(long[] priceCents, String[] names) {
+    }
+
+    /**
+     * Generates a full data set into empty tables.
+     *
+     * @param volumes  sizes to generate
+     * @param seed     random seed; the same seed always yields the same rows
+     * @param threads  worker threads for chunked inserts
+     * @param password plain-text password for every generated account
+     */
+    public void generate(Volumes volumes, long seed, int threads, String password) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Integer.class);
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("Synthetic data needs empty tables; found " + existing + " product(s)");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Catalogue catalogue = new Catalogue(new long[volumes.products() + 1], new String[volumes.products() + 1]);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // One hash for every account: BCrypt per row would dominate generation time
+            String hash = passwordEncoder.encode(password);
+            runStage("users", volumes.customers() + 1, executor,
+                    (from, to) -> () -> writeUsers(from, to, hash, now));
+            runStage("catalogue", volumes.products(), executor,
+                    (from, to) -> () -> writeCatalogue(from, to, volumes, catalogue, random(seed, 1, from), now));
+            runStage("orders", volumes.orders(), executor,
+                    (from, to) -> () -> writeOrders(from, to, volumes, catalogue, random(seed, 2, from), now));
+            IdGeneratorSync.advancePastExistingIds(jdbcTemplate);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ── Stages ───────────────────────────────────────────────────────────────
+
+    @FunctionalInterface
+    private interface ChunkTask {
+        Callable<Integer> forRange(int fromId, int toId);
+    }
+
+    /** Splits 1..total into chunks, runs them on the pool and waits; the first failure aborts the stage. */
+    private void runStage(String stage, int total, ExecutorService executor, ChunkTask task) {
+        long started = System.currentTimeMillis();
+        AtomicLong rows = new AtomicLong();
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int from = 1; from <= total; from += CHUNK) {
+            int to = Math.min(total, from + CHUNK - 1);
+            Callable<Integer> chunk = task.forRange(from, to);
+            futures.add(executor.submit(() -> {
+                int written = chunk.call();
+                rows.addAndGet(written);
+                return written;
+            }));
+        }
+        try {
+            for (Future<Integer> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Data generation interrupted in stage " + stage, ex);
+        } catch (ExecutionException ex) {
+            futures.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("Data generation failed in stage " + stage, ex.getCause());
+        }
+        log.info("[SyntheticDataGenerator] Stage {}: {} row(s) in {} ms",
+                stage, rows.get(), System.currentTimeMillis() - started);
+    }
+
+    /** User 1 is the admin; the rest are customers. */
+    private int writeUsers(int fromId, int toId, String hash, LocalDateTime now) {
+        Timestamp createdAt = Timestamp.valueOf(now);
+        List<Object[]> rows = new ArrayList<>(toId - fromId + 1);
+        for (int id = fromId; id <= toId; id++) {
+            if (id == 1) {
+                rows.add(new Object[] { 1L, "Load Test Admin", "loadtest-admin@urbanfresh.test", hash, "ADMIN", createdAt });
+            } else {
+                int customer = id - 1;
+                rows.add(new Object[] { (long) id, "Customer " + customer,
+                        "loadtest-customer-" + customer + "@urbanfresh.test", hash, "CUSTOMER", createdAt });
+            }
+        }
+        return insert(INSERT_USER_SQL, rows);
+    }
+
+    /**
+     * Products with their batches. Each batch is received some time within two shelf lives
+     * ago and expires one shelf life (±20%) later; stock sells down with age. Batches already
+     * past expiry are EXPIRED with their leftover stock recorded as waste.
+     */
+    private int writeCatalogue(int fromId, int toId, Volumes volumes, Catalogue catalogue,
+                               SplittableRandom random, LocalDateTime now) {
+        LocalDate today = now.toLocalDate();
+        List<Object[]> productRows = new ArrayList<>(toId - fromId + 1);
+        List<Object[]> batchRows = new ArrayList<>((toId - fromId + 1) * volumes.batchesPerProduct());
+        List<Object[]> wasteRows = new ArrayList<>();
+
+        for (int productId = fromId; productId <= toId; productId++) {
+            int category = random.nextInt(CATEGORIES.length);
+            int shelfLife = SHELF_LIFE_DAYS[category];
+            long priceCents = random.nextLong(5_000, 250_000);
+            BigDecimal price = BigDecimal.valueOf(priceCents, 2);
+            String name = NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " "
+                    + NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " " + productId;
+            catalogue.priceCents()[productId] = priceCents;
+            catalogue.names()[productId] = name;
+
+            int stock = 0;
+            for (int seq = 1; seq <= volumes.batchesPerProduct(); seq++) {
+                long batchId = batchId(productId, seq, volumes);
+                int age = random.nextInt(Math.max(2, shelfLife * 2));
+                LocalDate received = today.minusDays(age);
+                LocalDate expiry = received.plusDays(Math.max(1, Math.round(shelfLife * (0.8 + random.nextDouble() * 0.4))));
+                int receivedQty = random.nextInt(volumes.minBatchUnits(), volumes.maxBatchUnits() + 1);
+                double soldShare = Math.min(1.0, (double) age / shelfLife * (0.5 + random.nextDouble() * 0.5));
+                int remaining = (int) Math.round(receivedQty * (1.0 - soldShare));
+
+                String status;
+                int available;
+                if (expiry.isBefore(today)) {
+                    status = "EXPIRED";
+                    available = 0;
+                    if (remaining > 0) {
+                        // At most one waste record per batch, so it reuses the batch ID
+                        wasteRows.add(new Object[] { batchId, (long) productId, batchId, remaining, price,
+                                price.multiply(BigDecimal.valueOf(remaining)), Date.valueOf(expiry),
+                                Timestamp.valueOf(expiry.plusDays(1).atTime(0, 5)) });
+                    }
+                } else {
+                    status = expiry.isAfter(today.plusDays(NEAR_EXPIRY_WINDOW_DAYS)) ? "ACTIVE" : "NEAR_EXPIRY";
+                    available = remaining;
+                    stock += remaining;
+                }
+                batchRows.add(new Object[] { batchId, (long) productId, String.format("SG-%d-%03d", productId, seq),
+                        Date.valueOf(received.minusDays(1)), Date.valueOf(expiry), receivedQty, available, status,
+                        Timestamp.valueOf(received.atTime(6, 0)) });
+            }
+
+            productRows.add(new Object[] { (long) productId, name, "Synthetic product " + productId, price,
+                    CATEGORIES[category],
+                    random.nextInt(50) == 0,                               // ~2% featured
+                    category <= 1 && random.nextBoolean() ? "PER_KG" : "PER_ITEM",
+                    random.nextInt(5) == 0 ? random.nextInt(5, 40) : 0,   // ~20% discounted
+                    stock, random.nextInt(10, 50), volumes.batchesPerProduct(), Timestamp.valueOf(now) });
+        }
+
+        return insert(INSERT_PRODUCT_SQL, productRows) + insert(INSERT_BATCH_SQL, batchRows)
+                + insert(INSERT_WASTE_SQL, wasteRows);
+    }
+
+    /**
+     * Orders in ID order across the history window, so created_at rises with the ID as in
+     * production. Older orders are settled (mostly DELIVERED); the last two days hold the
+     * in-flight statuses. Product choice is skewed so a small head of the catalogue sells most.
+     */
+    private int writeOrders(int fromId, int toId, Volumes volumes, Catalogue catalogue,
+                            SplittableRandom random, LocalDateTime now) {
+        LocalDateTime start = now.minusDays(volumes.historyDays());
+        double minutesPerOrder = volumes.historyDays() * 24.0 * 60.0 / volumes.orders();
+
+        List<Object[]> orderRows = new ArrayList<>(toId - fromId + 1);
+        List<Object[]> itemRows = new ArrayList<>((toId - fromId + 1) * 3);
+        List<Object[]> allocationRows = new ArrayList<>((toId - fromId + 1) * 3);
+        List<Object[]> notificationRows = new ArrayList<>(toId - fromId + 1);
+
+        for (int orderId = fromId; orderId <= toId; orderId++) {
+            LocalDateTime createdAt = start.plusMinutes(Math.round(orderId * minutesPerOrder));
+            Timestamp created = Timestamp.valueOf(createdAt);
+            long customerId = 2 + random.nextInt(volumes.customers());
+            String[] status = orderStatus(random, createdAt, now);
+
+            BigDecimal total = BigDecimal.ZERO;
+            int lines = 1 + random.nextInt(MAX_LINES);
+            for (int line = 1; line <= lines; line++) {
+                // u² skews picks towards low IDs: the top 10% of products take ~30% of lines
+                double u = random.nextDouble();
+                int productId = 1 + (int) (u * u * volumes.products());
+                int quantity = 1 + random.nextInt(4);
+                BigDecimal unitPrice = BigDecimal.valueOf(catalogue.priceCents()[productId], 2);
+                BigDecimal lineTotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
+                total = total.add(lineTotal);
+
+                long itemId = (long) (orderId - 1) * MAX_LINES + line;
+                itemRows.add(new Object[] { itemId, (long) orderId, (long) productId, catalogue.names()[productId],
+                        unitPrice, quantity, lineTotal });
+                if (!"PENDING".equals(status[0])) {
+                    long batchId = batchId(productId, 1 + random.nextInt(volumes.batchesPerProduct()), volumes);
+                    allocationRows.add(new Object[] { itemId, itemId, batchId, quantity, created });
+                }
+            }
+
+            orderRows.add(new Object[] { (long) orderId, customerId, "No. " + (orderId % 500 + 1) + ", Galle Road, Colombo",
+                    total, status[0], status[1], created });
+            if (!"PENDING".equals(status[0])) {
+                boolean settled = createdAt.isBefore(now.minusDays(2));
+                notificationRows.add(new Object[] { (long) orderId, customerId, (long) orderId,
+                        "Your order #" + orderId + " is now " + status[0].replace('_', ' ').toLowerCase(),
+                        settled, created });
+            }
+        }
+
+        return insert(INSERT_ORDER_SQL, orderRows) + insert(INSERT_ITEM_SQL, itemRows)
+                + insert(INSERT_ALLOCATION_SQL, allocationRows) + insert(INSERT_NOTIFICATION_SQL, notificationRows);
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    /** @return {order status, payment status} */
+    private static String[] orderStatus(SplittableRandom random, LocalDateTime createdAt, LocalDateTime now) {
+        int roll = random.nextInt(100);
+        if (createdAt.isBefore(now.minusDays(2))) {
+            if (roll < 90) {
+                return new String[] { "DELIVERED", "PAID" };
+            }
+            if (roll < 97) {
+                return new String[] { "CANCELLED", roll < 94 ? "PAID" : "FAILED" };
+            }
+            return new String[] { "RETURNED", "PAID" };
+        }
+        if (roll < 10) {
+            return new String[] { "PENDING", "PENDING" };
+        }
+        String[] inFlight = { "CONFIRMED", "PROCESSING", "READY", "OUT_FOR_DELIVERY", "DELIVERED" };
+        return new String[] { inFlight[roll % inFlight.length], "PAID" };
+    }
+
+    private static long batchId(int productId, int seq, Volumes volumes) {
+        return (long) (productId - 1) * volumes.batchesPerProduct() + seq;
+    }
+
+    /** Independent, reproducible stream per (seed, stage, chunk). */
+    private static SplittableRandom random(long seed, int stage, int chunkStartId) {
+        return new SplittableRandom(seed * 31 + stage * 1_000_003L + chunkStartId);
+    }
+
+    private int insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += JDBC_BATCH) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + JDBC_BATCH)));
+        }
+        return rows.size();
+    }
+}
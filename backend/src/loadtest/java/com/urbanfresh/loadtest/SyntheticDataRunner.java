@@ -0,0 +1,64 @@
+package com.urbanfresh.loadtest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Load Test – Runs SyntheticDataGenerator once with the volumes from application-datagen.properties.
+ * Active only under the "datagen" profile (DataGeneratorApplication).
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+public class SyntheticDataRunner implements ApplicationRunner {
+
+    private final SyntheticDataGenerator generator;
+
+    @Value("${app.datagen.random-seed:20260101}")
+    private long randomSeed;
+
+    @Value("${app.datagen.threads:8}")
+    private int threads;
+
+    @Value("${app.datagen.products:1000000}")
+    private int products;
+
+    @Value("${app.datagen.batches-per-product:4}")
+    private int batchesPerProduct;
+
+    @Value("${app.datagen.min-batch-units:20}")
+    private int minBatchUnits;
+
+    @Value("${app.datagen.max-batch-units:500}")
+    private int maxBatchUnits;
+
+    @Value("${app.datagen.customers:200000}")
+    private int customers;
+
+    @Value("${app.datagen.orders:2000000}")
+    private int orders;
+
+    @Value("${app.datagen.history-days:365}")
+    private int historyDays;
+
+    @Value("${app.loadtest.seed.password:LoadTest#2026}")
+    private String password;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        SyntheticDataGenerator.Volumes volumes = new SyntheticDataGenerator.Volumes(
+                products, batchesPerProduct, minBatchUnits, maxBatchUnits, customers, orders, historyDays);
+        log.info("[SyntheticDataRunner] Generating {} with seed {} on {} thread(s)", volumes, randomSeed, threads);
+
+        long started = System.currentTimeMillis();
+        generator.generate(volumes, randomSeed, threads, password);
+        log.info("[SyntheticDataRunner] Done in {} s", (System.currentTimeMillis() - started) / 1000);
+    }
+}
@@ -0,0 +1,29 @@
+package com.urbanfresh.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Config Layer – Worker for DeliveryDispatchServiceImpl's plan computation.
+ * A single thread is enough: concurrent plan requests join the one in flight.
+ * As a Spring bean it is shut down with the context and published under the
+ * executor.* metrics with name=dispatchPlannerExecutor.
+ *
+ * Defining an Executor bean would normally switch off Boot's applicationTaskExecutor;
+ * spring.task.execution.mode=force in application.properties keeps it.
+ */
+@Configuration
+public class DispatchExecutorConfig {
+
+    public static final String DISPATCH_PLANNER_EXECUTOR = "dispatchPlannerExecutor";
+
+    @Bean(name = DISPATCH_PLANNER_EXECUTOR)
+    public ThreadPoolTaskExecutor dispatchPlannerExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("dispatch-planner-");
+        return executor;
+    }
+}
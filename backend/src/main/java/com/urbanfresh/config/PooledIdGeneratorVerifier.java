@@ -0,0 +1,69 @@
+package com.urbanfresh.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.urbanfresh.model.IdGenerators;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Config Layer – Fails startup when a pooled ID generator lags behind its table.
+ * Hibernate seeds a missing id_generators row from 1, so a schema that predates pooled IDs
+ * and skipped V2__pooled_id_generators.sql (e.g. SCHEMA_MIGRATIONS_ENABLED=false) would hand
+ * out IDs that already exist and fail the first inserts. The next block a generator reserves
+ * ends at next_val, so every existing ID must be at most next_val - ALLOCATION_SIZE.
+ *
+ * Runs once all singletons exist, after Flyway when migrations are enabled and before the
+ * web server accepts requests. Always on: this is a correctness check, not a warning.
+ */
+@Slf4j
+@Component
+public class PooledIdGeneratorVerifier implements SmartInitializingSingleton {
+
+    private static final String NEXT_VALUE_SQL =
+            "SELECT " + IdGenerators.VALUE_COLUMN + " FROM " + IdGenerators.TABLE +
+            " WHERE " + IdGenerators.NAME_COLUMN + " = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<Flyway> flyway;
+
+    public PooledIdGeneratorVerifier(JdbcTemplate jdbcTemplate, ObjectProvider<Flyway> flyway) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flyway = flyway;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // Creating the Flyway bean runs the migrations, including the V2 generator upsert
+        flyway.getIfAvailable();
+
+        List<String> lagging = new ArrayList<>();
+        for (String table : IdGenerators.POOLED_TABLES) {
+            // MAX(id) first: generators only move forward, so a later read can only be safer
+            long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            if (maxId == 0) {
+                continue;
+            }
+            List<Long> nextValue = jdbcTemplate.queryForList(NEXT_VALUE_SQL, Long.class, table);
+            if (nextValue.isEmpty() || nextValue.get(0) - IdGenerators.ALLOCATION_SIZE < maxId) {
+                lagging.add(table + " (max id " + maxId + ", next_val "
+                        + (nextValue.isEmpty() ? "missing" : nextValue.get(0)) + ")");
+            }
+        }
+
+        if (!lagging.isEmpty()) {
+            throw new IllegalStateException("Pooled ID generators would reuse existing IDs for " + lagging
+                    + ". Enable app.schema.migrations.enabled so V2__pooled_id_generators.sql runs,"
+                    + " or advance " + IdGenerators.TABLE + " past MAX(id) + " + IdGenerators.ALLOCATION_SIZE + ".");
+        }
+        log.info("[PooledIdGeneratorVerifier] {} pooled generator(s) are ahead of their tables",
+                IdGenerators.POOLED_TABLES.size());
+    }
+}
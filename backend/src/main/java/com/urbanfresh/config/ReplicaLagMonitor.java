@@ -0,0 +1,89 @@
+package com.urbanfresh.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Config Layer – Probes the replica and takes it out of rotation when it lags or is down.
+ * Reads Seconds_Behind_Source from SHOW REPLICA STATUS (falling back to SHOW SLAVE STATUS
+ * and Seconds_Behind_Master on older MySQL/MariaDB). A NULL lag means replication is stopped
+ * and counts as unusable; an empty status (the URL points at a primary) counts as zero lag.
+ * The last reading is exported as urbanfresh.datasource.replica.lag.seconds (−1 when unknown).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+
+    private final DataSource replica;
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final AtomicLong lagSeconds = new AtomicLong(-1);
+
+    @Value("${app.datasource.replica.max-lag-seconds:5}")
+    private long maxLagSeconds;
+
+    public ReplicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                             ReplicaRoutingDataSource routingDataSource,
+                             MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.routingDataSource = routingDataSource;
+        meterRegistry.gauge("urbanfresh.datasource.replica.lag.seconds", lagSeconds);
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:5000}")
+    public void probe() {
+        Long lag;
+        try (Connection connection = replica.getConnection()) {
+            lag = readLag(connection);
+        } catch (SQLException ex) {
+            log.warn("[ReplicaLagMonitor] Replica probe failed: {}", ex.getMessage());
+            lagSeconds.set(-1);
+            routingDataSource.setReplicaUsable(false);
+            return;
+        }
+
+        lagSeconds.set(lag != null ? lag : -1);
+        boolean usable = lag != null && lag <= maxLagSeconds;
+        if (!usable && routingDataSource.isReplicaUsable()) {
+            log.warn("[ReplicaLagMonitor] Replica lag {} s exceeds {} s", lag != null ? lag : "unknown", maxLagSeconds);
+        }
+        routingDataSource.setReplicaUsable(usable);
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    /** @return lag in seconds, 0 when the server is not a replica, null when replication is stopped */
+    private static Long readLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                return lagFrom(rs, "Seconds_Behind_Source");
+            } catch (SQLException ex) {
+                try (ResultSet rs = statement.executeQuery("SHOW SLAVE STATUS")) {
+                    return lagFrom(rs, "Seconds_Behind_Master");
+                }
+            }
+        }
+    }
+
+    private static Long lagFrom(ResultSet rs, String column) throws SQLException {
+        if (!rs.next()) {
+            return 0L;
+        }
+        long lag = rs.getLong(column);
+        return rs.wasNull() ? null : lag;
+    }
+}
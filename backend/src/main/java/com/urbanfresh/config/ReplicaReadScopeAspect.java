@@ -0,0 +1,44 @@
+package com.urbanfresh.config;
+
+import java.util.List;
+import java.util.Set;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Config Layer – Opts individual services into replica reads.
+ * Wraps public service-implementation methods; when the target class is listed in
+ * app.datasource.replica.services, its read-only transactions (and those of the repositories
+ * it calls) become eligible for the replica. Services not listed — checkout, cart, payments —
+ * keep reading from the primary even inside read-only transactions.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaReadScopeAspect {
+
+    private final Set<String> services;
+
+    public ReplicaReadScopeAspect(@Value("${app.datasource.replica.services:}") List<String> services) {
+        this.services = Set.copyOf(services);
+    }
+
+    @Around("execution(public * com.urbanfresh.service.impl..*(..))")
+    public Object scope(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!services.contains(AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName())) {
+            return joinPoint.proceed();
+        }
+        Boolean previous = ReplicaRoutingDataSource.enterReplicaScope();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicaRoutingDataSource.exitReplicaScope(previous);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.urbanfresh.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Config Layer – Sends read-only transactions to the replica pool, everything else to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy: the route is chosen when the first
+ * statement runs, by which point the transaction's read-only flag is known.
+ *
+ * A connection goes to the replica only when all of these hold:
+ *  1. the transaction is read-only (@Transactional(readOnly = true), including Spring Data
+ *     finder defaults);
+ *  2. the call runs inside a service opted in via app.datasource.replica.services
+ *     (ReplicaReadScopeAspect opens the scope);
+ *  3. ReplicaLagMonitor reports the replica reachable and within the lag limit;
+ *  4. the current user has not committed a write within the read-your-writes window, so a
+ *     customer who just checked out reads their own order and stock back from the primary.
+ *     Only a read-write transaction that actually prepared an INSERT, UPDATE, DELETE or
+ *     REPLACE counts as a write; one that merely read on the primary does not.
+ * A replica that refuses a connection is marked down and the request falls back to the primary.
+ *
+ * Every routing decision is counted in urbanfresh.datasource.route by route and reason.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route { PRIMARY, REPLICA }
+
+    /** Recent writers are pruned once the map grows past this. */
+    private static final int MAX_TRACKED_WRITERS = 10_000;
+
+    /** Statement prefixes that make a read-write transaction count as a write. */
+    private static final String[] DML_VERBS = { "INSERT", "UPDATE", "DELETE", "REPLACE" };
+
+    private static final ThreadLocal<Boolean> REPLICA_SCOPE = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long readYourWritesMillis;
+    private final MeterRegistry meterRegistry;
+
+    /** Principal name → commit time (epoch ms) of their last write transaction. */
+    private final ConcurrentMap<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    private volatile boolean replicaUsable = true;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    long readYourWritesMillis, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWritesMillis = readYourWritesMillis;
+        this.meterRegistry = meterRegistry;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Marks the current thread as running replica-eligible service code.
+     *
+     * @return previous state, to pass to {@link #exitReplicaScope(Boolean)}
+     */
+    static Boolean enterReplicaScope() {
+        Boolean previous = REPLICA_SCOPE.get();
+        REPLICA_SCOPE.set(Boolean.TRUE);
+        return previous;
+    }
+
+    static void exitReplicaScope(Boolean previous) {
+        if (previous == null) {
+            REPLICA_SCOPE.remove();
+        } else {
+            REPLICA_SCOPE.set(previous);
+        }
+    }
+
+    /** Updated by ReplicaLagMonitor after each probe. */
+    void setReplicaUsable(boolean usable) {
+        if (usable != replicaUsable) {
+            log.warn("[ReplicaRouting] Replica {}", usable ? "back in rotation" : "taken out of rotation");
+        }
+        replicaUsable = usable;
+    }
+
+    boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return route(Route.PRIMARY, "not_read_only");
+        }
+        if (REPLICA_SCOPE.get() == null) {
+            return route(Route.PRIMARY, "not_opted_in");
+        }
+        if (!replicaUsable) {
+            return route(Route.PRIMARY, "replica_unusable");
+        }
+        if (wroteRecently()) {
+            return route(Route.PRIMARY, "read_your_writes");
+        }
+        return route(Route.REPLICA, "read_only");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineTargetDataSource() != replica) {
+            Connection connection = primary.getConnection();
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                    ? connection
+                    : trackWrites(connection);
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException ex) {
+            log.warn("[ReplicaRouting] Replica connection failed, falling back to primary: {}", ex.getMessage());
+            setReplicaUsable(false);
+            route(Route.PRIMARY, "replica_unavailable");
+            return primary.getConnection();
+        }
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    private Route route(Route route, String reason) {
+        meterRegistry.counter("urbanfresh.datasource.route", "route", route.name().toLowerCase(), "reason", reason)
+                .increment();
+        return route;
+    }
+
+    /**
+     * Wraps a read-write connection so the user is recorded as a writer on the first
+     * DML statement it prepares. Plain Statements only reveal their SQL at execution time,
+     * so creating one is conservatively treated as a write.
+     */
+    private Connection trackWrites(Connection connection) {
+        String principal = currentPrincipal();
+        if (principal == null) {
+            return connection;
+        }
+        boolean[] tracked = { false };
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    if (!tracked[0] && issuesDml(method, args)) {
+                        tracked[0] = true;
+                        trackWriter(principal);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+    }
+
+    private static boolean issuesDml(Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "prepareStatement", "prepareCall" -> args[0] instanceof String sql && isDml(sql);
+            case "createStatement" -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean isDml(String sql) {
+        String head = sql.stripLeading();
+        for (String verb : DML_VERBS) {
+            if (head.regionMatches(true, 0, verb, 0, verb.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Records the user's write once the surrounding transaction commits. */
+    private void trackWriter(String principal) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                long now = System.currentTimeMillis();
+                if (lastWriteAt.size() > MAX_TRACKED_WRITERS) {
+                    lastWriteAt.values().removeIf(at -> now - at > readYourWritesMillis);
+                }
+                lastWriteAt.put(principal, now);
+            }
+        });
+    }
+
+    private boolean wroteRecently() {
+        String principal = currentPrincipal();
+        if (principal == null) {
+            return false;
+        }
+        Long at = lastWriteAt.get(principal);
+        return at != null && System.currentTimeMillis() - at <= readYourWritesMillis;
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
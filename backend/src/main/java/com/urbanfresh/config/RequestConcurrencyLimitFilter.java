@@ -0,0 +1,98 @@
+package com.urbanfresh.config;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Config Layer – Admission control for virtual-thread mode.
+ * With spring.threads.virtual.enabled=true Tomcat no longer caps concurrency at its
+ * 200-thread pool, so an evening spike would otherwise queue thousands of requests on
+ * Hikari's connection wait and time them out after 30 s. This filter bounds in-flight
+ * /api/** requests with a fair semaphore sized to the connection pool; excess requests
+ * park cheaply (virtual threads) for up to acquire-timeout-ms and are then shed with 503.
+ *
+ * Sizing guidance: keep max-in-flight-requests close to spring.datasource.hikari.maximum-pool-size
+ * (the default). Raise it only if a meaningful share of traffic never touches the database.
+ * Registered ahead of the security filter chain so shed requests cost no JWT parsing.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class RequestConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+
+    public RequestConcurrencyLimitFilter(
+            @Value("${app.concurrency.max-in-flight-requests:10}") int maxInFlight,
+            @Value("${app.concurrency.acquire-timeout-ms:2000}") long acquireTimeoutMs) {
+        this.permits = new Semaphore(maxInFlight, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        log.info("[RequestConcurrencyLimitFilter] Virtual-thread mode: limiting in-flight API requests to {}",
+                maxInFlight);
+    }
+
+    /** Only API traffic is limited; static uploads never touch the connection pool. */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            log.warn("[RequestConcurrencyLimitFilter] Shedding {} {} — no permit within {} ms",
+                    request.getMethod(), request.getRequestURI(), acquireTimeoutMs);
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(String.format(
+                    "{\"status\":%d,\"message\":\"%s\",\"timestamp\":\"%s\"}",
+                    HttpStatus.SERVICE_UNAVAILABLE.value(),
+                    "The server is busy. Please retry shortly.",
+                    LocalDateTime.now()));
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /** Permits currently free; exposed for metrics and diagnostics. */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,112 @@
+package com.urbanfresh.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Config Layer – Compares the indexes hot queries rely on with the live schema at startup.
+ * An index counts as present when any index on the table starts with the expected columns
+ * in order, so a wider covering index or a differently named one still satisfies it.
+ * Missing indexes are logged as warnings with the statement that would create them and
+ * exported as the urbanfresh.schema.indexes.missing gauge; startup is never blocked.
+ *
+ * EXPECTED lists the indexes from db/migration plus those declared on entities.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.schema.verify-indexes", havingValue = "true", matchIfMissing = true)
+public class SchemaIndexVerifier {
+
+    private static final String LIVE_INDEXES_SQL =
+            "SELECT table_name, index_name, column_name FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() ORDER BY table_name, index_name, seq_in_index";
+
+    record ExpectedIndex(String table, String name, List<String> columns) {
+    }
+
+    static final List<ExpectedIndex> EXPECTED = List.of(
+            // V1__hot_path_indexes.sql
+            new ExpectedIndex("product_batches", "idx_product_batches_product_status_expiry",
+                    List.of("product_id", "status", "expiry_date")),
+            new ExpectedIndex("product_batches", "idx_product_batches_status_expiry", List.of("status", "expiry_date")),
+            new ExpectedIndex("orders", "idx_orders_user_created", List.of("user_id", "created_at")),
+            new ExpectedIndex("orders", "idx_orders_status_created", List.of("status", "created_at")),
+            new ExpectedIndex("notifications", "idx_notifications_customer_read", List.of("customer_id", "is_read")),
+            new ExpectedIndex("notifications", "idx_notifications_customer_created", List.of("customer_id", "created_at")),
+            new ExpectedIndex("waste_records", "idx_waste_records_expiry", List.of("expiry_date", "wasted_value")),
+            new ExpectedIndex("order_item_batch_allocations", "idx_order_item_batch_allocations_item",
+                    List.of("order_item_id")),
+            // Declared on entities (@Table indexes)
+            new ExpectedIndex("products", "idx_products_name_id", List.of("name", "id")),
+            new ExpectedIndex("products", "idx_products_stock_gap", List.of("stock_gap", "id")),
+            new ExpectedIndex("orders", "idx_orders_status_rider", List.of("status", "assigned_delivery_person_id")),
+            new ExpectedIndex("order_status_history", "idx_order_status_history_order_changed",
+                    List.of("order_id", "changed_at")),
+            new ExpectedIndex("outbox_events", "idx_outbox_published_id", List.of("published_at", "id")),
+            new ExpectedIndex("stripe_webhook_inbox", "idx_webhook_inbox_status_received",
+                    List.of("status", "received_at")),
+            new ExpectedIndex("loyalty_transactions", "idx_loyalty_tx_user", List.of("user_id", "id")),
+            new ExpectedIndex("loyalty_transactions", "idx_loyalty_tx_order", List.of("order_id", "entry_type")),
+            new ExpectedIndex("purchase_orders", "idx_purchase_orders_status_created", List.of("status", "created_at")),
+            new ExpectedIndex("purchase_orders", "idx_purchase_orders_brand_created", List.of("brand_id", "created_at")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicInteger missing = new AtomicInteger();
+
+    public SchemaIndexVerifier(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        meterRegistry.gauge("urbanfresh.schema.indexes.missing", missing);
+    }
+
+    /** Runs once the application is up, after migrations and Hibernate's schema update. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyOnStartup() {
+        Map<String, List<List<String>>> live = loadLiveIndexes();
+
+        List<ExpectedIndex> absent = new ArrayList<>();
+        for (ExpectedIndex expected : EXPECTED) {
+            boolean present = live.getOrDefault(expected.table(), List.of()).stream()
+                    .anyMatch(columns -> columns.size() >= expected.columns().size()
+                            && columns.subList(0, expected.columns().size()).equals(expected.columns()));
+            if (!present) {
+                absent.add(expected);
+                log.warn("[SchemaIndexVerifier] Missing index on {}({}) — expected: CREATE INDEX {} ON {} ({})",
+                        expected.table(), String.join(", ", expected.columns()),
+                        expected.name(), expected.table(), String.join(", ", expected.columns()));
+            }
+        }
+
+        missing.set(absent.size());
+        if (absent.isEmpty()) {
+            log.info("[SchemaIndexVerifier] All {} expected index(es) present", EXPECTED.size());
+        }
+    }
+
+    /** @return table → column lists of each index, in index order (names lower-cased) */
+    private Map<String, List<List<String>>> loadLiveIndexes() {
+        Map<String, Map<String, List<String>>> byTable = new HashMap<>();
+        jdbcTemplate.query(LIVE_INDEXES_SQL, rs -> {
+            byTable.computeIfAbsent(rs.getString(1).toLowerCase(Locale.ROOT), t -> new LinkedHashMap<>())
+                    .computeIfAbsent(rs.getString(2), i -> new ArrayList<>())
+                    .add(rs.getString(3).toLowerCase(Locale.ROOT));
+        });
+
+        Map<String, List<List<String>>> live = new HashMap<>();
+        byTable.forEach((table, indexes) -> live.put(table, List.copyOf(indexes.values())));
+        return live;
+    }
+}
@@ -0,0 +1,46 @@
+package com.urbanfresh.config;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Config Layer – Applies the versioned migrations in classpath:db/migration.
+ * Hibernate still creates tables and columns (ddl-auto=update), so Flyway is run here
+ * after the entity manager factory rather than before it as Spring Boot would: the
+ * migrations add indexes to tables that must already exist.
+ *
+ * An existing schema without a history table is baselined at version 0, so V1 and later
+ * still run against databases created before migrations were introduced.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.schema.migrations.enabled", havingValue = "true", matchIfMissing = true)
+public class SchemaMigrationConfig {
+
+    @Value("${app.schema.migrations.locations:classpath:db/migration}")
+    private String[] locations;
+
+    @Bean
+    @DependsOn("entityManagerFactory")
+    public Flyway flyway(DataSource dataSource) {
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .locations(locations)
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load();
+        MigrateResult result = flyway.migrate();
+        log.info("[SchemaMigration] {} migration(s) applied from version {}",
+                result.migrationsExecuted, result.initialSchemaVersion);
+        return flyway;
+    }
+}
@@ -79,6 +79,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/products/suggestions").permitAll()
                         // Product detail page is public — any visitor can view a single product
                         .requestMatchers(HttpMethod.GET, "/api/products/*").permitAll()
+                        // Health and Prometheus scrape endpoints; served on the internal management port only
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
                         // Uploaded product images are public static assets
                         .requestMatchers(HttpMethod.GET, "/uploads/**").permitAll()
                         // Role-based URL-level restrictions (first line of defence)
@@ -0,0 +1,95 @@
+package com.urbanfresh.config;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Config Layer – Per-request SQL statement budget.
+ * Opens a SqlStatementCounter scope around every /api/** request, then records the count
+ * as the urbanfresh.http.sql.statements histogram tagged by method and route pattern.
+ * Requests over max-statements-per-request are logged and counted in
+ * urbanfresh.http.sql.budget.exceeded, which is the signal for N+1 regressions in mappers.
+ *
+ * With app.sql-budget.enforce=true (SQL_BUDGET_ENFORCE, intended for test and CI runs) the
+ * statement that crosses the budget throws instead, failing the request that issued it.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@ConditionalOnProperty(name = "app.sql-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final int budget;
+    private final boolean enforce;
+
+    public SqlStatementBudgetFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.sql-budget.max-statements-per-request:25}") int budget,
+            @Value("${app.sql-budget.enforce:false}") boolean enforce) {
+        this.meterRegistry = meterRegistry;
+        this.budget = budget;
+        this.enforce = enforce;
+    }
+
+    /** Only API traffic reaches the database. */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open(budget, enforce)) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                // Failed requests are recorded too, including the one an enforced budget aborted
+                record(request, scope);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementCounter.Scope scope) {
+        // Route pattern, not the raw URI, keeps tag cardinality bounded (/api/products/{id})
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("urbanfresh.http.sql.statements")
+                .description("Hibernate SQL statements issued per request")
+                .tags("method", request.getMethod(), "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(scope.count());
+
+        if (scope.overBudget()) {
+            Counter.builder("urbanfresh.http.sql.budget.exceeded")
+                    .description("Requests that issued more SQL statements than the budget")
+                    .tags("method", request.getMethod(), "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("[SqlStatementBudget] {} {} issued {} SQL statements (budget {})",
+                    request.getMethod(), uri, scope.count(), budget);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.urbanfresh.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import com.urbanfresh.exception.SqlStatementBudgetExceededException;
+
+/**
+ * Config Layer – Hibernate StatementInspector that counts SQL statements per request.
+ * Registered through hibernate.session_factory.statement_inspector, so Hibernate creates
+ * the instance; the per-request state therefore lives in a static thread-local scope
+ * opened by SqlStatementBudgetFilter. Statements outside a scope (schedulers, outbox
+ * workers) pass through uncounted.
+ *
+ * Only Hibernate-issued SQL is seen. That is where N+1 patterns come from (lazy loads and
+ * repository calls inside mappers); JdbcTemplate paths run a fixed number of set-based
+ * statements per request.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Starts counting on the current thread.
+     *
+     * @param budget  statements allowed before the request is flagged
+     * @param enforce when true, the first statement over budget throws
+     * @return scope to close when the request completes
+     */
+    public static Scope open(int budget, boolean enforce) {
+        Scope scope = new Scope(budget, enforce);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null && ++scope.count > scope.budget && scope.enforce) {
+            throw new SqlStatementBudgetExceededException(String.format(
+                    "SQL statement budget of %d exceeded by: %s", scope.budget, sql));
+        }
+        return sql;
+    }
+
+    /** Statement count for one request; confined to the request thread. */
+    public static final class Scope implements AutoCloseable {
+
+        private final int budget;
+        private final boolean enforce;
+        private int count;
+
+        private Scope(int budget, boolean enforce) {
+            this.budget = budget;
+            this.enforce = enforce;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public boolean overBudget() {
+            return count > budget;
+        }
+
+        @Override
+        public void close() {
+            CURRENT.remove();
+        }
+    }
+}
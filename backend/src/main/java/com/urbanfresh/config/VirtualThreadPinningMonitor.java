@@ -0,0 +1,90 @@
+package com.urbanfresh.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Config Layer – Detects virtual threads pinned to their carrier in virtual-thread mode.
+ * On JDK 21 a virtual thread that blocks inside a synchronized block or a native frame
+ * (JDBC drivers, the Stripe SDK's HTTP client, logging appenders) pins its carrier thread,
+ * silently reducing throughput to the carrier pool size. This monitor streams the JFR
+ * jdk.VirtualThreadPinned event in-process and logs the offending stack so the section
+ * can be moved to a ReentrantLock or off the request path.
+ *
+ * For ad-hoc investigation the JVM flag -Djdk.tracePinnedThreads=short gives the same
+ * signal on stdout without this monitor.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        name = {"spring.threads.virtual.enabled", "app.virtual-threads.pinning-monitor.enabled"},
+        havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /** Stack frames included in each pinning warning. */
+    private static final int LOGGED_FRAMES = 8;
+
+    @Value("${app.virtual-threads.pinning-threshold-ms:20}")
+    private long thresholdMs;
+
+    private final AtomicLong pinnedEvents = new AtomicLong();
+
+    private RecordingStream stream;
+
+    /** Starts the in-process JFR stream once the context is initialised. */
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(thresholdMs))
+                .withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("[VirtualThreadPinningMonitor] Watching for pinned virtual threads (threshold {} ms)", thresholdMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /** Number of pinning events observed since startup. */
+    public long getPinnedEventCount() {
+        return pinnedEvents.get();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedEvents.incrementAndGet();
+        log.warn("[VirtualThreadPinningMonitor] Virtual thread pinned for {} ms at:\n{}",
+                event.getDuration().toMillis(), formatStack(event));
+    }
+
+    private String formatStack(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "  (no stack trace)";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(f -> "  at " + f.getMethod().getType().getName() + "." + f.getMethod().getName()
+                        + ":" + f.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
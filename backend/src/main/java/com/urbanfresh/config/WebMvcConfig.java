@@ -2,17 +2,35 @@ package com.urbanfresh.config;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
 /**
  * Config Layer – Registers the local uploads folder as a publicly served
  * static-resource location so that uploaded product images are accessible
  * via GET /uploads/products/{filename}.
+ *
+ * Also registers open-in-view explicitly (spring.jpa.open-in-view=false disables Boot's
+ * global one) so endpoints that call external services can opt out: an open EntityManager
+ * keeps its JDBC connection until the request ends, including across the remote call.
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    /** Endpoints that call a remote processor and must not pin a connection while waiting. */
+    private static final String[] OPEN_IN_VIEW_EXCLUDED_PATHS = {
+            "/api/payments/create-intent",
+            "/api/payments/webhook"
+    };
+
+    private final EntityManagerFactory entityManagerFactory;
+
     @Value("${app.upload.dir:uploads}")
     private String uploadDir;
 
@@ -21,4 +39,12 @@ public class WebMvcConfig implements WebMvcConfigurer {
         registry.addResourceHandler("/uploads/**")
                 .addResourceLocations("file:" + uploadDir + "/");
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor openInView = new OpenEntityManagerInViewInterceptor();
+        openInView.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(openInView)
+                .excludePathPatterns(OPEN_IN_VIEW_EXCLUDED_PATHS);
+    }
 }
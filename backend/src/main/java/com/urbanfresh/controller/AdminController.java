@@ -8,6 +8,7 @@ import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
@@ -30,6 +31,8 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.urbanfresh.dto.request.AssignDeliveryRequest;
 import com.urbanfresh.dto.request.BrandRequest;
+import com.urbanfresh.dto.request.BulkDeliveryAssignmentRequest;
+import com.urbanfresh.dto.request.BulkOrderStatusUpdateRequest;
 import com.urbanfresh.dto.request.CreateSupplierRequest;
 import com.urbanfresh.dto.request.OrderStatusUpdateRequest;
 import com.urbanfresh.dto.request.ProductRequest;
@@ -40,10 +43,15 @@ import com.urbanfresh.dto.response.AdminOrderReviewResponse;
 import com.urbanfresh.dto.response.AdminProductResponse;
 import com.urbanfresh.dto.response.AdminStatsResponse;
 import com.urbanfresh.dto.response.BrandResponse;
+import com.urbanfresh.dto.response.BulkOperationResponse;
+import com.urbanfresh.dto.response.DispatchPlanResponse;
 import com.urbanfresh.dto.response.SupplierResponse;
+import com.urbanfresh.exception.BulkImportException;
 import com.urbanfresh.service.AdminProductService;
 import com.urbanfresh.service.AdminService;
+import com.urbanfresh.service.DeliveryDispatchService;
 import com.urbanfresh.service.OrderService;
+import com.urbanfresh.service.ProductImportService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -76,6 +84,8 @@ public class AdminController {
     private final AdminService adminService;
     private final AdminProductService adminProductService;
     private final OrderService orderService;
+    private final ProductImportService productImportService;
+    private final DeliveryDispatchService deliveryDispatchService;
 
     /**
      * Returns high-level platform statistics for the admin dashboard.
@@ -211,6 +221,31 @@ public class AdminController {
                 .body(adminProductService.createProduct(request));
     }
 
+    /**
+     * Imports a supplier catalogue in one job: every valid row becomes an approved product
+     * with its initial batch; invalid rows are reported per line without aborting the file.
+     * POST /api/admin/products/import  (multipart/form-data, field = "file")
+     *
+     * Format is taken from the file extension: .jsonl / .ndjson → JSON lines, anything else → CSV
+     * with a header row of ProductRequest field names (plus optional brandCode).
+     *
+     * @param file uploaded catalogue
+     * @return 200 OK with a per-row BulkOperationResponse (id = new product ID)
+     */
+    @PostMapping(value = "/products/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BulkOperationResponse> importProducts(
+            @RequestParam("file") MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new BulkImportException("No file provided.");
+        }
+        String filename = file.getOriginalFilename() != null
+                ? file.getOriginalFilename().toLowerCase() : "";
+        ProductImportService.Format format = filename.endsWith(".jsonl") || filename.endsWith(".ndjson")
+                ? ProductImportService.Format.JSON_LINES
+                : ProductImportService.Format.CSV;
+        return ResponseEntity.ok(productImportService.importProducts(file.getInputStream(), format));
+    }
+
     /**
      * Updates an existing product.
      * PUT /api/admin/products/{id}
@@ -363,6 +398,51 @@ public class AdminController {
                 orderService.assignDeliveryPersonnel(orderId, request.getDeliveryPersonId(), authentication.getName()));
     }
 
+    /**
+     * Move many orders to the same status in one request.
+     * POST /api/admin/orders/bulk-status
+     *
+     * @param request        order IDs, target status and optional correction reason
+     * @param authentication authenticated admin principal
+     * @return 200 OK with a per-order outcome report
+     */
+    @PostMapping("/orders/bulk-status")
+    public ResponseEntity<BulkOperationResponse> bulkUpdateOrderStatus(
+            @Valid @RequestBody BulkOrderStatusUpdateRequest request,
+            Authentication authentication) {
+
+        return ResponseEntity.ok(orderService.bulkUpdateOrderStatus(request, authentication.getName()));
+    }
+
+    /**
+     * Assign one delivery person to many READY/OUT_FOR_DELIVERY orders.
+     * POST /api/admin/orders/bulk-assign-delivery
+     *
+     * @param request        order IDs and deliveryPersonId
+     * @param authentication authenticated admin principal
+     * @return 200 OK with a per-order outcome report
+     */
+    @PostMapping("/orders/bulk-assign-delivery")
+    public ResponseEntity<BulkOperationResponse> bulkAssignDelivery(
+            @Valid @RequestBody BulkDeliveryAssignmentRequest request,
+            Authentication authentication) {
+
+        return ResponseEntity.ok(orderService.bulkAssignDeliveryPersonnel(request, authentication.getName()));
+    }
+
+    /**
+     * Propose rider assignments for all READY, unassigned orders, grouped into trips by area
+     * and balanced on current rider load. Computed off the request thread; nothing is applied —
+     * confirm each rider's orderIds through /orders/bulk-assign-delivery.
+     * GET /api/admin/dispatch/plan
+     *
+     * @return 200 OK with the proposed DispatchPlanResponse
+     */
+    @GetMapping("/dispatch/plan")
+    public CompletableFuture<ResponseEntity<DispatchPlanResponse>> planDispatch() {
+        return deliveryDispatchService.planDispatch().thenApply(ResponseEntity::ok);
+    }
+
     // ── Supplier Management ────────────────────────────────────────────────
 
     /**
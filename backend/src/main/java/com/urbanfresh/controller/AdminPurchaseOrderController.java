@@ -2,6 +2,7 @@ package com.urbanfresh.controller;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -13,11 +14,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.urbanfresh.dto.request.ConfirmDeliveryRequest;
 import com.urbanfresh.dto.request.CreatePurchaseOrderRequest;
 import com.urbanfresh.dto.response.PurchaseOrderDto;
+import com.urbanfresh.model.PurchaseOrderStatus;
 import com.urbanfresh.service.AdminPurchaseOrderService;
 
 import jakarta.validation.Valid;
@@ -42,6 +45,20 @@ public class AdminPurchaseOrderController {
         return ResponseEntity.ok(adminPurchaseOrderService.getAllPurchaseOrders());
     }
 
+    /**
+     * View purchase orders one page at a time, newest first, optionally filtered by status.
+     * GET /api/admin/purchase-orders/page?status=DELIVERED&page=0&size=20
+     */
+    @GetMapping("/page")
+    public ResponseEntity<Page<PurchaseOrderDto>> getPurchaseOrdersPage(
+            @RequestParam(required = false) PurchaseOrderStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        int safeSize = Math.max(1, Math.min(size, 100));
+        return ResponseEntity.ok(
+                adminPurchaseOrderService.getPurchaseOrdersPage(status, Math.max(0, page), safeSize));
+    }
+
     /**
      * Create a new purchase order for a supplier's brand.
      */
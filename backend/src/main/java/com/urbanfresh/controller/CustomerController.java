@@ -2,6 +2,7 @@ package com.urbanfresh.controller;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
 import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -9,9 +10,11 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.urbanfresh.dto.response.LoyaltyPointsResponse;
+import com.urbanfresh.dto.response.LoyaltyTransactionResponse;
 import com.urbanfresh.dto.response.OrderResponse;
 import com.urbanfresh.dto.response.RecommendationResponse;
 import com.urbanfresh.service.LoyaltyService;
@@ -26,6 +29,7 @@ import lombok.RequiredArgsConstructor;
  *   GET /api/customer/orders           — authenticated customer's order history
  *   GET /api/customer/orders/{orderId} — authenticated customer's single order
  *   GET /api/customer/loyalty          — authenticated customer's loyalty points summary
+ *   GET /api/customer/loyalty/transactions — authenticated customer's loyalty ledger
  *   GET /api/customer/recommendations  — top-5 "Buy Again" recommendations
  * Access: ROLE_CUSTOMER only (enforced via @PreAuthorize on each method).
  */
@@ -91,6 +95,24 @@ public class CustomerController {
         return ResponseEntity.ok(loyalty);
     }
 
+    /**
+     * Returns the customer's loyalty ledger entries, newest first, each with the
+     * balance right after it was applied.
+     *
+     * @param page           zero-based page index
+     * @param size           page size
+     * @param authentication Spring Security principal — email extracted from JWT
+     * @return 200 OK with a page of LoyaltyTransactionResponse
+     */
+    @GetMapping("/loyalty/transactions")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public ResponseEntity<Page<LoyaltyTransactionResponse>> getLoyaltyTransactions(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        return ResponseEntity.ok(loyaltyService.getLoyaltyTransactions(authentication.getName(), page, size));
+    }
+
     /**
      * Returns up to 5 "Buy Again" product recommendations ranked by purchase frequency.
      * Only in-stock, visible products from confirmed orders are included.
@@ -1,20 +1,29 @@
 package com.urbanfresh.controller;
 
+import java.io.IOException;
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
+import com.urbanfresh.dto.request.BulkInventoryAdjustmentRequest;
 import com.urbanfresh.dto.request.InventoryUpdateRequest;
 import com.urbanfresh.dto.response.BatchResponse;
+import com.urbanfresh.dto.response.BulkOperationResponse;
+import com.urbanfresh.dto.response.InventoryPageResponse;
 import com.urbanfresh.dto.response.InventoryResponse;
+import com.urbanfresh.exception.BulkImportException;
 import com.urbanfresh.service.InventoryService;
 
 import jakarta.validation.Valid;
@@ -45,6 +54,49 @@ public class InventoryController {
         return ResponseEntity.ok(inventoryService.getAllInventory());
     }
 
+    /**
+     * Returns one keyset-paginated, filterable slice of the inventory console ordered by name.
+     * Pass the name and productId of the last item received as afterName/afterId to get the next slice.
+     *
+     * @param lowStockOnly only products at or below their reorder threshold (default false)
+     * @param category     optional category filter
+     * @param brandId      optional brand filter
+     * @param afterName    cursor from the previous slice; omit for the first slice
+     * @param afterId      cursor from the previous slice; omit for the first slice
+     * @param size         slice size, clamped to 1–100 (default 50)
+     * @return 200 OK with an InventoryPageResponse
+     */
+    @GetMapping("/page")
+    public ResponseEntity<InventoryPageResponse> getInventoryPage(
+            @RequestParam(defaultValue = "false") boolean lowStockOnly,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(required = false) String afterName,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "50") int size) {
+        int safeSize = Math.max(1, Math.min(size, 100));
+        return ResponseEntity.ok(inventoryService.getInventoryPage(
+                lowStockOnly, category, brandId, afterName, afterId, safeSize));
+    }
+
+    /**
+     * Returns low-stock products ordered by how far they are below their reorder threshold.
+     * Pass (quantity - reorderThreshold) and productId of the last item as afterGap/afterId to continue.
+     *
+     * @param afterGap cursor from the previous slice; omit for the first slice
+     * @param afterId  cursor from the previous slice; omit for the first slice
+     * @param size     slice size, clamped to 1–100 (default 50)
+     * @return 200 OK with an InventoryPageResponse
+     */
+    @GetMapping("/low-stock")
+    public ResponseEntity<InventoryPageResponse> getLowStockInventory(
+            @RequestParam(required = false) Integer afterGap,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "50") int size) {
+        int safeSize = Math.max(1, Math.min(size, 100));
+        return ResponseEntity.ok(inventoryService.getLowStockInventory(afterGap, afterId, safeSize));
+    }
+
     /**
      * Updates the stock quantity and reorder threshold for a specific product.
      * The authenticated admin's email is recorded as an audit trail entry.
@@ -63,6 +115,40 @@ public class InventoryController {
                 inventoryService.updateInventory(productId, request, auth.getName()));
     }
 
+    /**
+     * Applies a stock-take: many absolute (quantity, reorderThreshold) adjustments in one call.
+     * Always returns 200 with a per-row report; individual invalid rows do not fail the request.
+     *
+     * @param request adjustment rows
+     * @param auth    Spring Security authentication used to extract the admin's email
+     * @return 200 OK with a BulkOperationResponse
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkOperationResponse> bulkAdjustInventory(
+            @Valid @RequestBody BulkInventoryAdjustmentRequest request,
+            Authentication auth) {
+        return ResponseEntity.ok(inventoryService.bulkAdjustInventory(request, auth.getName()));
+    }
+
+    /**
+     * CSV variant of the stock-take upload (multipart/form-data, field = "file").
+     * Header row must contain productId, quantity and reorderThreshold.
+     *
+     * @param file uploaded CSV
+     * @param auth Spring Security authentication used to extract the admin's email
+     * @return 200 OK with a BulkOperationResponse
+     */
+    @PostMapping(value = "/bulk/csv", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BulkOperationResponse> bulkAdjustInventoryFromCsv(
+            @RequestParam("file") MultipartFile file,
+            Authentication auth) throws IOException {
+        if (file.isEmpty()) {
+            throw new BulkImportException("No file provided.");
+        }
+        return ResponseEntity.ok(
+                inventoryService.bulkAdjustInventoryFromCsv(file.getInputStream(), auth.getName()));
+    }
+
     /**
      * Returns all batches for a product ordered by expiry date (oldest first).
      * Allows admin to inspect batch composition and identify near-expiry batches.
@@ -78,10 +78,11 @@ public class PaymentController {
      * Stripe webhook receiver — called by Stripe when a payment event occurs.
      * Must be PUBLIC (no JWT) and must receive the raw body without Spring parsing.
      * Stripe-Signature header is used by PaymentService to verify the payload is genuine.
+     * Acknowledges as soon as the event is stored in the inbox; it is applied asynchronously.
      *
      * @param payload   raw JSON body from Stripe
      * @param sigHeader Stripe-Signature header value
-     * @return 200 OK on success; exceptions propagate to GlobalExceptionHandler
+     * @return 200 OK once stored (or recognised as a duplicate); exceptions propagate to GlobalExceptionHandler
      */
     @PostMapping("/webhook")
     public ResponseEntity<Void> handleWebhook(
@@ -2,6 +2,7 @@ package com.urbanfresh.controller;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -10,11 +11,13 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import jakarta.validation.Valid;
 
 import com.urbanfresh.dto.request.UpdatePurchaseOrderStatusDto;
 import com.urbanfresh.dto.response.PurchaseOrderDto;
+import com.urbanfresh.model.PurchaseOrderStatus;
 import com.urbanfresh.service.SupplierPurchaseOrderService;
 
 import lombok.RequiredArgsConstructor;
@@ -42,6 +45,26 @@ public class SupplierPurchaseOrderController {
         return ResponseEntity.ok(purchaseOrderService.getPurchaseOrdersForSupplier(authentication.getName()));
     }
 
+    /**
+     * View the supplier's purchase orders one page at a time, newest first.
+     *
+     * @param status         optional status filter
+     * @param page           zero-based page index (default 0)
+     * @param size           page size (default 20, clamped to 1–100)
+     * @param authentication the authenticated supplier principal
+     * @return a page of scoped purchase orders
+     */
+    @GetMapping("/page")
+    public ResponseEntity<Page<PurchaseOrderDto>> listPurchaseOrdersPage(
+            @RequestParam(required = false) PurchaseOrderStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        int safeSize = Math.max(1, Math.min(size, 100));
+        return ResponseEntity.ok(purchaseOrderService.getPurchaseOrdersPageForSupplier(
+                authentication.getName(), status, Math.max(0, page), safeSize));
+    }
+
     /**
      * Update the shipment status and estimated delivery timeline of a purchase order.
      * Enforces that the purchase order belongs to a brand mapped to the supplier.
@@ -0,0 +1,28 @@
+package com.urbanfresh.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO Layer – Request payload for assigning one delivery person to many orders at once.
+ * Layer: DTO (Request)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkDeliveryAssignmentRequest {
+
+    @NotEmpty(message = "At least one order ID is required")
+    @Size(max = 1000, message = "A single bulk assignment may contain at most 1000 orders")
+    private List<Long> orderIds;
+
+    /** ID of the active delivery personnel user to assign. */
+    @NotNull(message = "Delivery person ID is required.")
+    private Long deliveryPersonId;
+}
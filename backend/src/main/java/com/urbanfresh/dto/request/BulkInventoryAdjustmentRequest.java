@@ -0,0 +1,46 @@
+package com.urbanfresh.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO Layer – Request payload for a bulk stock-take adjustment.
+ * Rows are deliberately not @Valid-cascaded: an invalid row is reported in the
+ * per-row result instead of rejecting the whole upload.
+ * Layer: DTO (Request)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkInventoryAdjustmentRequest {
+
+    @NotEmpty(message = "At least one adjustment row is required")
+    @Size(max = 50000, message = "A single upload may contain at most 50000 rows")
+    private List<InventoryAdjustmentRow> rows;
+
+    /**
+     * One adjustment line: the absolute new quantity and reorder threshold for a product.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class InventoryAdjustmentRow {
+
+        private Long productId;
+
+        private Integer quantity;
+
+        private Integer reorderThreshold;
+    }
+}
@@ -0,0 +1,32 @@
+package com.urbanfresh.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO Layer – Request payload for moving many orders to the same status at once.
+ * Each order is validated individually; failures are reported per order.
+ * Layer: DTO (Request)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkOrderStatusUpdateRequest {
+
+    @NotEmpty(message = "At least one order ID is required")
+    @Size(max = 1000, message = "A single bulk update may contain at most 1000 orders")
+    private List<Long> orderIds;
+
+    @NotBlank(message = "status is required")
+    private String status;
+
+    /** Applied to every order; required when any transition is a backward correction. */
+    @Size(max = 255, message = "changeReason must be at most 255 characters")
+    private String changeReason;
+}
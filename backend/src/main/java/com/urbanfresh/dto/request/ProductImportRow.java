@@ -0,0 +1,22 @@
+package com.urbanfresh.dto.request;
+
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO Layer – One line of a bulk catalogue import.
+ * Carries every ProductRequest field (and its validation rules) plus an optional
+ * brand code, so supplier spreadsheets can reference brands by code instead of ID.
+ * Layer: DTO (Request)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProductImportRow extends ProductRequest {
+
+    /** Brand code (case-insensitive); used when brandId is absent. */
+    @Size(max = 60, message = "Brand code must not exceed 60 characters")
+    private String brandCode;
+}
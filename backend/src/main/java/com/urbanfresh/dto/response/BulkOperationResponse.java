@@ -0,0 +1,70 @@
+package com.urbanfresh.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO Layer – Per-row report returned by bulk admin operations (stock-take uploads,
+ * catalogue imports, bulk order actions). Each input row gets exactly one result.
+ * Layer: DTO (Response)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkOperationResponse {
+
+    /** Number of rows received in the upload. */
+    private int totalRows;
+
+    private int succeeded;
+
+    private int failed;
+
+    /** One entry per input row, ordered by row number. */
+    private List<RowResult> results;
+
+    /**
+     * Outcome for a single input row.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowResult {
+
+        /** 1-based position in the upload (CSV line number excluding the header, or list index + 1). */
+        private int rowNumber;
+
+        /** ID of the entity the row referred to or created; null when it could not be determined. */
+        private Long id;
+
+        private boolean success;
+
+        /** Human-readable outcome or failure reason. */
+        private String message;
+    }
+
+    /**
+     * Builds the summary counters from a complete list of row results.
+     *
+     * @param results one result per input row, already ordered
+     * @return populated response
+     */
+    public static BulkOperationResponse of(List<RowResult> results) {
+        int ok = (int) results.stream().filter(RowResult::isSuccess).count();
+        return BulkOperationResponse.builder()
+                .totalRows(results.size())
+                .succeeded(ok)
+                .failed(results.size() - ok)
+                .results(results)
+                .build();
+    }
+}
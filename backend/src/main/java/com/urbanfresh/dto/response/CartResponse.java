@@ -21,4 +21,7 @@ public class CartResponse {
 
     /** Total number of individual units across all items (sum of quantities, not distinct products). */
     private int itemCount;
+
+    /** Products frequently bought with the cart's items, excluding anything already in the cart. */
+    private List<ProductSuggestionResponse> frequentlyBoughtTogether;
 }
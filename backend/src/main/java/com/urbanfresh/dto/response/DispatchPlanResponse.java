@@ -0,0 +1,90 @@
+package com.urbanfresh.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO Layer – Proposed rider assignments for all READY, unassigned orders.
+ * Nothing is applied: the admin reviews the plan and confirms each rider's orders
+ * through POST /api/admin/orders/bulk-assign-delivery.
+ * Layer: DTO (Response)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DispatchPlanResponse {
+
+    private LocalDateTime plannedAt;
+
+    /** Wall-clock time spent reading inputs and computing the plan. */
+    private long planningMillis;
+
+    /** READY, unassigned orders considered by this plan. */
+    private int pendingOrders;
+
+    private int plannedOrders;
+
+    private int trips;
+
+    /** One entry per active rider, including riders who received no new trips. */
+    private List<RiderPlan> riders;
+
+    /** Orders that could not be planned (blank address or no active riders). */
+    private List<Long> unplannedOrderIds;
+
+    /**
+     * True when more READY, unassigned orders exist than app.delivery.dispatch.max-orders;
+     * only the oldest were planned and the rest wait for the next plan.
+     */
+    private boolean truncated;
+
+    /**
+     * Proposed work for a single rider.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RiderPlan {
+
+        private Long deliveryPersonId;
+
+        private String deliveryPersonName;
+
+        /** Orders already OUT_FOR_DELIVERY with this rider when the plan was computed. */
+        private int currentLoad;
+
+        /** currentLoad plus the orders proposed here. */
+        private int projectedLoad;
+
+        private List<Trip> trips;
+
+        /** All proposed order IDs for this rider, ready to submit as one bulk assignment. */
+        private List<Long> orderIds;
+    }
+
+    /**
+     * A group of orders in one area (or a few neighbouring areas) delivered in one run.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Trip {
+
+        /** Area codes covered, or the address locality when no lookup entry matched. */
+        private List<String> areas;
+
+        private List<Long> orderIds;
+    }
+}
@@ -32,4 +32,14 @@ public class ExpiryProductResponse {
 
     /** Discount percentage (0-100) applied to this product; 0 means no discount. */
     private Integer discountPercentage;
+
+    /**
+     * Constructor used by the JPQL dashboard queries in ProductBatchRepository.
+     * daysUntilExpiry depends on the caller's notion of "today" and is set afterwards.
+     */
+    public ExpiryProductResponse(Long id, String name, String category, String brandName,
+                                 BigDecimal price, PricingUnit unit, int stockQuantity,
+                                 LocalDate expiryDate, Integer discountPercentage) {
+        this(id, name, category, brandName, price, unit, stockQuantity, expiryDate, 0L, discountPercentage);
+    }
 }
@@ -0,0 +1,32 @@
+package com.urbanfresh.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO Layer – Keyset-paginated slice of inventory rows.
+ * Returned by GET /api/admin/inventory/page and /api/admin/inventory/low-stock.
+ * The client requests the next slice by sending the cursor fields of the last item
+ * (name + productId for the console, quantity - reorderThreshold + productId for low stock).
+ * Layer: DTO (Response)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryPageResponse {
+
+    private List<InventoryResponse> items;
+
+    /** Maximum number of items requested for this slice. */
+    private int pageSize;
+
+    /** True when at least one more row exists after the last item. */
+    private boolean hasMore;
+}
@@ -0,0 +1,29 @@
+package com.urbanfresh.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * DTO Layer – One loyalty ledger entry shown in the customer's points history.
+ */
+@Getter
+@Builder
+public class LoyaltyTransactionResponse {
+
+    private Long id;
+
+    /** EARN, REDEEM or REVERSE. */
+    private String type;
+
+    /** Signed change to the balance. */
+    private int points;
+
+    /** Balance right after this entry. */
+    private Integer balanceAfter;
+
+    private Long orderId;
+
+    private LocalDateTime createdAt;
+}
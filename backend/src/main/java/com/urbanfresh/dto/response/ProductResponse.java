@@ -2,6 +2,7 @@ package com.urbanfresh.dto.response;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 import com.urbanfresh.model.PricingUnit;
 import lombok.AllArgsConstructor;
@@ -65,4 +66,10 @@ public class ProductResponse {
      * Drives the near-expiry discount badge on the product card.
      */
     private boolean hasNearExpiryBatches;
+
+    /**
+     * Products most often bought together with this one, best first.
+     * Only populated on the product detail endpoint; null on listings.
+     */
+    private List<ProductSuggestionResponse> frequentlyBoughtTogether;
 }
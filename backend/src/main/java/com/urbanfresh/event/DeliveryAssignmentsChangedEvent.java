@@ -0,0 +1,25 @@
+package com.urbanfresh.event;
+
+import java.util.Collection;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Event Layer – Published when orders are assigned to, reassigned between, or completed by
+ * delivery personnel. Listeners use it to drop per-rider read models (profile summary
+ * counters) once the publishing transaction has committed.
+ */
+@Getter
+@RequiredArgsConstructor
+public class DeliveryAssignmentsChangedEvent {
+
+    /** Delivery personnel whose assigned-order counts changed. */
+    private final Collection<Long> deliveryPersonIds;
+
+    /** Convenience factory for a change affecting a single rider. */
+    public static DeliveryAssignmentsChangedEvent forDeliveryPerson(Long deliveryPersonId) {
+        return new DeliveryAssignmentsChangedEvent(List.of(deliveryPersonId));
+    }
+}
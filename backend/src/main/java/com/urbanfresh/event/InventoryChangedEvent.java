@@ -0,0 +1,31 @@
+package com.urbanfresh.event;
+
+import java.util.Collection;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Event Layer – Published whenever product stock, batch quantities, batch statuses,
+ * or expiry-relevant product fields change.
+ * Listeners use it to drop derived read models (e.g. the expiry dashboard snapshot)
+ * once the publishing transaction has committed.
+ */
+@Getter
+@RequiredArgsConstructor
+public class InventoryChangedEvent {
+
+    /** IDs of the affected products; empty when the change spans the whole catalogue. */
+    private final Collection<Long> productIds;
+
+    /** Convenience factory for a change affecting a single product. */
+    public static InventoryChangedEvent forProduct(Long productId) {
+        return new InventoryChangedEvent(List.of(productId));
+    }
+
+    /** Convenience factory for catalogue-wide changes such as the daily expiry sweep. */
+    public static InventoryChangedEvent forAllProducts() {
+        return new InventoryChangedEvent(List.of());
+    }
+}
@@ -0,0 +1,15 @@
+package com.urbanfresh.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Event Layer – Published when a loyalty ledger entry changes a customer's balance.
+ * LoyaltyServiceImpl uses it to drop the customer's cached summary after commit.
+ */
+@Getter
+@RequiredArgsConstructor
+public class LoyaltyBalanceChangedEvent {
+
+    private final Long customerId;
+}
@@ -0,0 +1,19 @@
+package com.urbanfresh.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Event Layer – In-process signal that an order's status or payment changed.
+ * Published by CacheInvalidationOutboxHandler once the change is committed, so order-derived
+ * read models can drop stale entries.
+ */
+@Getter
+@RequiredArgsConstructor
+public class OrderChangedEvent {
+
+    private final Long orderId;
+
+    /** Order owner; lets customer-scoped caches evict a single entry. */
+    private final Long customerId;
+}
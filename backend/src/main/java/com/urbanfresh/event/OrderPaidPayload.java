@@ -0,0 +1,16 @@
+package com.urbanfresh.event;
+
+import java.math.BigDecimal;
+
+/**
+ * Event Layer – Outbox payload for OutboxEventType.ORDER_PAID.
+ *
+ * @param orderId        paid order
+ * @param customerId     order owner
+ * @param totalAmount    amount charged (LKR)
+ * @param itemsSubtotal  product-discounted subtotal before loyalty redemption; basis for earned points
+ * @param pointsRedeemed points validated at checkout, consumed now that payment succeeded
+ */
+public record OrderPaidPayload(Long orderId, Long customerId, BigDecimal totalAmount,
+                               BigDecimal itemsSubtotal, int pointsRedeemed) {
+}
@@ -0,0 +1,16 @@
+package com.urbanfresh.event;
+
+import com.urbanfresh.model.OrderStatus;
+
+/**
+ * Event Layer – Outbox payload for OutboxEventType.ORDER_STATUS_CHANGED.
+ *
+ * @param orderId        order that changed
+ * @param customerId     order owner
+ * @param previousStatus status before the change
+ * @param newStatus      status after the change
+ * @param notifyCustomer whether the customer receives an in-app notification
+ */
+public record OrderStatusChangedPayload(Long orderId, Long customerId, OrderStatus previousStatus,
+                                        OrderStatus newStatus, boolean notifyCustomer) {
+}
@@ -0,0 +1,27 @@
+package com.urbanfresh.event;
+
+import com.urbanfresh.model.OutboxEvent;
+import com.urbanfresh.model.OutboxEventType;
+
+/**
+ * Event Layer – Consumer of transactional outbox events.
+ * OutboxDispatcher calls handle() inside a transaction that also records a dedup receipt
+ * under name(); the handler's writes and the receipt commit or roll back together, so an
+ * event is applied at most once per handler even though delivery is at-least-once.
+ */
+public interface OutboxEventHandler {
+
+    /** Stable identifier stored in outbox_handler_receipts; never rename once deployed. */
+    String name();
+
+    /** Whether this handler consumes the given event type. */
+    boolean supports(OutboxEventType type);
+
+    /**
+     * Applies the event. Throwing rolls back this handler's work and leaves the event
+     * unpublished for the next poll.
+     *
+     * @param event outbox row; payload is JSON matching the type's payload record
+     */
+    void handle(OutboxEvent event);
+}
@@ -0,0 +1,19 @@
+package com.urbanfresh.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Event Layer – Published after a new Stripe webhook event has been stored in the inbox.
+ * WebhookInboxDispatcher routes it to the worker owning its PaymentIntent partition.
+ */
+@Getter
+@RequiredArgsConstructor
+public class WebhookEventReceivedEvent {
+
+    /** Inbox row ID. */
+    private final Long inboxEventId;
+
+    /** PaymentIntent ID used as the partition key; null for events without one. */
+    private final String paymentIntentId;
+}
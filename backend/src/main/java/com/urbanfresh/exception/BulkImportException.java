@@ -0,0 +1,14 @@
+package com.urbanfresh.exception;
+
+/**
+ * Exception Layer – Thrown when a bulk upload cannot be processed at all
+ * (unreadable file, missing required CSV columns, too many rows).
+ * Row-level problems are reported per row instead of raising this exception.
+ * Mapped to HTTP 400 Bad Request by GlobalExceptionHandler.
+ */
+public class BulkImportException extends RuntimeException {
+
+    public BulkImportException(String message) {
+        super(message);
+    }
+}
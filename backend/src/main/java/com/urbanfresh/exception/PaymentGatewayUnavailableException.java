@@ -0,0 +1,18 @@
+package com.urbanfresh.exception;
+
+/**
+ * Exception Layer – Thrown when the payment processor is temporarily unreachable: the call
+ * timed out, the bulkhead is full, or the circuit breaker is open.
+ * Mapped to HTTP 503 Service Unavailable by GlobalExceptionHandler so the client retries
+ * instead of treating the order as unpayable.
+ */
+public class PaymentGatewayUnavailableException extends PaymentException {
+
+    public PaymentGatewayUnavailableException(String message) {
+        super(message);
+    }
+
+    public PaymentGatewayUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.urbanfresh.exception;
+
+/**
+ * Exception Layer – Thrown by SqlStatementCounter when a request issues more SQL statements
+ * than its budget while enforcement is on (integration tests). Raised at the offending
+ * statement so the stack trace points at the per-row query. Falls through to the generic
+ * 500 handler: it signals a regression, never a client error.
+ */
+public class SqlStatementBudgetExceededException extends RuntimeException {
+
+    public SqlStatementBudgetExceededException(String message) {
+        super(message);
+    }
+}
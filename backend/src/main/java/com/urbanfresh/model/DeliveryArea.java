@@ -0,0 +1,53 @@
+package com.urbanfresh.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Domain Layer – Local geocoding entry used to group delivery addresses into areas.
+ * An address belongs to the area whose keyword (town name, suburb or postal code)
+ * appears in it; the centroid lets the dispatch planner combine nearby small areas
+ * into one trip. Maps to the "delivery_areas" table in MySQL.
+ */
+@Entity
+@Table(name = "delivery_areas")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeliveryArea {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Short area code shown to dispatchers, e.g. "COL-03". */
+    @Column(nullable = false, unique = true, length = 30)
+    private String code;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    /**
+     * Comma-separated match keywords, e.g. "colombo 03, kollupitiya, 00300".
+     * Matched case-insensitively against whole words of the delivery address.
+     */
+    @Column(nullable = false, length = 500)
+    private String keywords;
+
+    @Column(nullable = false)
+    private double latitude;
+
+    @Column(nullable = false)
+    private double longitude;
+}
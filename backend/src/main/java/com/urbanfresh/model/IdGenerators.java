@@ -0,0 +1,34 @@
+package com.urbanfresh.model;
+
+import java.util.List;
+
+/**
+ * Domain Layer – Shared mapping for pooled table-generated IDs.
+ *
+ * Hibernate cannot batch inserts of IDENTITY entities: it must execute each INSERT
+ * immediately to read back the generated key. High-volume child rows (order items, batch
+ * allocations, notifications, waste records) therefore take their IDs from one row per
+ * table in id_generators instead. The pooled optimizer reserves ALLOCATION_SIZE IDs per
+ * round trip, and the inserts themselves go out as JDBC batches of hibernate.jdbc.batch_size.
+ *
+ * Rows written outside Hibernate must either use explicit IDs and then advance the
+ * generator, or never touch these tables. V2__pooled_id_generators.sql moves every
+ * generator past the existing IDs, and PooledIdGeneratorVerifier refuses to start when a
+ * generator would hand out IDs that are already taken.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generators";
+    public static final String NAME_COLUMN = "gen_name";
+    public static final String VALUE_COLUMN = "next_val";
+
+    /** IDs reserved per generator round trip; matches hibernate.jdbc.batch_size. */
+    public static final int ALLOCATION_SIZE = 50;
+
+    /** Tables with a pooled generator; each generator row is named after its table. */
+    public static final List<String> POOLED_TABLES = List.of(
+            "order_items", "order_item_batch_allocations", "notifications", "waste_records");
+
+    private IdGenerators() {
+    }
+}
@@ -0,0 +1,36 @@
+package com.urbanfresh.model;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Domain Layer – Running KPI total maintained incrementally by KpiCounterOutboxHandler.
+ * Lets the admin dashboard read a single row instead of aggregating the orders table.
+ * Maps to the "kpi_counters" table in MySQL.
+ */
+@Entity
+@Table(name = "kpi_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class KpiCounter {
+
+    /** Sum of totalAmount over all paid orders. */
+    public static final String PAID_REVENUE = "paid_revenue";
+
+    @Id
+    @Column(length = 60)
+    private String name;
+
+    @Column(name = "counter_value", nullable = false, precision = 19, scale = 2)
+    private BigDecimal value;
+}
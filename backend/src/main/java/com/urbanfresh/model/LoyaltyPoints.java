@@ -20,8 +20,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 /**
- * Domain Layer – JPA entity representing a customer's loyalty points ledger.
- * One record per customer; updated each time an order is placed.
+ * Domain Layer – JPA entity holding a customer's loyalty balance.
+ * One record per customer, maintained by atomic increments as entries are appended to
+ * the loyalty_transactions ledger.
  * Conversion rule: 1 point awarded for every LKR 100 spent.
  * Maps to the "loyalty_points" table in MySQL.
  */
@@ -43,12 +44,12 @@ public class LoyaltyPoints {
     @JoinColumn(name = "user_id", nullable = false, unique = true)
     private User customer;
 
-    /** Total lifetime points earned (never decrements — historical record). */
+    /** Total lifetime points earned, net of reversals for cancelled orders. */
     @Column(nullable = false)
     @Builder.Default
     private int earnedPoints = 0;
 
-    /** Total points redeemed by the customer. Reserved for future sprint use. */
+    /** Total points redeemed by the customer, net of points returned by reversals. */
     @Column(nullable = false)
     @Builder.Default
     private int redeemedPoints = 0;
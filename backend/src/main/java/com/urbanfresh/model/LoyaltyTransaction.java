@@ -0,0 +1,68 @@
+package com.urbanfresh.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Domain Layer – Append-only entry in a customer's loyalty ledger.
+ * Rows are written once by LoyaltyServiceImpl and never updated apart from balance_after,
+ * which records the running balance right after the entry so a balance can be audited
+ * without replaying the ledger. The unique idempotency key makes every entry apply once.
+ * Maps to the "loyalty_transactions" table in MySQL.
+ */
+@Entity
+@Table(name = "loyalty_transactions", indexes = {
+        @Index(name = "idx_loyalty_tx_user", columnList = "user_id, id"),
+        @Index(name = "idx_loyalty_tx_order", columnList = "order_id, entry_type")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoyaltyTransaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long customerId;
+
+    /** Order the entry settles; null for manual adjustments. */
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 20)
+    private LoyaltyTransactionType type;
+
+    /** Signed change to the available balance. */
+    @Column(nullable = false)
+    private int points;
+
+    /** Available balance immediately after this entry was applied. */
+    @Column(name = "balance_after")
+    private Integer balanceAfter;
+
+    /** e.g. "order-42-earn"; unique so retried settlements are ignored. */
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,13 @@
+package com.urbanfresh.model;
+
+/**
+ * Domain Layer – Kind of entry in the append-only loyalty ledger.
+ */
+public enum LoyaltyTransactionType {
+    /** Points credited for a paid order (positive). */
+    EARN,
+    /** Points consumed as a checkout discount once the order is paid (negative). */
+    REDEEM,
+    /** Undoes an order's EARN and REDEEM entries when a paid order is cancelled. */
+    REVERSE
+}
@@ -17,6 +17,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -35,7 +36,10 @@ import lombok.Setter;
  * Maps to the "orders" table in MySQL.
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // Dispatch planning and rider load queries filter on status and assigned rider
+        @Index(name = "idx_orders_status_rider", columnList = "status, assigned_delivery_person_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
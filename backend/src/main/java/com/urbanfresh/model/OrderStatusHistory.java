@@ -13,6 +13,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -25,10 +26,14 @@ import lombok.Setter;
 
 /**
  * Persists each admin- or delivery-initiated order status transition for auditability.
+ * Rows are written in batches by OrderStatusHistoryAppender; the entity is used for reads.
  * Layer: Entity
  */
 @Entity
-@Table(name = "order_status_history")
+@Table(name = "order_status_history", indexes = {
+        // Serves per-order history reads (review screen) and terminal-status lookups
+        @Index(name = "idx_order_status_history_order_changed", columnList = "order_id, changed_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,74 @@
+package com.urbanfresh.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Domain Layer – Transactional outbox row.
+ * Written in the same transaction as the state change it describes, so a side effect is
+ * recorded if and only if the change commits. OutboxDispatcher delivers unpublished rows
+ * to the registered OutboxEventHandlers and stamps publishedAt.
+ * Maps to the "outbox_events" table in MySQL.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_published_id", columnList = "published_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private OutboxEventType eventType;
+
+    /** ID of the entity the event concerns (currently always an order ID). */
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    /** Event payload serialised as JSON. */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    /** Delivery attempts that had at least one failing handler. */
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /** Null until every handler has processed the event. */
+    private LocalDateTime publishedAt;
+
+    /** Populate timestamp before first insert. */
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,14 @@
+package com.urbanfresh.model;
+
+/**
+ * Domain Layer – Kinds of side-effect events written to the transactional outbox.
+ * Each type has a matching payload record in com.urbanfresh.event.
+ */
+public enum OutboxEventType {
+
+    /** Order moved between statuses; payload: OrderStatusChangedPayload. */
+    ORDER_STATUS_CHANGED,
+
+    /** Payment for an order was confirmed; payload: OrderPaidPayload. */
+    ORDER_PAID
+}
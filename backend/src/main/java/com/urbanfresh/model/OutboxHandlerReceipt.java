@@ -0,0 +1,46 @@
+package com.urbanfresh.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Domain Layer – Dedup record proving a handler has applied an outbox event.
+ * Inserted in the handler's own transaction, so redelivery after a crash or a partial
+ * failure never repeats a side effect. Maps to the "outbox_handler_receipts" table.
+ */
+@Entity
+@Table(name = "outbox_handler_receipts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_outbox_receipt_event_handler", columnNames = {"event_id", "handler"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxHandlerReceipt {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false, length = 40)
+    private String handler;
+
+    @Column(nullable = false)
+    private LocalDateTime processedAt;
+}
@@ -15,6 +15,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -33,7 +34,12 @@ import lombok.Setter;
  * Maps to the "products" table in MySQL.
  */
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        // Keyset pagination for the admin inventory console (ORDER BY name, id)
+        @Index(name = "idx_products_name_id", columnList = "name, id"),
+        // Low-stock view: range scan on stock_gap <= 0, most critical first
+        @Index(name = "idx_products_stock_gap", columnList = "stock_gap, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -110,6 +116,27 @@ public class Product {
     @Builder.Default
     private int reorderThreshold = 0;
 
+    /**
+     * stockQuantity - reorderThreshold, maintained by MySQL as a STORED generated column
+     * so the low-stock view can be served from an index instead of a full table scan.
+     * Read-only from JPA; a value &lt;= 0 means the product is at or below its reorder threshold.
+     */
+    @Column(name = "stock_gap", insertable = false, updatable = false,
+            columnDefinition = "INT GENERATED ALWAYS AS (stock_quantity - reorder_threshold) STORED")
+    private Integer stockGap;
+
+    /**
+     * Last auto-generated batch sequence number for this product ("BATCH-{id}-{seq}").
+     * Advanced by ProductBatchService.receiveBatches under a row lock so receiving never
+     * needs a COUNT over product_batches per line.
+     * Read-only to JPA: that locked JDBC UPDATE is its only writer, so unlocked full-entity
+     * saves elsewhere can never write back a stale value.
+     */
+    @Column(nullable = false, insertable = false, updatable = false,
+            columnDefinition = "INT NOT NULL DEFAULT 0")
+    @Builder.Default
+    private int batchSequence = 0;
+
     /** Email of the admin who last updated inventory fields (stockQuantity / reorderThreshold). */
     @Column(length = 150)
     private String inventoryUpdatedBy;
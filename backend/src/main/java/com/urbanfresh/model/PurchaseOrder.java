@@ -9,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -30,7 +31,12 @@ import java.util.List;
  * Allows suppliers to view and update shipment status for inventory restocking.
  */
 @Entity
-@Table(name = "purchase_orders")
+@Table(name = "purchase_orders", indexes = {
+        // Paginated admin listing: optional status filter, newest first
+        @Index(name = "idx_purchase_orders_status_created", columnList = "status, created_at"),
+        // Supplier portal listing scoped by brand, newest first
+        @Index(name = "idx_purchase_orders_brand_created", columnList = "brand_id, created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,81 @@
+package com.urbanfresh.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Domain Layer – Inbox row for a verified Stripe webhook event.
+ * The unique event_id makes ingestion idempotent: Stripe retries of the same event are
+ * dropped at insert time. Rows are applied asynchronously by WebhookInboxDispatcher.
+ * Maps to the "stripe_webhook_inbox" table in MySQL.
+ */
+@Entity
+@Table(name = "stripe_webhook_inbox", indexes = {
+        @Index(name = "idx_webhook_inbox_status_received", columnList = "status, received_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WebhookInboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Stripe event ID (e.g. "evt_1Abc…"); unique so duplicates are rejected. */
+    @Column(nullable = false, unique = true, length = 100)
+    private String eventId;
+
+    @Column(nullable = false, length = 60)
+    private String eventType;
+
+    /** PaymentIntent the event concerns; partition key that keeps per-payment ordering. */
+    @Column(length = 100)
+    private String paymentIntentId;
+
+    /** Raw, signature-verified event JSON. */
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private WebhookInboxStatus status = WebhookInboxStatus.RECEIVED;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime receivedAt;
+
+    private LocalDateTime processedAt;
+
+    /** Populate timestamp before first insert. */
+    @PrePersist
+    protected void onCreate() {
+        if (receivedAt == null) {
+            receivedAt = LocalDateTime.now();
+        }
+    }
+}
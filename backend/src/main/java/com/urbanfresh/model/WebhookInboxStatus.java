@@ -0,0 +1,17 @@
+package com.urbanfresh.model;
+
+/**
+ * Domain Layer – Processing state of a persisted Stripe webhook event.
+ * RECEIVED and FAILED rows are picked up again by WebhookInboxRetryScheduler.
+ */
+public enum WebhookInboxStatus {
+
+    /** Verified and stored; not yet applied. */
+    RECEIVED,
+
+    /** Applied to payments/orders. Terminal. */
+    PROCESSED,
+
+    /** Last attempt threw; retried until the attempt limit is reached. */
+    FAILED
+}
@@ -0,0 +1,11 @@
+package com.urbanfresh.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.urbanfresh.model.DeliveryArea;
+
+/**
+ * Repository Layer – Data access for the delivery-area lookup table used by dispatch planning.
+ */
+public interface DeliveryAreaRepository extends JpaRepository<DeliveryArea, Long> {
+}
@@ -0,0 +1,11 @@
+package com.urbanfresh.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.urbanfresh.model.KpiCounter;
+
+/**
+ * Repository Layer – Data access for dashboard KPI counters, keyed by counter name.
+ */
+public interface KpiCounterRepository extends JpaRepository<KpiCounter, String> {
+}
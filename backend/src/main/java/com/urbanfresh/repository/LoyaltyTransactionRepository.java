@@ -0,0 +1,23 @@
+package com.urbanfresh.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.urbanfresh.model.LoyaltyTransaction;
+
+/**
+ * Repository Layer – Read access to the loyalty ledger. Entries are inserted by
+ * LoyaltyServiceImpl through JDBC so duplicates can be ignored at insert time.
+ */
+public interface LoyaltyTransactionRepository extends JpaRepository<LoyaltyTransaction, Long> {
+
+    /**
+     * Ledger entries for a customer, newest first.
+     *
+     * @param customerId customer user ID
+     * @param pageable   page request
+     * @return page of ledger entries
+     */
+    Page<LoyaltyTransaction> findByCustomerIdOrderByIdDesc(Long customerId, Pageable pageable);
+}
@@ -86,21 +86,15 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     Page<Order> findByAssignedDeliveryPersonIdOrderByCreatedAtDesc(Long assignedDeliveryPersonId, Pageable pageable);
 
     /**
-     * Counts all orders currently or historically assigned to the given delivery person.
+     * Counts orders assigned to the given delivery person, grouped by status, in one query.
+     * Statuses with no orders are absent from the result.
      *
      * @param assignedDeliveryPersonId delivery person user ID
-     * @return total assigned order count
+     * @return one row per status with its order count
      */
-    long countByAssignedDeliveryPersonId(Long assignedDeliveryPersonId);
-
-    /**
-     * Counts assigned orders by a specific status for the given delivery person.
-     *
-     * @param assignedDeliveryPersonId delivery person user ID
-     * @param status order status to filter by
-     * @return assigned order count for the requested status
-     */
-    long countByAssignedDeliveryPersonIdAndStatus(Long assignedDeliveryPersonId, OrderStatus status);
+    @Query("SELECT o.status AS status, COUNT(o) AS total FROM Order o " +
+           "WHERE o.assignedDeliveryPerson.id = :deliveryPersonId GROUP BY o.status")
+    List<StatusCount> countByStatusForDeliveryPerson(@Param("deliveryPersonId") Long assignedDeliveryPersonId);
 
     /**
      * Finds stale PENDING orders older than the given cutoff time.
@@ -158,4 +152,10 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     @Query("SELECT COALESCE(SUM(o.totalAmount), 0) FROM Order o WHERE o.paymentStatus = :status")
     BigDecimal sumTotalAmountByPaymentStatus(@Param("status") PaymentStatus status);
+
+    /** Aggregate projection of one status bucket. */
+    interface StatusCount {
+        OrderStatus getStatus();
+        Long getTotal();
+    }
 }
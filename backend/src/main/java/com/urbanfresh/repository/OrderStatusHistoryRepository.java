@@ -1,9 +1,13 @@
 package com.urbanfresh.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.urbanfresh.model.OrderStatus;
@@ -25,6 +29,40 @@ public interface OrderStatusHistoryRepository extends JpaRepository<OrderStatusH
 	@EntityGraph(attributePaths = "changedByAdmin")
 	List<OrderStatusHistory> findByOrderIdOrderByChangedAtDesc(Long orderId);
 
+	/**
+	 * Compact, newest-first history for the admin review screen.
+	 * Resolves the actor name in the same query, so no user entities are loaded.
+	 *
+	 * @param orderId target order ID
+	 * @return history views; actor is "System" for automatic transitions
+	 */
+	@Query("""
+			SELECT h.previousStatus AS previousStatus, h.newStatus AS newStatus,
+			       COALESCE(a.name, d.name, 'System') AS changedBy,
+			       h.changeReason AS changeReason, h.changedAt AS changedAt
+			FROM OrderStatusHistory h
+			LEFT JOIN h.changedByAdmin a
+			LEFT JOIN h.changedByDelivery d
+			WHERE h.order.id = :orderId
+			ORDER BY h.changedAt DESC, h.id DESC
+			""")
+	List<HistoryView> findHistoryViewsByOrderId(@Param("orderId") Long orderId);
+
+	/**
+	 * Latest time each order entered one of the given statuses, as [orderId, changedAt] pairs.
+	 *
+	 * @param orderIds target order IDs
+	 * @param statuses statuses to include (e.g. DELIVERED/RETURNED)
+	 */
+	@Query("""
+			SELECT h.order.id, MAX(h.changedAt)
+			FROM OrderStatusHistory h
+			WHERE h.order.id IN :orderIds AND h.newStatus IN :statuses
+			GROUP BY h.order.id
+			""")
+	List<Object[]> findLatestChangeTimes(@Param("orderIds") Collection<Long> orderIds,
+			@Param("statuses") Collection<OrderStatus> statuses);
+
 	/**
 	 * Returns history rows for the given orders and target statuses ordered by latest change first.
 	 *
@@ -36,4 +74,13 @@ public interface OrderStatusHistoryRepository extends JpaRepository<OrderStatusH
 			List<Long> orderIds,
 			List<OrderStatus> statuses
 	);
+
+	/** Read-only projection of one history row for review screens. */
+	interface HistoryView {
+		OrderStatus getPreviousStatus();
+		OrderStatus getNewStatus();
+		String getChangedBy();
+		String getChangeReason();
+		LocalDateTime getChangedAt();
+	}
 }
@@ -0,0 +1,30 @@
+package com.urbanfresh.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.urbanfresh.model.OutboxEvent;
+
+/**
+ * Repository Layer – Data access for transactional outbox rows.
+ * Publication stamps and failure counters are written in bulk by OutboxDispatcher via JDBC.
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Oldest unpublished events still under the attempt limit; served by idx_outbox_published_id.
+     *
+     * @param maxAttempts events that failed this many times are left for manual review
+     * @param pageable    batch size
+     */
+    @Query("""
+            SELECT e FROM OutboxEvent e
+            WHERE e.publishedAt IS NULL AND e.attempts < :maxAttempts
+            ORDER BY e.id
+            """)
+    List<OutboxEvent> findPending(@Param("maxAttempts") int maxAttempts, Pageable pageable);
+}
@@ -1,6 +1,7 @@
 package com.urbanfresh.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.urbanfresh.dto.response.ExpiryProductResponse;
 import com.urbanfresh.model.ProductBatch;
 
 /**
@@ -31,6 +33,19 @@ public interface ProductBatchRepository extends JpaRepository<ProductBatch, Long
            "ORDER BY b.expiryDate ASC")
     List<ProductBatch> findAllocatableBatchesByProductId(@Param("productId") Long productId);
 
+    /**
+     * Bulk variant of findAllocatableBatchesByProductId: loads the allocatable batches of
+     * many products in one query, grouped by product and FIFO-ordered within each product.
+     *
+     * @param productIds product IDs to query
+     * @return allocatable batches ordered by (product, expiryDate)
+     */
+    @Query("SELECT b FROM ProductBatch b WHERE b.product.id IN :productIds " +
+           "AND b.status IN ('ACTIVE', 'NEAR_EXPIRY') " +
+           "AND b.availableQuantity > 0 " +
+           "ORDER BY b.product.id ASC, b.expiryDate ASC")
+    List<ProductBatch> findAllocatableBatchesByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
     /**
      * Returns all batches for a product ordered by expiry date ascending.
      * Used by admin views to inspect full batch inventory.
@@ -99,4 +114,51 @@ public interface ProductBatchRepository extends JpaRepository<ProductBatch, Long
            "AND b.status IN ('ACTIVE', 'NEAR_EXPIRY') " +
            "ORDER BY b.expiryDate ASC")
     List<ProductBatch> findActiveBatchesByProductId(@Param("productId") Long productId);
+
+    /**
+     * Aggregates the expiry dashboard rows in a single round-trip: one row per in-stock
+     * approved product that has at least one allocatable batch expiring within [today, cutoff],
+     * carrying the brand name and the earliest allocatable batch expiry.
+     * Replaces the per-product MIN(expiryDate) lookups previously issued while bucketing.
+     * daysUntilExpiry is left at 0 and filled in by the service.
+     *
+     * @param today  inclusive start of the window
+     * @param cutoff inclusive end of the window
+     * @return rows ordered by earliest batch expiry ascending
+     */
+    @Query("SELECT NEW com.urbanfresh.dto.response.ExpiryProductResponse(" +
+           "  p.id, p.name, p.category, br.name, p.price, p.unit, p.stockQuantity, " +
+           "  MIN(b.expiryDate), p.discountPercentage) " +
+           "FROM ProductBatch b JOIN b.product p LEFT JOIN p.brand br " +
+           "WHERE p.stockQuantity > 0 AND p.approvalStatus = 'APPROVED' " +
+           "AND b.status IN ('ACTIVE', 'NEAR_EXPIRY') AND b.availableQuantity > 0 " +
+           "GROUP BY p.id, p.name, p.category, br.name, p.price, p.unit, p.stockQuantity, p.discountPercentage " +
+           "HAVING MAX(CASE WHEN b.expiryDate BETWEEN :today AND :cutoff THEN 1 ELSE 0 END) = 1 " +
+           "ORDER BY MIN(b.expiryDate) ASC")
+    List<ExpiryProductResponse> findExpiryDashboardRows(
+            @Param("today") LocalDate today,
+            @Param("cutoff") LocalDate cutoff);
+
+    /**
+     * Expiry dashboard rows for legacy products that predate batch tracking: in-stock approved
+     * products with no allocatable batch, whose product-level expiryDate falls within
+     * [today, cutoff]. Complements findExpiryDashboardRows, which only sees batched products,
+     * and restores the product.expiryDate fallback of the per-product lookup it replaced.
+     *
+     * @param today  inclusive start of the window
+     * @param cutoff inclusive end of the window
+     * @return rows ordered by product expiry ascending
+     */
+    @Query("SELECT NEW com.urbanfresh.dto.response.ExpiryProductResponse(" +
+           "  p.id, p.name, p.category, br.name, p.price, p.unit, p.stockQuantity, " +
+           "  p.expiryDate, p.discountPercentage) " +
+           "FROM Product p LEFT JOIN p.brand br " +
+           "WHERE p.stockQuantity > 0 AND p.approvalStatus = 'APPROVED' " +
+           "AND p.expiryDate BETWEEN :today AND :cutoff " +
+           "AND NOT EXISTS (SELECT 1 FROM ProductBatch b WHERE b.product = p " +
+           "  AND b.status IN ('ACTIVE', 'NEAR_EXPIRY') AND b.availableQuantity > 0) " +
+           "ORDER BY p.expiryDate ASC")
+    List<ExpiryProductResponse> findLegacyExpiryDashboardRows(
+            @Param("today") LocalDate today,
+            @Param("cutoff") LocalDate cutoff);
 }
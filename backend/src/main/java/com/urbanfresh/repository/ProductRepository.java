@@ -1,6 +1,7 @@
 package com.urbanfresh.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +13,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.urbanfresh.dto.response.InventoryResponse;
 import com.urbanfresh.model.Product;
 
 import jakarta.persistence.LockModeType;
@@ -188,6 +190,68 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      *
      * @return count of low-stock products across the entire catalogue
      */
-    @Query("SELECT COUNT(p) FROM Product p WHERE p.stockQuantity <= p.reorderThreshold")
+    @Query("SELECT COUNT(p) FROM Product p WHERE p.stockGap <= 0")
     long countLowStockProducts();
+
+    /**
+     * Returns which of the given IDs belong to existing products, without loading entities.
+     * Used by bulk inventory adjustment to report unknown product IDs per row.
+     *
+     * @param ids candidate product IDs
+     * @return the subset of IDs that exist
+     */
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Keyset-paginated inventory page projected straight into InventoryResponse,
+     * so no Product entities or Brand proxies are loaded.
+     * Rows are ordered by (name, id); pass the last row's name and id as the cursor
+     * to fetch the next page. Null filter parameters disable that filter.
+     *
+     * @param lowStockOnly when true, only products at or below their reorder threshold
+     * @param category     optional exact category filter
+     * @param brandId      optional brand filter
+     * @param afterName    name of the last row on the previous page; null for the first page
+     * @param afterId      id of the last row on the previous page; ignored when afterName is null
+     * @param pageable     page size (page index is always 0 — the cursor does the seeking)
+     * @return up to pageable.getPageSize() inventory rows
+     */
+    @Query("SELECT NEW com.urbanfresh.dto.response.InventoryResponse(" +
+           "  p.id, p.name, p.category, p.stockQuantity, p.reorderThreshold, p.brand.id, " +
+           "  CASE WHEN p.stockGap <= 0 THEN true ELSE false END, p.updatedAt, p.inventoryUpdatedBy) " +
+           "FROM Product p " +
+           "WHERE (:lowStockOnly = false OR p.stockGap <= 0) " +
+           "AND (:category IS NULL OR p.category = :category) " +
+           "AND (:brandId IS NULL OR p.brand.id = :brandId) " +
+           "AND (:afterName IS NULL OR p.name > :afterName OR (p.name = :afterName AND p.id > :afterId)) " +
+           "ORDER BY p.name ASC, p.id ASC")
+    List<InventoryResponse> findInventoryPage(
+            @Param("lowStockOnly") boolean lowStockOnly,
+            @Param("category") String category,
+            @Param("brandId") Long brandId,
+            @Param("afterName") String afterName,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    /**
+     * Keyset-paginated low-stock view served from idx_products_stock_gap.
+     * Ordered by (stockGap, id) so the furthest-below-threshold products come first.
+     *
+     * @param afterGap stock gap of the last row on the previous page; null for the first page
+     * @param afterId  id of the last row on the previous page; ignored when afterGap is null
+     * @param pageable page size
+     * @return up to pageable.getPageSize() low-stock inventory rows
+     */
+    @Query("SELECT NEW com.urbanfresh.dto.response.InventoryResponse(" +
+           "  p.id, p.name, p.category, p.stockQuantity, p.reorderThreshold, p.brand.id, " +
+           "  true, p.updatedAt, p.inventoryUpdatedBy) " +
+           "FROM Product p " +
+           "WHERE p.stockGap <= 0 " +
+           "AND (:afterGap IS NULL OR p.stockGap > :afterGap OR (p.stockGap = :afterGap AND p.id > :afterId)) " +
+           "ORDER BY p.stockGap ASC, p.id ASC")
+    List<InventoryResponse> findLowStockPage(
+            @Param("afterGap") Integer afterGap,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
 }
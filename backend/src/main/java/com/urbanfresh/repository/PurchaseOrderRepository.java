@@ -1,22 +1,101 @@
 package com.urbanfresh.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.urbanfresh.model.PurchaseOrder;
+import com.urbanfresh.model.PurchaseOrderStatus;
 
 /**
  * Repository Layer - JPA repository for managing PurchaseOrder entities.
+ * List reads fetch brand, items and item products through an entity graph so mapping
+ * to PurchaseOrderDto never triggers lazy loads. Paginated reads page over IDs first and
+ * then fetch the details for that page, avoiding in-memory pagination of a collection fetch.
  */
 @Repository
 public interface PurchaseOrderRepository extends JpaRepository<PurchaseOrder, Long> {
 
-    /** Fetch all purchase orders for a list of brands. */
+    /** Fetch all purchase orders, newest first, with brand, items and products in one query. */
+    @EntityGraph(attributePaths = {"brand", "items", "items.product"})
+    List<PurchaseOrder> findAllByOrderByCreatedAtDesc();
+
+    /** Fetch all purchase orders for a list of brands, with brand, items and products in one query. */
+    @EntityGraph(attributePaths = {"brand", "items", "items.product"})
     List<PurchaseOrder> findByBrandIdInOrderByCreatedAtDesc(List<Long> brandIds);
 
+    /** Fetch one purchase order with brand, items and item products (used when receiving stock). */
+    @EntityGraph(attributePaths = {"brand", "items", "items.product"})
+    Optional<PurchaseOrder> findWithDetailsById(Long id);
+
     /** Fetch a specific purchase order only if it belongs to one of the given brands. */
     Optional<PurchaseOrder> findByIdAndBrandIdIn(Long id, List<Long> brandIds);
-}
\ No newline at end of file
+
+    /**
+     * Pages over purchase order IDs with an optional status filter.
+     * Sorting is taken from the Pageable (createdAt DESC, id DESC by default in the services).
+     *
+     * @param status   optional status filter; null returns all statuses
+     * @param pageable page request including sort
+     * @return page of IDs with the total count
+     */
+    @Query(value = "SELECT po.id FROM PurchaseOrder po WHERE (:status IS NULL OR po.status = :status)",
+           countQuery = "SELECT COUNT(po) FROM PurchaseOrder po WHERE (:status IS NULL OR po.status = :status)")
+    Page<Long> findIdsByStatus(@Param("status") PurchaseOrderStatus status, Pageable pageable);
+
+    /**
+     * Brand-scoped variant of findIdsByStatus for the supplier portal.
+     *
+     * @param brandIds brands the supplier is mapped to
+     * @param status   optional status filter; null returns all statuses
+     * @param pageable page request including sort
+     * @return page of IDs with the total count
+     */
+    @Query(value = "SELECT po.id FROM PurchaseOrder po WHERE po.brand.id IN :brandIds " +
+                   "AND (:status IS NULL OR po.status = :status)",
+           countQuery = "SELECT COUNT(po) FROM PurchaseOrder po WHERE po.brand.id IN :brandIds " +
+                        "AND (:status IS NULL OR po.status = :status)")
+    Page<Long> findIdsByBrandIdInAndStatus(
+            @Param("brandIds") Collection<Long> brandIds,
+            @Param("status") PurchaseOrderStatus status,
+            Pageable pageable);
+
+    /**
+     * Loads the given purchase orders with brand, items and item products in one query.
+     * Result order is unspecified; findWithDetailsByIdPage re-orders by the ID page.
+     *
+     * @param ids purchase order IDs of one page
+     * @return fully initialised purchase orders
+     */
+    @EntityGraph(attributePaths = {"brand", "items", "items.product"})
+    @Query("SELECT DISTINCT po FROM PurchaseOrder po WHERE po.id IN :ids")
+    List<PurchaseOrder> findWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Turns a page of IDs into a page of fully initialised purchase orders, keeping the
+     * ID page's order, pageable and total. One query, skipped when the page is empty.
+     *
+     * @param idPage page from findIdsByStatus or findIdsByBrandIdInAndStatus
+     * @return purchase orders with brand, items and item products loaded
+     */
+    default Page<PurchaseOrder> findWithDetailsByIdPage(Page<Long> idPage) {
+        if (idPage.isEmpty()) {
+            return new PageImpl<>(List.of(), idPage.getPageable(), idPage.getTotalElements());
+        }
+        Map<Long, PurchaseOrder> byId = findWithDetailsByIdIn(idPage.getContent()).stream()
+                .collect(Collectors.toMap(PurchaseOrder::getId, Function.identity()));
+        return idPage.map(byId::get);
+    }
+}
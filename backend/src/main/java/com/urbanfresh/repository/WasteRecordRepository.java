@@ -1,6 +1,7 @@
 package com.urbanfresh.repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -32,9 +33,12 @@ public interface WasteRecordRepository extends JpaRepository<WasteRecord, Long>
      */
     boolean existsByBatchId(Long batchId);
 
-    /** Sums wasted value for records whose expiryDate falls within the given month. */
+    /**
+     * Sums wasted value for records whose expiryDate falls in [from, to).
+     * A plain range (not YEAR()/MONTH()) so idx_waste_records_expiry can serve it.
+     */
     @Query("SELECT COALESCE(SUM(w.wastedValue), 0) FROM WasteRecord w " +
-           "WHERE YEAR(w.expiryDate) = :year AND MONTH(w.expiryDate) = :month")
-    BigDecimal sumWastedValueByMonth(@Param("year") int year,
-                                     @Param("month") int month);
+           "WHERE w.expiryDate >= :from AND w.expiryDate < :to")
+    BigDecimal sumWastedValueBetween(@Param("from") LocalDate from,
+                                     @Param("to") LocalDate to);
 }
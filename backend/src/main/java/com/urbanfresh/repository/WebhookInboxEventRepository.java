@@ -0,0 +1,51 @@
+package com.urbanfresh.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.urbanfresh.model.WebhookInboxEvent;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Repository Layer – Data access for the Stripe webhook inbox.
+ * Ingestion inserts through JDBC (no-op upsert on event_id) in PaymentServiceImpl; this repository
+ * serves the worker and the retry sweep.
+ */
+public interface WebhookInboxEventRepository extends JpaRepository<WebhookInboxEvent, Long> {
+
+    /**
+     * Loads an inbox row with a row lock so two instances never apply the same event at once.
+     *
+     * @param id inbox row ID
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM WebhookInboxEvent e WHERE e.id = :id")
+    Optional<WebhookInboxEvent> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Events that still need work: RECEIVED rows older than the cutoff (lost from the in-memory
+     * queue, e.g. by a restart) and FAILED rows under the attempt limit. Oldest first.
+     *
+     * @param cutoff      only rows received before this instant
+     * @param maxAttempts FAILED rows at or above this attempt count are left for manual review
+     * @param pageable    sweep size
+     */
+    @Query("""
+            SELECT e FROM WebhookInboxEvent e
+            WHERE e.receivedAt < :cutoff
+              AND (e.status = com.urbanfresh.model.WebhookInboxStatus.RECEIVED
+                   OR (e.status = com.urbanfresh.model.WebhookInboxStatus.FAILED AND e.attempts < :maxAttempts))
+            ORDER BY e.id
+            """)
+    List<WebhookInboxEvent> findRetryable(@Param("cutoff") LocalDateTime cutoff,
+                                          @Param("maxAttempts") int maxAttempts,
+                                          Pageable pageable);
+}
@@ -5,11 +5,13 @@ import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.urbanfresh.event.InventoryChangedEvent;
 import com.urbanfresh.model.BatchStatus;
 import com.urbanfresh.model.Product;
 import com.urbanfresh.model.ProductBatch;
@@ -43,6 +45,7 @@ public class BatchExpiryScheduler {
     private final ProductBatchRepository productBatchRepository;
     private final ProductRepository productRepository;
     private final WasteRecordRepository wasteRecordRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Scheduled entry point — runs at midnight every day.
@@ -54,6 +57,7 @@ public class BatchExpiryScheduler {
         log.info("[BatchExpiryScheduler] Running expiry update for date={}", today);
         expireDateExpiredBatches(today);
         markNearExpiryBatches(today);
+        eventPublisher.publishEvent(InventoryChangedEvent.forAllProducts());
     }
 
     /**
@@ -68,6 +72,7 @@ public class BatchExpiryScheduler {
         log.info("[BatchExpiryScheduler] Running startup expiry update for date={}", today);
         expireDateExpiredBatches(today);
         markNearExpiryBatches(today);
+        eventPublisher.publishEvent(InventoryChangedEvent.forAllProducts());
     }
 
     /**
@@ -0,0 +1,60 @@
+package com.urbanfresh.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.urbanfresh.service.impl.CoPurchaseIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Scheduler – maintains the in-memory "frequently bought together" index.
+ *
+ * A full rebuild runs once shortly after startup and again nightly; in between, compaction
+ * publishes fresh top-K complements for products touched by newly paid orders.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoPurchaseIndexScheduler {
+
+    private final CoPurchaseIndex coPurchaseIndex;
+
+    /**
+     * Initial build — runs once after startup.
+     */
+    @Scheduled(initialDelayString = "${app.co-purchase.initial-delay-ms:45000}")
+    public void initialBuild() {
+        rebuild();
+    }
+
+    /**
+     * Nightly rebuild — 03:30 by default, after the day's cancellations have settled.
+     */
+    @Scheduled(cron = "${app.co-purchase.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        try {
+            int products = coPurchaseIndex.rebuild();
+            log.info("[CoPurchaseIndexScheduler] Co-purchase index rebuilt for {} product(s)", products);
+        } catch (RuntimeException ex) {
+            // Keep serving the previous snapshot; the next run retries
+            log.error("[CoPurchaseIndexScheduler] Co-purchase index rebuild failed", ex);
+        }
+    }
+
+    /**
+     * Compaction — every minute by default.
+     */
+    @Scheduled(fixedDelayString = "${app.co-purchase.compact-interval-ms:60000}")
+    public void compact() {
+        try {
+            int products = coPurchaseIndex.compact();
+            if (products > 0) {
+                log.debug("[CoPurchaseIndexScheduler] Recomputed complements for {} product(s)", products);
+            }
+        } catch (RuntimeException ex) {
+            log.error("[CoPurchaseIndexScheduler] Co-purchase compaction failed", ex);
+        }
+    }
+}
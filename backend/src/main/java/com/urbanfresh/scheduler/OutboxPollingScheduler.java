@@ -0,0 +1,62 @@
+package com.urbanfresh.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.urbanfresh.service.impl.OutboxDispatcher;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Scheduler – polls the transactional outbox and dispatches pending events.
+ *
+ * Runs with a short fixed delay so side effects (notifications, loyalty, read-model
+ * invalidation, KPI counters) follow the committing transaction within about a second.
+ * A fixed delay never overlaps itself, so one instance never dispatches a batch twice.
+ * An hourly retention job deletes published events and their receipts once they are
+ * older than app.outbox.retention-days.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxPollingScheduler {
+
+    private final OutboxDispatcher outboxDispatcher;
+
+    @Value("${app.outbox.retention-days:14}")
+    private int retentionDays;
+
+    @Value("${app.outbox.purge-chunk-size:1000}")
+    private int purgeChunkSize;
+
+    /**
+     * Scheduled entry point — runs one second after the previous poll finished by default.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void dispatchOutbox() {
+        int published = outboxDispatcher.dispatchPending();
+        if (published > 0) {
+            log.debug("[OutboxPollingScheduler] Published {} outbox event(s)", published);
+        }
+    }
+
+    /**
+     * Retention — hourly by default. Dead-lettered (never published) events are kept.
+     */
+    @Scheduled(cron = "${app.outbox.purge-cron:0 15 * * * *}")
+    public void purgePublishedEvents() {
+        try {
+            int deleted = outboxDispatcher.purgePublished(LocalDateTime.now().minusDays(retentionDays), purgeChunkSize);
+            if (deleted > 0) {
+                log.info("[OutboxPollingScheduler] Purged {} published outbox event(s) older than {} day(s)",
+                        deleted, retentionDays);
+            }
+        } catch (RuntimeException ex) {
+            log.error("[OutboxPollingScheduler] Outbox purge failed", ex);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.urbanfresh.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.urbanfresh.service.RecommendationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Scheduler – rebuilds the precomputed recommendation model.
+ *
+ * The first build runs shortly after startup; until it completes, customers are served by
+ * the live purchase-frequency query. Later builds replace the model on a fixed delay, so a
+ * slow build never overlaps the next one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationModelScheduler {
+
+    private final RecommendationService recommendationService;
+
+    /**
+     * Scheduled entry point — every six hours by default.
+     */
+    @Scheduled(initialDelayString = "${app.recommendations.initial-delay-ms:30000}",
+               fixedDelayString = "${app.recommendations.rebuild-interval-ms:21600000}")
+    public void rebuildModel() {
+        try {
+            int customers = recommendationService.rebuildModel();
+            log.info("[RecommendationModelScheduler] Recommendation model rebuilt for {} customer(s)", customers);
+        } catch (RuntimeException ex) {
+            // Keep serving the previous model; the next run retries
+            log.error("[RecommendationModelScheduler] Recommendation model rebuild failed", ex);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.urbanfresh.scheduler;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.urbanfresh.service.impl.WebhookInboxDispatcher;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Scheduler – re-enqueues Stripe webhook inbox events that were not applied.
+ *
+ * Covers events left RECEIVED by a restart or a full worker queue, and FAILED events still
+ * under the attempt limit. Also runs once on startup so events received just before a
+ * shutdown are applied without waiting for the first interval.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebhookInboxRetryScheduler {
+
+    private final WebhookInboxDispatcher webhookInboxDispatcher;
+
+    /**
+     * Scheduled entry point — runs every 30 seconds by default.
+     */
+    @Scheduled(fixedDelayString = "${app.payment.webhook.sweep-interval-ms:30000}")
+    public void requeueStaleEvents() {
+        int requeued = webhookInboxDispatcher.requeueStaleEvents();
+        if (requeued > 0) {
+            log.info("[WebhookInboxRetryScheduler] Re-enqueued {} webhook inbox event(s)", requeued);
+        }
+    }
+
+    /**
+     * Startup hook — applies events left over from before the restart.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void requeueStaleEventsOnStartup() {
+        requeueStaleEvents();
+    }
+}
@@ -1,6 +1,7 @@
 package com.urbanfresh.security;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -9,23 +10,36 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Security Layer – Intercepts every request to validate the JWT token.
  * If valid, sets the authenticated user in the SecurityContext so that
  * downstream filters and controllers see the user as authenticated.
+ * Token handling (signature check plus the user lookup) is timed separately from the rest
+ * of the request as urbanfresh.auth.jwt, tagged by outcome.
  */
 @Component
-@RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
+
+    public JwtAuthFilter(JwtUtil jwtUtil,
+                         CustomUserDetailsService userDetailsService,
+                         MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.userDetailsService = userDetailsService;
+        this.authenticatedTimer = jwtTimer(meterRegistry, "authenticated");
+        this.rejectedTimer = jwtTimer(meterRegistry, "rejected");
+    }
 
     @Override
     protected void doFilterInternal(
@@ -42,6 +56,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
 
         String token = authHeader.substring(7);
+        long started = System.nanoTime();
 
         if (jwtUtil.isTokenValid(token) && SecurityContextHolder.getContext().getAuthentication() == null) {
             String email = jwtUtil.extractEmail(token);
@@ -53,8 +68,18 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
             SecurityContextHolder.getContext().setAuthentication(authToken);
+            authenticatedTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        } else {
+            rejectedTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private static Timer jwtTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("urbanfresh.auth.jwt")
+                .description("Bearer token validation and principal lookup")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 }
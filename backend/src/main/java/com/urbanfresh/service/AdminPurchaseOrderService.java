@@ -1,9 +1,13 @@
 package com.urbanfresh.service;
 
 import java.util.List;
+
+import org.springframework.data.domain.Page;
+
 import com.urbanfresh.dto.request.ConfirmDeliveryRequest;
 import com.urbanfresh.dto.request.CreatePurchaseOrderRequest;
 import com.urbanfresh.dto.response.PurchaseOrderDto;
+import com.urbanfresh.model.PurchaseOrderStatus;
 
 /**
  * Service Layer - Manages admin-facing purchase order creation and tracking.
@@ -23,6 +27,16 @@ public interface AdminPurchaseOrderService {
      */
     List<PurchaseOrderDto> getAllPurchaseOrders();
 
+    /**
+     * Retrieve one page of purchase orders, newest first, optionally filtered by status.
+     * Runs a fixed number of queries regardless of page size or purchase history length.
+     * @param status optional status filter; null returns all statuses.
+     * @param page zero-based page index.
+     * @param size page size.
+     * @return page of purchase order DTOs.
+     */
+    Page<PurchaseOrderDto> getPurchaseOrdersPage(PurchaseOrderStatus status, int page, int size);
+
     /**
      * Confirm a purchase order has been received, updating inventory stock.
      * @param orderId the ID of the purchase order.
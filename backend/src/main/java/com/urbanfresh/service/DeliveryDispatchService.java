@@ -0,0 +1,19 @@
+package com.urbanfresh.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.urbanfresh.dto.response.DispatchPlanResponse;
+
+/**
+ * Service Layer – Proposes rider assignments for the current wave of READY orders.
+ */
+public interface DeliveryDispatchService {
+
+    /**
+     * Plans all READY, unassigned orders across active riders on a background worker.
+     * Concurrent callers share the plan already in progress instead of starting another.
+     *
+     * @return future completed with the proposed assignments; nothing is persisted
+     */
+    CompletableFuture<DispatchPlanResponse> planDispatch();
+}
@@ -1,9 +1,13 @@
 package com.urbanfresh.service;
 
+import java.io.InputStream;
 import java.util.List;
 
+import com.urbanfresh.dto.request.BulkInventoryAdjustmentRequest;
 import com.urbanfresh.dto.request.InventoryUpdateRequest;
 import com.urbanfresh.dto.response.BatchResponse;
+import com.urbanfresh.dto.response.BulkOperationResponse;
+import com.urbanfresh.dto.response.InventoryPageResponse;
 import com.urbanfresh.dto.response.InventoryResponse;
 
 /**
@@ -20,6 +24,31 @@ public interface InventoryService {
      */
     List<InventoryResponse> getAllInventory();
 
+    /**
+     * Returns one keyset-paginated slice of the inventory console, ordered by name.
+     * Null or blank filters are ignored.
+     *
+     * @param lowStockOnly when true, only products at or below their reorder threshold
+     * @param category     optional category filter
+     * @param brandId      optional brand filter
+     * @param afterName    cursor: name of the last item of the previous slice
+     * @param afterId      cursor: product ID of the last item of the previous slice
+     * @param size         maximum number of items to return
+     * @return InventoryPageResponse with items and a hasMore flag
+     */
+    InventoryPageResponse getInventoryPage(boolean lowStockOnly, String category, Long brandId,
+                                           String afterName, Long afterId, int size);
+
+    /**
+     * Returns one keyset-paginated slice of low-stock products, most critical first.
+     *
+     * @param afterGap cursor: quantity - reorderThreshold of the last item of the previous slice
+     * @param afterId  cursor: product ID of the last item of the previous slice
+     * @param size     maximum number of items to return
+     * @return InventoryPageResponse with items and a hasMore flag
+     */
+    InventoryPageResponse getLowStockInventory(Integer afterGap, Long afterId, int size);
+
     /**
      * Updates the stock quantity and reorder threshold for the identified product.
      * Records the admin's email as an audit trail entry.
@@ -31,6 +60,27 @@ public interface InventoryService {
      */
     InventoryResponse updateInventory(Long productId, InventoryUpdateRequest request, String updatedBy);
 
+    /**
+     * Applies many absolute stock/threshold adjustments in chunked transactions.
+     * Each row is validated independently; invalid or unknown rows are reported
+     * without affecting the others.
+     *
+     * @param request   adjustment rows
+     * @param updatedBy email of the authenticated admin (stored for audit)
+     * @return per-row result report
+     */
+    BulkOperationResponse bulkAdjustInventory(BulkInventoryAdjustmentRequest request, String updatedBy);
+
+    /**
+     * CSV variant of bulkAdjustInventory. Expects a header row containing
+     * productId, quantity and reorderThreshold columns (any order, case-insensitive).
+     *
+     * @param csv       uploaded CSV content (UTF-8)
+     * @param updatedBy email of the authenticated admin (stored for audit)
+     * @return per-row result report; row numbers count data lines after the header
+     */
+    BulkOperationResponse bulkAdjustInventoryFromCsv(InputStream csv, String updatedBy);
+
     /**
      * Returns all batches for a product ordered by expiry date ascending.
      * Allows admin to inspect batch composition and identify near-expiry batches.
@@ -0,0 +1,25 @@
+package com.urbanfresh.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Service Layer – Contract for incrementally maintained dashboard KPIs.
+ * Counters live in kpi_counters and are updated by outbox handlers, so dashboard reads
+ * are a primary-key lookup rather than an aggregate over the orders table.
+ */
+public interface KpiCounterService {
+
+    /**
+     * Total revenue from paid orders. Seeds the counter from the orders table on first use.
+     *
+     * @return paid revenue in LKR
+     */
+    BigDecimal getPaidRevenue();
+
+    /**
+     * Adds a newly paid order's amount. Must run in the outbox handler transaction.
+     *
+     * @param amount order total in LKR
+     */
+    void addPaidRevenue(BigDecimal amount);
+}
@@ -2,13 +2,16 @@ package com.urbanfresh.service;
 
 import java.math.BigDecimal;
 
+import org.springframework.data.domain.Page;
+
 import com.urbanfresh.dto.response.LoyaltyPointsResponse;
+import com.urbanfresh.dto.response.LoyaltyTransactionResponse;
 import com.urbanfresh.model.User;
 
 /**
  * Service Layer – Contract for loyalty points operations.
- * Handles awarding points after a successful order and
- * retrieving a customer's current loyalty summary.
+ * Points are settled through an append-only ledger; the per-customer balance row is
+ * maintained from it with atomic increments.
  */
 public interface LoyaltyService {
 
@@ -21,14 +24,25 @@ public interface LoyaltyService {
     LoyaltyPointsResponse getLoyaltyPoints(String customerEmail);
 
     /**
-     * Award points to a customer after a successful order.
+     * Return the customer's loyalty ledger entries, newest first.
+     *
+     * @param customerEmail email from JWT principal
+     * @param page          zero-based page index
+     * @param size          page size
+     * @return page of ledger entries with the running balance after each
+     */
+    Page<LoyaltyTransactionResponse> getLoyaltyTransactions(String customerEmail, int page, int size);
+
+    /**
+     * Award points to a customer for a paid order.
      * Conversion rule: 1 point per every full LKR 100 spent.
-     * Creates the ledger row if one does not yet exist for this customer.
+     * Idempotent per order: a repeated call for the same order is ignored.
      *
      * @param customer   the customer entity to credit
+     * @param orderId    order the points are earned on
      * @param orderTotal the order's total amount in LKR
      */
-    void awardPoints(User customer, BigDecimal orderTotal);
+    void awardPoints(User customer, Long orderId, BigDecimal orderTotal);
 
     /**
      * Validates that the customer has enough loyalty points to redeem and that the
@@ -48,10 +62,21 @@ public interface LoyaltyService {
     /**
      * Deducts redeemed points from the customer's ledger.
      * Must only be called AFTER payment is confirmed (order status → CONFIRMED).
-     * Uses a pessimistic write lock to prevent concurrent double-deduction.
+     * Idempotent per order: a repeated call for the same order is ignored.
      *
      * @param customer       the customer whose ledger to debit
+     * @param orderId        order the points were redeemed on
      * @param pointsToDeduct number of points to deduct (as stored on the order)
      */
-    void deductRedeemedPoints(User customer, int pointsToDeduct);
+    void deductRedeemedPoints(User customer, Long orderId, int pointsToDeduct);
+
+    /**
+     * Reverses the points earned and redeemed on an order, e.g. when a paid order is cancelled.
+     * Always writes a single REVERSE entry (0 points when nothing was settled yet);
+     * later EARN/REDEEM entries for the order are ignored.
+     *
+     * @param customerId order owner
+     * @param orderId    order to reverse
+     */
+    void reverseOrderPoints(Long customerId, Long orderId);
 }
@@ -4,10 +4,13 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 
+import com.urbanfresh.dto.request.BulkDeliveryAssignmentRequest;
+import com.urbanfresh.dto.request.BulkOrderStatusUpdateRequest;
 import com.urbanfresh.dto.request.OrderStatusUpdateRequest;
 import com.urbanfresh.dto.request.PlaceOrderRequest;
 import com.urbanfresh.dto.response.AdminOrderResponse;
 import com.urbanfresh.dto.response.AdminOrderReviewResponse;
+import com.urbanfresh.dto.response.BulkOperationResponse;
 import com.urbanfresh.dto.response.DeliveryAssignedOrderResponse;
 import com.urbanfresh.dto.response.DeliveryOrderDetailsResponse;
 import com.urbanfresh.dto.response.DeliveryProfileSummaryResponse;
@@ -84,6 +87,25 @@ public interface OrderService {
      */
     AdminOrderResponse assignDeliveryPersonnel(Long orderId, Long deliveryPersonId, String adminEmail);
 
+    /**
+     * Moves many orders to the same status, validating each transition individually.
+     *
+     * @param request    order IDs, target status and optional reason
+     * @param adminEmail authenticated admin email used for auditing
+     * @return per-order outcome report
+     */
+    BulkOperationResponse bulkUpdateOrderStatus(BulkOrderStatusUpdateRequest request, String adminEmail);
+
+    /**
+     * Assigns one active delivery person to many READY/OUT_FOR_DELIVERY orders;
+     * READY orders transition to OUT_FOR_DELIVERY.
+     *
+     * @param request    order IDs and delivery person ID
+     * @param adminEmail authenticated admin email used for auditing
+     * @return per-order outcome report
+     */
+    BulkOperationResponse bulkAssignDeliveryPersonnel(BulkDeliveryAssignmentRequest request, String adminEmail);
+
     /**
      * Returns a paginated list of orders assigned to the authenticated delivery user.
      *
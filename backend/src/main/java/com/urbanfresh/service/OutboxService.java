@@ -0,0 +1,31 @@
+package com.urbanfresh.service;
+
+import java.util.Map;
+
+import com.urbanfresh.model.OutboxEventType;
+
+/**
+ * Service Layer – Contract for writing to the transactional outbox.
+ * Side effects of a state change (notifications, loyalty, read models, KPIs) are recorded
+ * here instead of being executed inline, and dispatched after commit by OutboxDispatcher.
+ */
+public interface OutboxService {
+
+    /**
+     * Appends an event in the caller's transaction; fails if no transaction is active.
+     *
+     * @param type        event type
+     * @param aggregateId ID of the entity the event concerns
+     * @param payload     payload record matching the type; serialised to JSON
+     */
+    void append(OutboxEventType type, Long aggregateId, Object payload);
+
+    /**
+     * Appends one event per aggregate with a single JDBC batch, in the caller's transaction.
+     * Used by bulk operations so hundreds of events cost one round trip.
+     *
+     * @param type                  event type shared by all events
+     * @param payloadsByAggregateId payload per aggregate ID, in insertion order
+     */
+    void appendAll(OutboxEventType type, Map<Long, ?> payloadsByAggregateId);
+}
@@ -0,0 +1,41 @@
+package com.urbanfresh.service;
+
+import java.util.Map;
+
+/**
+ * Service Layer – Contract for the external payment processor.
+ * Implementations perform only the remote call and never touch the database, so callers
+ * invoke them outside any transaction. The active implementation is selected by
+ * app.payment.gateway: "stripe" (default) or "stub" for local load tests.
+ */
+public interface PaymentGateway {
+
+    /**
+     * Creates a payment intent at the processor.
+     * Retries with the same idempotency key must return the original intent rather than a new one.
+     *
+     * @param request amount, currency, metadata and idempotency key
+     * @return processor-assigned intent ID and client secret
+     * @throws com.urbanfresh.exception.PaymentGatewayUnavailableException on transient failures
+     *         (network, timeouts, processor 5xx / rate limiting)
+     * @throws com.urbanfresh.exception.PaymentException when the processor rejects the request
+     */
+    CreatedIntent createPaymentIntent(IntentRequest request);
+
+    /**
+     * Parameters for a new payment intent.
+     *
+     * @param orderId        local order the intent pays for
+     * @param amount         amount in the smallest unit of {@code currency}
+     * @param currency       lowercase ISO 4217 code sent to the processor
+     * @param metadata       key/value pairs stored on the intent for dashboard traceability
+     * @param idempotencyKey key derived from the order so retried requests never double-create
+     */
+    record IntentRequest(Long orderId, long amount, String currency,
+                         Map<String, String> metadata, String idempotencyKey) {
+    }
+
+    /** Result of a successful intent creation. */
+    record CreatedIntent(String paymentIntentId, String clientSecret) {
+    }
+}
@@ -22,17 +22,36 @@ public interface PaymentService {
     PaymentIntentResponse createPaymentIntent(CreatePaymentIntentRequest request, String customerEmail);
 
     /**
-     * Handles an incoming Stripe webhook event payload.
-     * Verifies the Stripe-Signature header to ensure the request is genuine,
-     * then routes to the appropriate update logic based on event type:
-     *  - payment_intent.succeeded  → marks payment PAID, order CONFIRMED
-     *  - payment_intent.payment_failed → marks payment FAILED
+     * Ingests an incoming Stripe webhook event payload.
+     * Verifies the Stripe-Signature header to ensure the request is genuine, stores the event
+     * in the webhook inbox (duplicates by event ID are dropped) and returns immediately.
+     * The event is applied asynchronously by processWebhookInboxEvent.
      *
      * @param payload   raw JSON body exactly as received from Stripe (must not be parsed first)
      * @param sigHeader value of the "Stripe-Signature" HTTP header
      */
     void handleWebhookEvent(String payload, String sigHeader);
 
+    /**
+     * Applies a stored webhook event, routing on event type:
+     *  - payment_intent.succeeded  → marks payment PAID, order CONFIRMED
+     *  - payment_intent.payment_failed → marks payment FAILED
+     *  - charge.updated → records acknowledgement and applies a final charge outcome
+     * No-op when the event was already processed, so redelivery is safe.
+     *
+     * @param inboxEventId ID of the stripe_webhook_inbox row
+     */
+    void processWebhookInboxEvent(Long inboxEventId);
+
+    /**
+     * Marks a stored webhook event FAILED and increments its attempt count after
+     * processWebhookInboxEvent threw. Runs in its own transaction.
+     *
+     * @param inboxEventId ID of the stripe_webhook_inbox row
+     * @param error        failure message (truncated to fit the column)
+     */
+    void recordWebhookInboxFailure(Long inboxEventId, String error);
+
     /**
      * Reads the latest persisted payment tracking status for a customer-owned order.
      * Used by checkout polling to wait for webhook acknowledgement and final outcome.
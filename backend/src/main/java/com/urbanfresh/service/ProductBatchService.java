@@ -1,6 +1,7 @@
 package com.urbanfresh.service;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import com.urbanfresh.model.OrderItem;
@@ -29,6 +30,33 @@ public interface ProductBatchService {
     ProductBatch createBatch(Long productId, String batchNumber, LocalDate manufacturingDate,
                              LocalDate expiryDate, int quantity, Long purchaseOrderItemId);
 
+    /**
+     * Receives many batches in one pass (e.g. a whole purchase-order delivery).
+     * Locks each affected product once, reserves auto batch numbers from the product's
+     * batch sequence, inserts all batches with one JDBC batch, applies one aggregated stock
+     * increment per product, and publishes a single InventoryChangedEvent.
+     * Must run inside the caller's transaction.
+     *
+     * @param receipts  lines to receive; lines without an expiry date add stock without a batch
+     * @param receivedBy email of the admin receiving the stock (stored for audit)
+     * @return the batch number used for each receipt, in input order (null when no batch was created)
+     */
+    List<String> receiveBatches(List<BatchReceipt> receipts, String receivedBy);
+
+    /**
+     * One received line.
+     *
+     * @param productId           product being restocked
+     * @param batchNumber         supplier batch number; blank to auto-generate from the product sequence
+     * @param manufacturingDate   manufacturing date (may be null)
+     * @param expiryDate          batch expiry; null adds stock without batch tracking (legacy)
+     * @param quantity            units received
+     * @param purchaseOrderItemId source PO line for the audit trail (may be null)
+     */
+    record BatchReceipt(Long productId, String batchNumber, LocalDate manufacturingDate,
+                        LocalDate expiryDate, int quantity, Long purchaseOrderItemId) {
+    }
+
     /**
      * Allocates stock from available batches using FIFO (earliest expiry first).
      * Deducts availableQuantity from each batch and persists OrderItemBatchAllocation records.
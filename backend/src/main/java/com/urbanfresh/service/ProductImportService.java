@@ -0,0 +1,31 @@
+package com.urbanfresh.service;
+
+import java.io.InputStream;
+
+import com.urbanfresh.dto.response.BulkOperationResponse;
+
+/**
+ * Service Layer – Contract for bulk catalogue onboarding.
+ * Imports many products (each with its initial batch) from an uploaded file in one job,
+ * reporting problems per line instead of aborting the whole file.
+ * Layer: Service
+ */
+public interface ProductImportService {
+
+    /** Supported upload formats. */
+    enum Format {
+        /** Comma-separated with a header row naming the ProductRequest fields. */
+        CSV,
+        /** One ProductRequest JSON object per line (NDJSON). */
+        JSON_LINES
+    }
+
+    /**
+     * Streams the file, validates rows, and inserts valid products plus their initial batches.
+     *
+     * @param content uploaded file content (UTF-8)
+     * @param format  CSV or JSON_LINES
+     * @return per-row report; the id of each successful row is the new product ID
+     */
+    BulkOperationResponse importProducts(InputStream content, Format format);
+}
@@ -6,8 +6,9 @@ import com.urbanfresh.dto.response.RecommendationResponse;
 
 /**
  * Service Layer – Contract for habit-based product recommendations.
- * Returns the customer's most-frequently-purchased products that are
- * still available (in stock, not hidden) to power the "Buy Again" section.
+ * Returns the customer's most-frequently-purchased products, topped up with products
+ * often bought alongside them, that are still available (in stock, not hidden)
+ * to power the "Buy Again" section.
  */
 public interface RecommendationService {
 
@@ -20,4 +21,12 @@ public interface RecommendationService {
      * @return ordered list of recommendations (up to 5 items; empty when no history)
      */
     List<RecommendationResponse> getRecommendations(String customerEmail);
+
+    /**
+     * Recomputes the precomputed recommendation model from confirmed order history
+     * and swaps it in. Called by RecommendationModelScheduler.
+     *
+     * @return number of customers covered by the new model
+     */
+    int rebuildModel();
 }
@@ -2,9 +2,12 @@ package com.urbanfresh.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+
 import com.urbanfresh.dto.request.UpdatePurchaseOrderNoticeDto;
 import com.urbanfresh.dto.request.UpdatePurchaseOrderStatusDto;
 import com.urbanfresh.dto.response.PurchaseOrderDto;
+import com.urbanfresh.model.PurchaseOrderStatus;
 
 /**
  * Service Layer - Manages supplier-facing purchase order operations.
@@ -19,6 +22,17 @@ public interface SupplierPurchaseOrderService {
      */
     List<PurchaseOrderDto> getPurchaseOrdersForSupplier(String email);
 
+    /**
+     * Retrieve one page of the supplier's brand-scoped purchase orders, newest first.
+     *
+     * @param email the email (username) of the authenticated supplier user.
+     * @param status optional status filter; null returns all statuses.
+     * @param page zero-based page index.
+     * @param size page size.
+     * @return a page of DTOs representing the scoped purchase orders.
+     */
+    Page<PurchaseOrderDto> getPurchaseOrdersPageForSupplier(String email, PurchaseOrderStatus status, int page, int size);
+
     /**
      * Update the shipment status and estimated delivery timeline of a purchase order.
      * Enforces brand-scoping (403 Forbidden if accessed incorrectly).
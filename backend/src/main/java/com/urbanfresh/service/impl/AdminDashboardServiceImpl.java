@@ -8,13 +8,13 @@ import java.time.format.DateTimeFormatter;
 import org.springframework.stereotype.Service;
 
 import com.urbanfresh.dto.AdminDashboardResponse;
-import com.urbanfresh.model.PaymentStatus;
 import com.urbanfresh.model.Role;
 import com.urbanfresh.repository.OrderRepository;
 import com.urbanfresh.repository.ProductRepository;
 import com.urbanfresh.repository.UserRepository;
 import com.urbanfresh.repository.WasteRecordRepository;
 import com.urbanfresh.service.AdminDashboardService;
+import com.urbanfresh.service.KpiCounterService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,6 +31,7 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final WasteRecordRepository wasteRecordRepository;
+    private final KpiCounterService kpiCounterService;
     
     @Override
     public AdminDashboardResponse getDashboardMetrics() {
@@ -47,9 +48,9 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
         // Near expiry: in-stock approved products expiring within 7 days
         response.setNearExpiryItemsCount(countNearExpiryProducts());
         // Wasted value this calendar month from the waste_records audit table
-        LocalDate now = LocalDate.now();
+        LocalDate monthStart = LocalDate.now().withDayOfMonth(1);
         BigDecimal wastedThisMonth =
-                wasteRecordRepository.sumWastedValueByMonth(now.getYear(), now.getMonthValue());
+                wasteRecordRepository.sumWastedValueBetween(monthStart, monthStart.plusMonths(1));
         response.setWastedValueThisMonth(
                 wastedThisMonth != null ? wastedThisMonth : BigDecimal.ZERO);
         
@@ -63,16 +64,17 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
     }
     
     /**
-     * Sums totalAmount across all PAID orders regardless of their current
+     * Total of totalAmount across all PAID orders regardless of their current
      * fulfilment status. Orders progress through CONFIRMED → PROCESSING →
      * READY → DELIVERED, so filtering only by order status would cause revenue
      * to shrink as orders are fulfilled.
+     * Read from the outbox-maintained KPI counter instead of a SUM over orders;
+     * it trails new payments by one outbox poll.
      *
      * @return total revenue from all paid orders as a double
      */
     private double calculateTotalRevenue() {
-        BigDecimal total = orderRepository.sumTotalAmountByPaymentStatus(PaymentStatus.PAID);
-        return total != null ? total.doubleValue() : 0.0;
+        return kpiCounterService.getPaidRevenue().doubleValue();
     }
 
     /**
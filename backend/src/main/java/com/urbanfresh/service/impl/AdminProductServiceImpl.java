@@ -2,6 +2,7 @@ package com.urbanfresh.service.impl;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -10,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.urbanfresh.dto.request.ProductRequest;
 import com.urbanfresh.dto.response.AdminProductResponse;
+import com.urbanfresh.event.InventoryChangedEvent;
 import com.urbanfresh.exception.BrandNotFoundException;
 import com.urbanfresh.exception.ProductNotFoundException;
 import com.urbanfresh.model.Brand;
@@ -38,6 +40,7 @@ public class AdminProductServiceImpl implements AdminProductService {
     private final BrandRepository brandRepository;
     private final ProductBatchRepository productBatchRepository;
     private final ProductBatchService productBatchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Returns all products sorted by name, paginated, for the admin table.
@@ -162,6 +165,7 @@ public class AdminProductServiceImpl implements AdminProductService {
             log.info("Updated {} active batch(es) expiry to {} for product ID {}",
                     batches.size(), newExpiryDate, saved.getId());
         }
+        eventPublisher.publishEvent(InventoryChangedEvent.forProduct(saved.getId()));
 
         return toAdminResponse(saved);
     }
@@ -175,6 +179,7 @@ public class AdminProductServiceImpl implements AdminProductService {
     public void deleteProduct(Long id) {
         findOrThrow(id);
         productRepository.deleteById(id);
+        eventPublisher.publishEvent(InventoryChangedEvent.forProduct(id));
     }
 
     /**
@@ -188,7 +193,9 @@ public class AdminProductServiceImpl implements AdminProductService {
     public AdminProductResponse toggleHidden(Long id) {
         Product product = findOrThrow(id);
         product.setHidden(!product.isHidden());
-        return toAdminResponse(productRepository.save(product));
+        AdminProductResponse response = toAdminResponse(productRepository.save(product));
+        eventPublisher.publishEvent(InventoryChangedEvent.forProduct(id));
+        return response;
     }
 
     @Override
@@ -235,6 +242,7 @@ public class AdminProductServiceImpl implements AdminProductService {
         AdminProductResponse response = toAdminResponse(product);
         response.setApprovalStatus("REJECTED");
         productRepository.delete(product);
+        eventPublisher.publishEvent(InventoryChangedEvent.forProduct(id));
         return response;
     }
 
@@ -256,7 +264,9 @@ public class AdminProductServiceImpl implements AdminProductService {
         }
         Product product = findOrThrow(id);
         product.setDiscountPercentage(discountPercentage);   // the ONLY mutation
-        return toAdminResponse(productRepository.save(product));
+        AdminProductResponse response = toAdminResponse(productRepository.save(product));
+        eventPublisher.publishEvent(InventoryChangedEvent.forProduct(id));
+        return response;
     }
 
     // ── Private helpers ──────────────────────────────────────────────────────
@@ -1,9 +1,13 @@
 package com.urbanfresh.service.impl;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,11 +25,11 @@ import com.urbanfresh.model.PurchaseOrder;
 import com.urbanfresh.model.PurchaseOrderItem;
 import com.urbanfresh.model.PurchaseOrderStatus;
 import com.urbanfresh.repository.BrandRepository;
-import com.urbanfresh.repository.ProductBatchRepository;
 import com.urbanfresh.repository.ProductRepository;
 import com.urbanfresh.repository.PurchaseOrderRepository;
 import com.urbanfresh.service.AdminPurchaseOrderService;
 import com.urbanfresh.service.ProductBatchService;
+import com.urbanfresh.service.ProductBatchService.BatchReceipt;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,7 +45,6 @@ public class AdminPurchaseOrderServiceImpl implements AdminPurchaseOrderService
     private final PurchaseOrderRepository purchaseOrderRepository;
     private final BrandRepository brandRepository;
     private final ProductRepository productRepository;
-    private final ProductBatchRepository productBatchRepository;
     private final ProductBatchService productBatchService;
 
     @Override
@@ -84,16 +87,29 @@ public class AdminPurchaseOrderServiceImpl implements AdminPurchaseOrderService
     @Override
     @Transactional(readOnly = true)
     public List<PurchaseOrderDto> getAllPurchaseOrders() {
-        // Find all, perhaps sort by latest
-        return purchaseOrderRepository.findAll().stream()
-                .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
+        // Newest first, sorted in SQL; brand, items and products come from the entity graph
+        return purchaseOrderRepository.findAllByOrderByCreatedAtDesc().stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Three queries per call: the ID page, its count, and one entity-graph fetch of the page's
+     * orders with brand, items and products.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PurchaseOrderDto> getPurchaseOrdersPage(PurchaseOrderStatus status, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size,
+                Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+        Page<Long> idPage = purchaseOrderRepository.findIdsByStatus(status, pageRequest);
+        return purchaseOrderRepository.findWithDetailsByIdPage(idPage).map(this::mapToDto);
+    }
+
     @Override
     @Transactional
     public PurchaseOrderDto confirmDeliveryAndStock(Long orderId, String adminUsername, ConfirmDeliveryRequest request) {
-        PurchaseOrder order = purchaseOrderRepository.findById(orderId)
+        PurchaseOrder order = purchaseOrderRepository.findWithDetailsById(orderId)
                 .orElseThrow(() -> new PurchaseOrderNotFoundException("Purchase Order ID " + orderId + " not found."));
 
         if (order.getStatus() != PurchaseOrderStatus.DELIVERED) {
@@ -107,12 +123,8 @@ public class AdminPurchaseOrderServiceImpl implements AdminPurchaseOrderService
                         .collect(Collectors.toMap(ItemBatchOverride::getItemId, o -> o))
                 : Map.of();
 
-        // Create a ProductBatch per item and increment legacy stockQuantity
+        List<BatchReceipt> receipts = new ArrayList<>(order.getItems().size());
         for (PurchaseOrderItem item : order.getItems()) {
-            Product product = item.getProduct();
-            product.setInventoryUpdatedBy(adminUsername);
-            productRepository.save(product);
-
             // Merge override fields onto the PO item (override wins over stored value)
             ItemBatchOverride override = overrideMap.get(item.getId());
             if (override != null) {
@@ -127,32 +139,20 @@ public class AdminPurchaseOrderServiceImpl implements AdminPurchaseOrderService
                 }
             }
 
-            // Use batch number from PO item (set by override above) if non-blank;
-            // otherwise fall back to an auto-generated incrementing number.
-            long existingBatchCount = productBatchRepository.countByProductId(product.getId());
-            String autoBatchNumber = String.format("BATCH-%d-%03d", product.getId(), existingBatchCount + 1);
-            String batchNumber = (item.getBatchNumber() != null && !item.getBatchNumber().isBlank())
-                    ? item.getBatchNumber()
-                    : autoBatchNumber;
-
-            // Expiry date is required to create a batch; skip batch creation if not provided
-            if (item.getSupplierExpiryDate() != null) {
-                productBatchService.createBatch(
-                        product.getId(),
-                        batchNumber,
-                        item.getManufacturingDate(),
-                        item.getSupplierExpiryDate(),
-                        item.getQuantity(),
-                        item.getId()
-                );
-            } else {
-                // Legacy fallback: no expiry date supplied — just update stockQuantity directly
-                product.setStockQuantity(product.getStockQuantity() + item.getQuantity());
-                productRepository.save(product);
-                log.warn("PO item ID {} has no supplierExpiryDate — stock added without batch tracking", item.getId());
-            }
+            // A blank batch number is auto-generated from the product's batch sequence;
+            // a missing expiry date adds stock without batch tracking
+            receipts.add(new BatchReceipt(
+                    item.getProduct().getId(),
+                    item.getBatchNumber(),
+                    item.getManufacturingDate(),
+                    item.getSupplierExpiryDate(),
+                    item.getQuantity(),
+                    item.getId()));
         }
 
+        // One pass: locked sequence reservation, one batch INSERT, one stock UPDATE per product
+        productBatchService.receiveBatches(receipts, adminUsername);
+
         order.setStatus(PurchaseOrderStatus.COMPLETED);
         PurchaseOrder savedOrder = purchaseOrderRepository.save(order);
         log.info("Admin {} confirmed delivery of Purchase Order ID {}. Stock updated.", adminUsername, order.getId());
@@ -0,0 +1,45 @@
+package com.urbanfresh.service.impl;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.urbanfresh.event.OrderChangedEvent;
+import com.urbanfresh.event.OutboxEventHandler;
+import com.urbanfresh.model.OutboxEvent;
+import com.urbanfresh.model.OutboxEventType;
+
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Service Layer – Outbox handler that tells order-derived read models to drop stale entries.
+ * Re-publishes every order event as an in-process OrderChangedEvent; caches subscribe to
+ * that instead of hooking into each write path.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationOutboxHandler implements OutboxEventHandler {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String name() {
+        return "cache-invalidation";
+    }
+
+    @Override
+    public boolean supports(OutboxEventType type) {
+        return true;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        // Every order payload carries customerId; read it without binding the full record
+        JsonNode customerId = objectMapper.readTree(event.getPayload()).get("customerId");
+        eventPublisher.publishEvent(new OrderChangedEvent(
+                event.getAggregateId(),
+                customerId != null && !customerId.isNull() ? customerId.asLong() : null));
+    }
+}
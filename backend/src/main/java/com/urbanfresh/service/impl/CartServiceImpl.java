@@ -2,6 +2,8 @@ package com.urbanfresh.service.impl;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +27,7 @@ import com.urbanfresh.repository.UserRepository;
 import com.urbanfresh.service.CartService;
 import com.urbanfresh.service.ProductBatchService;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -35,6 +38,7 @@ import lombok.RequiredArgsConstructor;
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "urbanfresh.cart", description = "Cart reads and mutations, tagged by method")
 public class CartServiceImpl implements CartService {
 
     private final CartRepository cartRepository;
@@ -42,6 +46,7 @@ public class CartServiceImpl implements CartService {
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final ProductBatchService productBatchService;
+    private final CoPurchaseIndex coPurchaseIndex;
 
     /**
      * Returns the customer's cart, or an empty cart response if none exists yet.
@@ -182,6 +187,7 @@ public class CartServiceImpl implements CartService {
     /**
      * Maps a Cart entity to a CartResponse, computing line totals and grand total on the fly.
      * Items whose product has been deleted are filtered out silently.
+     * Suggestions come from the in-memory co-purchase index and skip products already in the cart.
      */
     private CartResponse toCartResponse(Cart cart) {
         List<CartItemResponse> itemResponses = cart.getItems().stream()
@@ -197,10 +203,15 @@ public class CartServiceImpl implements CartService {
                 .mapToInt(CartItemResponse::getQuantity)
                 .sum();
 
+        Set<Long> cartProductIds = itemResponses.stream()
+                .map(CartItemResponse::getProductId)
+                .collect(Collectors.toSet());
+
         return CartResponse.builder()
                 .items(itemResponses)
                 .totalAmount(totalAmount)
                 .itemCount(itemCount)
+                .frequentlyBoughtTogether(coPurchaseIndex.frequentlyBoughtWith(cartProductIds))
                 .build();
     }
 
@@ -210,16 +221,8 @@ public class CartServiceImpl implements CartService {
         // Apply product discount if present, then calculate line total from discounted unit price
         BigDecimal unitPrice = p.getPrice();
         Integer discountPercentage = p.getDiscountPercentage() != null ? p.getDiscountPercentage() : 0;
-        BigDecimal discountedUnitPrice = unitPrice;
-        
-        if (discountPercentage > 0) {
-            // discountedUnitPrice = unitPrice * (1 - discount% / 100)
-            discountedUnitPrice = unitPrice.multiply(
-                BigDecimal.valueOf(100 - discountPercentage)
-            ).divide(BigDecimal.valueOf(100), 2, java.math.RoundingMode.HALF_UP);
-        }
-
-        BigDecimal lineTotal = discountedUnitPrice.multiply(BigDecimal.valueOf(item.getQuantity()));
+        BigDecimal lineTotal = LinePricing.lineTotal(unitPrice, discountPercentage, item.getQuantity());
+        int batchStock = productBatchService.getTotalAvailableQuantity(p.getId());
 
         return CartItemResponse.builder()
                 .cartItemId(item.getId())
@@ -232,9 +235,7 @@ public class CartServiceImpl implements CartService {
                 .quantity(item.getQuantity())
                 .lineTotal(lineTotal)
                 .inStock(p.getStockQuantity() > 0)
-                .stockQuantity(productBatchService.getTotalAvailableQuantity(p.getId()) > 0
-                        ? productBatchService.getTotalAvailableQuantity(p.getId())
-                        : p.getStockQuantity())
+                .stockQuantity(batchStock > 0 ? batchStock : p.getStockQuantity())
                 .build();
     }
 
@@ -243,6 +244,7 @@ public class CartServiceImpl implements CartService {
                 .items(List.of())
                 .totalAmount(BigDecimal.ZERO)
                 .itemCount(0)
+                .frequentlyBoughtTogether(List.of())
                 .build();
     }
 }
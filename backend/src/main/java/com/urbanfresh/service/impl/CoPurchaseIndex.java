@@ -0,0 +1,230 @@
+package com.urbanfresh.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.urbanfresh.dto.response.ProductSuggestionResponse;
+import com.urbanfresh.model.ApprovalStatus;
+import com.urbanfresh.model.Product;
+import com.urbanfresh.repository.ProductRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service Layer – In-memory "frequently bought together" index.
+ *
+ * Each product owns a sparse LongLongCountMap of how many confirmed orders contained it
+ * together with every other product. Paid orders are folded in incrementally through the
+ * outbox (CoPurchaseOutboxHandler); readers never touch the counters. Instead, compact()
+ * periodically recomputes the top-K complements of products whose counts changed and
+ * publishes them as an immutable snapshot of long[] arrays, so the product detail and cart
+ * endpoints pay one hash probe per product and no boxing per complement.
+ *
+ * The index is per instance: rebuild() rescans all confirmed orders at startup and nightly,
+ * which also drops pairs from orders that were later cancelled.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoPurchaseIndex {
+
+    private static final String ORDER_PRODUCTS_SQL =
+            "SELECT DISTINCT product_id FROM order_items WHERE order_id = ? AND product_id IS NOT NULL";
+
+    private final ConfirmedBasketReader basketReader;
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+
+    /** Live counters, product ID → (co-purchased product ID → order count). Each map is guarded by itself. */
+    private volatile ConcurrentHashMap<Long, LongLongCountMap> counts = new ConcurrentHashMap<>();
+
+    /** Products whose counters changed since the last compaction. */
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    /** Published top-K complements per product, best first. Replaced whole, never mutated. */
+    private volatile Map<Long, long[]> topComplements = Map.of();
+
+    @Value("${app.co-purchase.top-k:10}")
+    private int topK;
+
+    @Value("${app.co-purchase.max-entries-per-product:500}")
+    private int maxEntriesPerProduct;
+
+    @Value("${app.co-purchase.suggestions:4}")
+    private int suggestionLimit;
+
+    /**
+     * Folds one paid order into the counters. Visible to readers after the next compaction.
+     *
+     * @param orderId order whose lines are read
+     */
+    public void recordOrder(long orderId) {
+        long[] productIds = jdbcTemplate.queryForList(ORDER_PRODUCTS_SQL, Long.class, orderId)
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        recordBasket(counts, productIds);
+        for (long productId : productIds) {
+            dirty.add(productId);
+        }
+    }
+
+    /**
+     * Recomputes the top-K complements of every product touched since the last run and
+     * prunes counters that outgrew the per-product cap.
+     *
+     * @return number of products recomputed
+     */
+    public synchronized int compact() {
+        if (dirty.isEmpty()) {
+            return 0;
+        }
+        Map<Long, LongLongCountMap> live = counts;
+        Map<Long, long[]> next = new HashMap<>(topComplements);
+        int recomputed = 0;
+        for (Long productId : List.copyOf(dirty)) {
+            dirty.remove(productId);
+            LongLongCountMap map = live.get(productId);
+            if (map == null) {
+                continue;
+            }
+            synchronized (map) {
+                map.retainTop(maxEntriesPerProduct);
+                next.put(productId, map.topKeys(topK));
+            }
+            recomputed++;
+        }
+        topComplements = Map.copyOf(next);
+        return recomputed;
+    }
+
+    /**
+     * Rebuilds the counters from every confirmed order and publishes a full snapshot.
+     *
+     * @return number of products with at least one complement
+     */
+    public synchronized int rebuild() {
+        long started = System.currentTimeMillis();
+        ConcurrentHashMap<Long, LongLongCountMap> rebuilt = new ConcurrentHashMap<>();
+        int[] orders = { 0 };
+        basketReader.forEachPage(page -> {
+            page.parallelStream().forEach(basket -> recordBasket(rebuilt, basket.productIds()));
+            orders[0] += page.size();
+        });
+
+        Map<Long, long[]> snapshot = new HashMap<>(rebuilt.size() * 2);
+        rebuilt.forEach((productId, map) -> {
+            map.retainTop(maxEntriesPerProduct);
+            snapshot.put(productId, map.topKeys(topK));
+        });
+
+        // An order paid mid-scan behind the cursor lands in the old counters and waits for the next rebuild
+        counts = rebuilt;
+        dirty.clear();
+        topComplements = Map.copyOf(snapshot);
+        log.info("[CoPurchaseIndex] Rebuilt from {} order(s): {} product(s) in {} ms",
+                orders[0], snapshot.size(), System.currentTimeMillis() - started);
+        return snapshot.size();
+    }
+
+    /**
+     * Products most often bought together with the given product, for the product detail page.
+     *
+     * @param productId product being viewed
+     * @return visible, in-stock complements, best first
+     */
+    public List<ProductSuggestionResponse> frequentlyBoughtWith(long productId) {
+        long[] complements = topComplements.get(productId);
+        if (complements == null) {
+            return List.of();
+        }
+        return hydrate(complements, suggestionLimit);
+    }
+
+    /**
+     * Products most often bought together with a whole basket, for the cart page.
+     * Each item's complements are scored by rank (first place scores topK, last scores 1),
+     * so products that complement several cart items rise to the top.
+     *
+     * @param basketProductIds products already in the cart; never suggested
+     * @return visible, in-stock complements, best first
+     */
+    public List<ProductSuggestionResponse> frequentlyBoughtWith(Set<Long> basketProductIds) {
+        Map<Long, long[]> snapshot = topComplements;
+        LongLongCountMap scores = new LongLongCountMap(topK * basketProductIds.size());
+        for (Long productId : basketProductIds) {
+            long[] complements = snapshot.get(productId);
+            if (complements == null) {
+                continue;
+            }
+            for (int rank = 0; rank < complements.length; rank++) {
+                if (!basketProductIds.contains(complements[rank])) {
+                    scores.increment(complements[rank], topK - rank);
+                }
+            }
+        }
+        if (scores.size() == 0) {
+            return List.of();
+        }
+        return hydrate(scores.topKeys(suggestionLimit * 2), suggestionLimit);
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    /** Counts every ordered pair in the basket once; baskets are distinct products. */
+    private static void recordBasket(Map<Long, LongLongCountMap> target, long[] productIds) {
+        int n = Math.min(productIds.length, ConfirmedBasketReader.MAX_BASKET_PAIR_PRODUCTS);
+        for (int i = 0; i < n; i++) {
+            LongLongCountMap map = target.computeIfAbsent(productIds[i], id -> new LongLongCountMap());
+            synchronized (map) {
+                for (int j = 0; j < n; j++) {
+                    if (j != i) {
+                        map.increment(productIds[j], 1);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the candidates in one query and keeps those a customer can buy right now,
+     * preserving rank order. Ranks past the limit back-fill hidden or sold-out products.
+     */
+    private List<ProductSuggestionResponse> hydrate(long[] productIds, int limit) {
+        if (productIds.length == 0) {
+            return List.of();
+        }
+        Map<Long, Product> products = productRepository
+                .findAllById(Arrays.stream(productIds).boxed().toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<ProductSuggestionResponse> suggestions = new ArrayList<>(limit);
+        for (int i = 0; i < productIds.length && suggestions.size() < limit; i++) {
+            Product product = products.get(productIds[i]);
+            if (product == null || product.isHidden() || product.getStockQuantity() <= 0
+                    || product.getApprovalStatus() != ApprovalStatus.APPROVED) {
+                continue;
+            }
+            suggestions.add(new ProductSuggestionResponse(
+                    product.getId(),
+                    product.getName(),
+                    product.getImageUrl(),
+                    product.getPrice(),
+                    product.getUnit()));
+        }
+        return suggestions;
+    }
+}
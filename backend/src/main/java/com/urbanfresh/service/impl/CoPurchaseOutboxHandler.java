@@ -0,0 +1,47 @@
+package com.urbanfresh.service.impl;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.urbanfresh.event.OrderPaidPayload;
+import com.urbanfresh.event.OutboxEventHandler;
+import com.urbanfresh.model.OutboxEvent;
+import com.urbanfresh.model.OutboxEventType;
+
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Service Layer – Outbox handler that folds each paid order into the co-purchase index.
+ * The in-memory counters cannot roll back, so the order is recorded only after the
+ * handler receipt commits; a redelivered event is then skipped by its receipt.
+ */
+@Component
+@RequiredArgsConstructor
+public class CoPurchaseOutboxHandler implements OutboxEventHandler {
+
+    private final CoPurchaseIndex coPurchaseIndex;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String name() {
+        return "co-purchase-index";
+    }
+
+    @Override
+    public boolean supports(OutboxEventType type) {
+        return type == OutboxEventType.ORDER_PAID;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        OrderPaidPayload payload = objectMapper.readValue(event.getPayload(), OrderPaidPayload.class);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                coPurchaseIndex.recordOrder(payload.orderId());
+            }
+        });
+    }
+}
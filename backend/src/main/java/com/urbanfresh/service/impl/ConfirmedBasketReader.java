@@ -0,0 +1,107 @@
+package com.urbanfresh.service.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service Layer – Streams confirmed orders as baskets for offline analytics
+ * (recommendation model, co-purchase index).
+ * Orders are read in keyset pages by ID, then their lines in one IN query per page, so the
+ * scan never uses OFFSET, never holds a long-running cursor, and keeps one page in memory.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConfirmedBasketReader {
+
+    /**
+     * Larger baskets only contribute their first products to pair counts (pairs grow quadratically).
+     * Shared by every consumer that derives co-purchase pairs from these baskets.
+     */
+    static final int MAX_BASKET_PAIR_PRODUCTS = 50;
+
+    /** Orders that represent a real purchase; mirrors RecommendationServiceImpl.CONFIRMED_STATUSES. */
+    private static final String ORDER_PAGE_SQL =
+            "SELECT id, user_id FROM orders WHERE id > ? " +
+            "AND status IN ('CONFIRMED', 'PROCESSING', 'READY', 'OUT_FOR_DELIVERY', 'DELIVERED') " +
+            "ORDER BY id LIMIT ?";
+
+    private static final String ORDER_LINES_SQL =
+            "SELECT order_id, product_id, quantity FROM order_items " +
+            "WHERE order_id IN (:ids) AND product_id IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Value("${app.recommendations.page-size:1000}")
+    private int pageSize;
+
+    /**
+     * One confirmed order: its customer and the distinct products with units bought.
+     *
+     * @param orderId    order ID
+     * @param customerId order owner
+     * @param productIds distinct product IDs in the order
+     * @param quantities units bought, parallel to productIds
+     */
+    public record Basket(long orderId, long customerId, long[] productIds, long[] quantities) {
+    }
+
+    /**
+     * Hands every confirmed order's basket to the consumer, one page at a time.
+     *
+     * @param pageConsumer receives each page of baskets in order-ID order
+     */
+    public void forEachPage(Consumer<List<Basket>> pageConsumer) {
+        long[] afterId = { 0 };
+        while (true) {
+            Map<Long, Long> customerByOrder = new LinkedHashMap<>();
+            jdbcTemplate.query(ORDER_PAGE_SQL, rs -> {
+                afterId[0] = rs.getLong(1);
+                customerByOrder.put(afterId[0], rs.getLong(2));
+            }, afterId[0], pageSize);
+            if (customerByOrder.isEmpty()) {
+                return;
+            }
+
+            Map<Long, Map<Long, Long>> linesByOrder = new HashMap<>();
+            namedJdbcTemplate.query(ORDER_LINES_SQL, new MapSqlParameterSource("ids", customerByOrder.keySet()),
+                    rs -> {
+                        linesByOrder.computeIfAbsent(rs.getLong(1), id -> new LinkedHashMap<>())
+                                .merge(rs.getLong(2), rs.getLong(3), Long::sum);
+                    });
+
+            List<Basket> page = new ArrayList<>(linesByOrder.size());
+            customerByOrder.forEach((orderId, customerId) -> {
+                Map<Long, Long> lines = linesByOrder.get(orderId);
+                if (lines == null) {
+                    return;
+                }
+                long[] productIds = new long[lines.size()];
+                long[] quantities = new long[lines.size()];
+                int i = 0;
+                for (Map.Entry<Long, Long> line : lines.entrySet()) {
+                    productIds[i] = line.getKey();
+                    quantities[i++] = line.getValue();
+                }
+                page.add(new Basket(orderId, customerId, productIds, quantities));
+            });
+            pageConsumer.accept(page);
+
+            if (customerByOrder.size() < pageSize) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.urbanfresh.service.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Service Layer – Minimal RFC 4180-style CSV helpers shared by the bulk upload services.
+ * Supports quoted fields and doubled quotes inside quotes; a record must fit on one line.
+ * Kept package-private: it is an implementation detail of the bulk import pipelines.
+ */
+final class CsvRows {
+
+    private CsvRows() {
+    }
+
+    /**
+     * Splits one CSV line into trimmed cell values.
+     *
+     * @param line raw line without the trailing newline
+     * @return cell values in column order
+     */
+    static List<String> parseLine(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (inQuotes) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    inQuotes = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                cells.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        cells.add(current.toString().trim());
+        return cells;
+    }
+
+    /**
+     * Builds a case-insensitive column-name → index lookup from a header row.
+     *
+     * @param header parsed header cells
+     * @return map keyed by lower-cased column name
+     */
+    static Map<String, Integer> headerIndex(List<String> header) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            index.put(header.get(i).toLowerCase(Locale.ROOT), i);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the cell for a named column, or null when the column is absent,
+     * the row is short, or the cell is blank.
+     */
+    static String cell(List<String> row, Map<String, Integer> header, String column) {
+        Integer idx = header.get(column.toLowerCase(Locale.ROOT));
+        if (idx == null || idx >= row.size()) {
+            return null;
+        }
+        String value = row.get(idx);
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,91 @@
+package com.urbanfresh.service.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.urbanfresh.model.DeliveryArea;
+
+/**
+ * Service Layer – In-memory keyword index over the delivery_areas lookup table.
+ * Resolving an address is a handful of hash lookups over its word n-grams, so a
+ * dispatch wave of thousands of orders is geocoded without touching the database.
+ * Built fresh for each plan; the table is small and rarely changes.
+ */
+final class DeliveryAreaIndex {
+
+    /**
+     * Resolved area of an address. Coordinates are null for the locality fallback,
+     * which groups orders but is never merged with other areas by distance.
+     */
+    record Area(String code, Double latitude, Double longitude) {
+
+        boolean hasLocation() {
+            return latitude != null && longitude != null;
+        }
+    }
+
+    private final Map<String, Area> byKeyword;
+    private final int maxKeywordWords;
+
+    private DeliveryAreaIndex(Map<String, Area> byKeyword, int maxKeywordWords) {
+        this.byKeyword = byKeyword;
+        this.maxKeywordWords = maxKeywordWords;
+    }
+
+    static DeliveryAreaIndex of(List<DeliveryArea> areas) {
+        Map<String, Area> byKeyword = new HashMap<>();
+        int maxWords = 1;
+        for (DeliveryArea area : areas) {
+            Area resolved = new Area(area.getCode(), area.getLatitude(), area.getLongitude());
+            for (String keyword : area.getKeywords().split(",")) {
+                String normalized = normalize(keyword);
+                if (!normalized.isEmpty()) {
+                    byKeyword.putIfAbsent(normalized, resolved);
+                    maxWords = Math.max(maxWords, normalized.split(" ").length);
+                }
+            }
+        }
+        return new DeliveryAreaIndex(byKeyword, maxWords);
+    }
+
+    /**
+     * Resolves an address to its area. Longer keywords win ("colombo 03" over "colombo").
+     * Addresses with no keyword match fall back to their last comma-separated segment
+     * (usually the town), so they are still grouped with their neighbours.
+     *
+     * @param address free-text delivery address
+     * @return resolved area, or null when the address is blank
+     */
+    Area resolve(String address) {
+        String normalized = normalize(address);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+
+        String[] words = normalized.split(" ");
+        for (int n = Math.min(maxKeywordWords, words.length); n >= 1; n--) {
+            for (int i = 0; i + n <= words.length; i++) {
+                Area area = byKeyword.get(String.join(" ", Arrays.copyOfRange(words, i, i + n)));
+                if (area != null) {
+                    return area;
+                }
+            }
+        }
+
+        String[] segments = address.split(",");
+        for (int i = segments.length - 1; i >= 0; i--) {
+            String locality = normalize(segments[i]);
+            if (!locality.isEmpty()) {
+                return new Area(locality.toUpperCase(Locale.ROOT), null, null);
+            }
+        }
+        return null;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", " ").trim();
+    }
+}
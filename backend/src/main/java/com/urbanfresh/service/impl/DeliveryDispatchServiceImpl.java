@@ -0,0 +1,175 @@
+package com.urbanfresh.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.urbanfresh.config.DispatchExecutorConfig;
+import com.urbanfresh.dto.response.DeliveryPersonnelResponse;
+import com.urbanfresh.dto.response.DispatchPlanResponse;
+import com.urbanfresh.repository.DeliveryAreaRepository;
+import com.urbanfresh.service.AdminService;
+import com.urbanfresh.service.DeliveryDispatchService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service Layer – Implements DeliveryDispatchService.
+ * Reads the wave with three queries (pending orders, rider loads, area lookup table),
+ * then hands everything to DispatchPlanner in memory. Planning runs on the
+ * dispatchPlannerExecutor bean so the HTTP request thread is released while the plan
+ * is computed. A wave larger than max-orders is cut to its oldest orders and the plan
+ * is flagged as truncated.
+ */
+@Slf4j
+@Service
+public class DeliveryDispatchServiceImpl implements DeliveryDispatchService {
+
+    private static final String PENDING_ORDERS_SQL =
+            "SELECT id, delivery_address FROM orders " +
+            "WHERE status = 'READY' AND assigned_delivery_person_id IS NULL " +
+            "ORDER BY created_at, id LIMIT ?";
+
+    private static final String RIDER_LOAD_SQL =
+            "SELECT assigned_delivery_person_id, COUNT(*) FROM orders " +
+            "WHERE status = 'OUT_FOR_DELIVERY' AND assigned_delivery_person_id IS NOT NULL " +
+            "GROUP BY assigned_delivery_person_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AdminService adminService;
+    private final DeliveryAreaRepository deliveryAreaRepository;
+    private final TaskExecutor executor;
+    private final Counter truncatedPlans;
+
+    /** Plan currently being computed; concurrent requests join it. Guarded by this. */
+    private CompletableFuture<DispatchPlanResponse> inFlight;
+
+    @Value("${app.delivery.dispatch.trip-capacity:8}")
+    private int tripCapacity;
+
+    @Value("${app.delivery.dispatch.merge-radius-km:3.0}")
+    private double mergeRadiusKm;
+
+    @Value("${app.delivery.dispatch.max-orders:5000}")
+    private int maxOrders;
+
+    public DeliveryDispatchServiceImpl(JdbcTemplate jdbcTemplate,
+                                       AdminService adminService,
+                                       DeliveryAreaRepository deliveryAreaRepository,
+                                       @Qualifier(DispatchExecutorConfig.DISPATCH_PLANNER_EXECUTOR) TaskExecutor executor,
+                                       MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.adminService = adminService;
+        this.deliveryAreaRepository = deliveryAreaRepository;
+        this.executor = executor;
+        this.truncatedPlans = Counter.builder("urbanfresh.dispatch.plan.truncated")
+                .description("Dispatch plans that left READY orders beyond max-orders unplanned")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized CompletableFuture<DispatchPlanResponse> planDispatch() {
+        if (inFlight == null || inFlight.isDone()) {
+            inFlight = CompletableFuture.supplyAsync(this::computePlan, executor);
+        }
+        return inFlight;
+    }
+
+    private DispatchPlanResponse computePlan() {
+        long started = System.nanoTime();
+
+        DeliveryAreaIndex areaIndex = DeliveryAreaIndex.of(deliveryAreaRepository.findAll());
+
+        List<DispatchPlanner.PendingOrder> orders = new ArrayList<>();
+        List<Long> unplanned = new ArrayList<>();
+        // One row past the limit tells us whether the wave was cut off
+        boolean[] truncated = new boolean[1];
+        jdbcTemplate.query(PENDING_ORDERS_SQL, rs -> {
+            if (orders.size() + unplanned.size() == maxOrders) {
+                truncated[0] = true;
+                return;
+            }
+            long orderId = rs.getLong(1);
+            DeliveryAreaIndex.Area area = areaIndex.resolve(rs.getString(2));
+            if (area != null) {
+                orders.add(new DispatchPlanner.PendingOrder(orderId, area));
+            } else {
+                unplanned.add(orderId);
+            }
+        }, maxOrders + 1);
+        if (truncated[0]) {
+            truncatedPlans.increment();
+            log.warn("[Dispatch] More than {} READY order(s) pending; planning only the oldest {}",
+                    maxOrders, maxOrders);
+        }
+
+        Map<Long, Integer> loads = new HashMap<>();
+        jdbcTemplate.query(RIDER_LOAD_SQL, rs -> { loads.put(rs.getLong(1), rs.getInt(2)); });
+
+        List<DispatchPlanner.Rider> riders = new ArrayList<>();
+        for (DeliveryPersonnelResponse rider : adminService.getActiveDeliveryPersonnel()) {
+            riders.add(new DispatchPlanner.Rider(rider.getId(), rider.getName(), loads.getOrDefault(rider.getId(), 0)));
+        }
+
+        if (riders.isEmpty()) {
+            orders.forEach(o -> unplanned.add(o.orderId()));
+            orders.clear();
+        }
+        List<DispatchPlanner.RiderPlan> plans =
+                DispatchPlanner.plan(orders, riders, tripCapacity, mergeRadiusKm);
+
+        int trips = 0;
+        List<DispatchPlanResponse.RiderPlan> riderPlans = new ArrayList<>(plans.size());
+        for (DispatchPlanner.RiderPlan plan : plans) {
+            trips += plan.trips().size();
+            riderPlans.add(toResponse(plan));
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        log.info("[Dispatch] Planned {} order(s) into {} trip(s) across {} rider(s) in {} ms ({} unplanned)",
+                orders.size(), trips, riders.size(), elapsedMillis, unplanned.size());
+
+        return DispatchPlanResponse.builder()
+                .plannedAt(LocalDateTime.now())
+                .planningMillis(elapsedMillis)
+                .pendingOrders(orders.size() + unplanned.size())
+                .plannedOrders(orders.size())
+                .trips(trips)
+                .riders(riderPlans)
+                .unplannedOrderIds(unplanned)
+                .truncated(truncated[0])
+                .build();
+    }
+
+    private DispatchPlanResponse.RiderPlan toResponse(DispatchPlanner.RiderPlan plan) {
+        List<DispatchPlanResponse.Trip> trips = new ArrayList<>(plan.trips().size());
+        List<Long> orderIds = new ArrayList<>();
+        for (DispatchPlanner.Trip trip : plan.trips()) {
+            trips.add(DispatchPlanResponse.Trip.builder()
+                    .areas(trip.areas())
+                    .orderIds(trip.orderIds())
+                    .build());
+            orderIds.addAll(trip.orderIds());
+        }
+        return DispatchPlanResponse.RiderPlan.builder()
+                .deliveryPersonId(plan.rider().id())
+                .deliveryPersonName(plan.rider().name())
+                .currentLoad(plan.rider().currentLoad())
+                .projectedLoad(plan.projectedLoad())
+                .trips(trips)
+                .orderIds(orderIds)
+                .build();
+    }
+}
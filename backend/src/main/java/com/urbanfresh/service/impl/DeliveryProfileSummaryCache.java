@@ -0,0 +1,55 @@
+package com.urbanfresh.service.impl;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.urbanfresh.dto.response.DeliveryProfileSummaryResponse;
+import com.urbanfresh.event.DeliveryAssignmentsChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service Layer – Per-rider cache of delivery profile summary counters.
+ * Rider apps poll the summary throughout a shift while the underlying counts only move
+ * on assignment and delivery status changes, so entries are evicted per rider when a
+ * DeliveryAssignmentsChangedEvent commits. The TTL is a safety net for writes made
+ * outside OrderService; a TTL of 0 disables caching.
+ */
+@Slf4j
+@Component
+public class DeliveryProfileSummaryCache {
+
+    private final GenerationCache<Long, DeliveryProfileSummaryResponse> summaries = new GenerationCache<>();
+
+    @Value("${app.delivery.profile-summary.cache-ttl-ms:30000}")
+    private long ttlMillis;
+
+    /**
+     * Returns the cached summary for the rider, loading and caching it when absent or expired.
+     *
+     * @param deliveryPersonId rider user ID
+     * @param loader           runs the aggregate query on a miss
+     * @return the rider's summary counters
+     */
+    public DeliveryProfileSummaryResponse get(Long deliveryPersonId, Supplier<DeliveryProfileSummaryResponse> loader) {
+        if (ttlMillis <= 0) {
+            return loader.get();
+        }
+
+        return summaries.get(deliveryPersonId, ttlMillis, loader);
+    }
+
+    /**
+     * Evicts the affected riders once the assignment change has committed.
+     *
+     * @param event the committed assignment change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeliveryAssignmentsChanged(DeliveryAssignmentsChangedEvent event) {
+        summaries.invalidateAll(event.getDeliveryPersonIds());
+        log.debug("[DeliveryProfileSummaryCache] Evicted riders={}", event.getDeliveryPersonIds());
+    }
+}
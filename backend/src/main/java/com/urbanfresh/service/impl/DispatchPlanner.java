@@ -0,0 +1,158 @@
+package com.urbanfresh.service.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Service Layer – Pure dispatch planning: groups orders into trips by area and spreads
+ * the trips across riders. No I/O, so a wave of thousands of orders plans in milliseconds.
+ *
+ * 1. Orders are grouped by resolved area; each group is cut into trips of at most
+ *    tripCapacity orders.
+ * 2. Left-over partial trips are merged with the nearest other partial within
+ *    mergeRadiusKm while capacity allows, so small neighbouring areas share one run.
+ * 3. Trips are assigned largest first to the rider with the lowest projected load
+ *    (current OUT_FOR_DELIVERY count plus already proposed orders).
+ */
+final class DispatchPlanner {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    record PendingOrder(Long orderId, DeliveryAreaIndex.Area area) {
+    }
+
+    record Rider(Long id, String name, int currentLoad) {
+    }
+
+    record Trip(List<String> areas, List<Long> orderIds) {
+    }
+
+    record RiderPlan(Rider rider, List<Trip> trips, int projectedLoad) {
+    }
+
+    /** Orders sharing one area, before being cut into trips. */
+    private record Group(DeliveryAreaIndex.Area area, List<String> areas, List<Long> orderIds) {
+    }
+
+    private DispatchPlanner() {
+    }
+
+    /**
+     * @param orders       orders to plan, oldest first; every order must have a resolved area
+     * @param riders       active riders with their current load
+     * @param tripCapacity maximum orders per trip
+     * @param mergeRadiusKm maximum distance between area centroids merged into one trip
+     * @return one plan per rider, in the order riders were given; empty when there are no riders
+     */
+    static List<RiderPlan> plan(List<PendingOrder> orders, List<Rider> riders,
+                                int tripCapacity, double mergeRadiusKm) {
+        if (riders.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Group> byArea = new LinkedHashMap<>();
+        for (PendingOrder order : orders) {
+            byArea.computeIfAbsent(order.area().code(),
+                    code -> new Group(order.area(), List.of(code), new ArrayList<>()))
+                    .orderIds().add(order.orderId());
+        }
+
+        List<Trip> trips = new ArrayList<>();
+        List<Group> partials = new ArrayList<>();
+        for (Group group : byArea.values()) {
+            List<Long> ids = group.orderIds();
+            int full = ids.size() - ids.size() % tripCapacity;
+            for (int i = 0; i < full; i += tripCapacity) {
+                trips.add(new Trip(group.areas(), List.copyOf(ids.subList(i, i + tripCapacity))));
+            }
+            if (full < ids.size()) {
+                partials.add(new Group(group.area(), group.areas(), ids.subList(full, ids.size())));
+            }
+        }
+        trips.addAll(mergePartials(partials, tripCapacity, mergeRadiusKm));
+
+        return assign(trips, riders);
+    }
+
+    /** Greedy nearest-neighbour merge of partial trips, seeded from the largest. O(P²). */
+    private static List<Trip> mergePartials(List<Group> partials, int tripCapacity, double mergeRadiusKm) {
+        partials.sort(Comparator.comparingInt((Group g) -> g.orderIds().size()).reversed());
+        boolean[] used = new boolean[partials.size()];
+        List<Trip> trips = new ArrayList<>();
+
+        for (int i = 0; i < partials.size(); i++) {
+            if (used[i]) {
+                continue;
+            }
+            used[i] = true;
+            Group seed = partials.get(i);
+            List<String> areas = new ArrayList<>(seed.areas());
+            List<Long> orderIds = new ArrayList<>(seed.orderIds());
+
+            while (seed.area().hasLocation() && orderIds.size() < tripCapacity) {
+                int nearest = -1;
+                double nearestKm = mergeRadiusKm;
+                for (int j = i + 1; j < partials.size(); j++) {
+                    Group candidate = partials.get(j);
+                    if (used[j] || !candidate.area().hasLocation()
+                            || orderIds.size() + candidate.orderIds().size() > tripCapacity) {
+                        continue;
+                    }
+                    double km = distanceKm(seed.area(), candidate.area());
+                    if (km <= nearestKm) {
+                        nearest = j;
+                        nearestKm = km;
+                    }
+                }
+                if (nearest < 0) {
+                    break;
+                }
+                used[nearest] = true;
+                areas.addAll(partials.get(nearest).areas());
+                orderIds.addAll(partials.get(nearest).orderIds());
+            }
+            trips.add(new Trip(List.copyOf(areas), List.copyOf(orderIds)));
+        }
+        return trips;
+    }
+
+    /** Longest-trip-first onto the least-loaded rider; ties go to the lower rider ID. */
+    private static List<RiderPlan> assign(List<Trip> trips, List<Rider> riders) {
+        record Slot(Rider rider, List<Trip> trips, int[] load) {
+        }
+
+        List<Slot> slots = new ArrayList<>(riders.size());
+        PriorityQueue<Slot> leastLoaded = new PriorityQueue<>(
+                Comparator.comparingInt((Slot s) -> s.load()[0]).thenComparing(s -> s.rider().id()));
+        for (Rider rider : riders) {
+            Slot slot = new Slot(rider, new ArrayList<>(), new int[] { rider.currentLoad() });
+            slots.add(slot);
+            leastLoaded.add(slot);
+        }
+
+        trips.sort(Comparator.comparingInt((Trip t) -> t.orderIds().size()).reversed());
+        for (Trip trip : trips) {
+            Slot slot = leastLoaded.poll();
+            slot.trips().add(trip);
+            slot.load()[0] += trip.orderIds().size();
+            leastLoaded.add(slot);
+        }
+
+        return slots.stream()
+                .map(s -> new RiderPlan(s.rider(), s.trips(), s.load()[0]))
+                .toList();
+    }
+
+    private static double distanceKm(DeliveryAreaIndex.Area a, DeliveryAreaIndex.Area b) {
+        double dLat = Math.toRadians(b.latitude() - a.latitude());
+        double dLon = Math.toRadians(b.longitude() - a.longitude());
+        double h = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(a.latitude())) * Math.cos(Math.toRadians(b.latitude()))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(h));
+    }
+}
@@ -2,28 +2,35 @@ package com.urbanfresh.service.impl;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.urbanfresh.dto.response.ExpiryBucketResponse;
 import com.urbanfresh.dto.response.ExpiryProductResponse;
-import com.urbanfresh.model.Brand;
-import com.urbanfresh.model.Product;
+import com.urbanfresh.event.InventoryChangedEvent;
 import com.urbanfresh.repository.ProductBatchRepository;
-import com.urbanfresh.repository.ProductRepository;
 import com.urbanfresh.service.ExpiryService;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Expiry Service Implementation
  * Layer: Service (Business Logic)
- * Fetches all in-stock approved products expiring within 30 days from a single
- * DB query, then partitions them into three non-overlapping urgency buckets
- * entirely in-memory to avoid multiple round-trips.
+ * Fetches every in-stock approved product expiring within 30 days — together with its
+ * brand name and earliest allocatable batch expiry — from a single aggregate query, adds
+ * legacy products without batches by their product-level expiry date, then partitions
+ * the rows into three non-overlapping urgency buckets in one pass.
+ *
+ * The computed buckets are cached in memory until the day rolls over or an
+ * InventoryChangedEvent commits (batch creation, FIFO allocation, inventory edits,
+ * the daily expiry sweep, product edits), so repeated dashboard loads hit no SQL.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ExpiryServiceImpl implements ExpiryService {
@@ -37,81 +44,85 @@ public class ExpiryServiceImpl implements ExpiryService {
     /** Threshold for the "critical" bucket (0–1 day). */
     private static final int CRITICAL_THRESHOLD_DAYS = 1;
 
-    private final ProductRepository productRepository;
     private final ProductBatchRepository productBatchRepository;
 
+    /** Buckets keyed by the day they were computed for, so a new day always recomputes. */
+    private final GenerationCache<LocalDate, ExpiryBucketResponse> cache = new GenerationCache<>();
+
     /**
      * Returns expiry buckets for the admin expiry dashboard.
-     * One DB query fetches products expiring within 30 days;
-     * Java stream partitioning splits them into critical/urgent/warning.
+     * Served from the in-memory snapshot when it is still valid for today;
+     * otherwise one aggregate query is issued and the rows are bucketed in a single pass.
      *
      * @return ExpiryBucketResponse with three product lists and a combined total
      */
     @Override
+    @Transactional(readOnly = true)
     public ExpiryBucketResponse getExpiryBuckets() {
         LocalDate today = LocalDate.now();
-        LocalDate cutoff = today.plusDays(WINDOW_DAYS);
-
-        // Single query: all in-stock approved products in the 30-day window
-        List<Product> products = productRepository
-                .findByExpiryDateBetweenAndStockQuantityGreaterThanOrderByExpiryDateAsc(today, cutoff, 0);
-
-        List<ExpiryProductResponse> within1Day = products.stream()
-                .filter(p -> daysUntil(today, p) <= CRITICAL_THRESHOLD_DAYS)
-                .map(p -> toExpiryResponse(p, today))
-                .collect(Collectors.toList());
-
-        List<ExpiryProductResponse> within7Days = products.stream()
-                .filter(p -> {
-                    long days = daysUntil(today, p);
-                    // Non-overlapping: strictly between critical and urgent thresholds
-                    return days > CRITICAL_THRESHOLD_DAYS && days <= URGENT_THRESHOLD_DAYS;
-                })
-                .map(p -> toExpiryResponse(p, today))
-                .collect(Collectors.toList());
-
-        List<ExpiryProductResponse> within30Days = products.stream()
-                .filter(p -> daysUntil(today, p) > URGENT_THRESHOLD_DAYS)
-                .map(p -> toExpiryResponse(p, today))
-                .collect(Collectors.toList());
-
-        int total = within1Day.size() + within7Days.size() + within30Days.size();
-
-        return new ExpiryBucketResponse(within1Day, within7Days, within30Days, total);
+        return cache.get(today, () -> computeBuckets(today));
     }
 
     /**
-     * Returns the effective expiry date for a product — the earliest active batch
-     * with available stock. Falls back to the entity-level expiryDate for legacy
-     * products that have no batch records.
+     * Drops the cached buckets once an inventory-changing transaction has committed.
+     *
+     * @param event the committed inventory change
      */
-    private LocalDate effectiveExpiry(Product product) {
-        return productBatchRepository
-                .findEarliestExpiryDateByProductId(product.getId())
-                .orElse(product.getExpiryDate());
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        cache.clear();
+        log.debug("[ExpiryService] Expiry bucket cache invalidated for products={}", event.getProductIds());
     }
 
-    /** Calculates days from today to the product's effective (batch-derived) expiry date. */
-    private long daysUntil(LocalDate today, Product product) {
-        return ChronoUnit.DAYS.between(today, effectiveExpiry(product));
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    /**
+     * Runs the batch aggregate query plus the legacy-product query, merges the two by expiry
+     * and distributes the rows across the three buckets. Both inputs arrive ordered by
+     * expiry, so each bucket keeps that ordering.
+     */
+    private ExpiryBucketResponse computeBuckets(LocalDate today) {
+        LocalDate cutoff = today.plusDays(WINDOW_DAYS);
+        List<ExpiryProductResponse> rows = mergeByExpiry(
+                productBatchRepository.findExpiryDashboardRows(today, cutoff),
+                productBatchRepository.findLegacyExpiryDashboardRows(today, cutoff));
+
+        List<ExpiryProductResponse> within1Day = new ArrayList<>();
+        List<ExpiryProductResponse> within7Days = new ArrayList<>();
+        List<ExpiryProductResponse> within30Days = new ArrayList<>();
+
+        for (ExpiryProductResponse row : rows) {
+            long days = ChronoUnit.DAYS.between(today, row.getExpiryDate());
+            row.setDaysUntilExpiry(days);
+            if (days <= CRITICAL_THRESHOLD_DAYS) {
+                within1Day.add(row);
+            } else if (days <= URGENT_THRESHOLD_DAYS) {
+                within7Days.add(row);
+            } else {
+                within30Days.add(row);
+            }
+        }
+
+        return new ExpiryBucketResponse(within1Day, within7Days, within30Days, rows.size());
     }
 
-    /** Maps a Product entity + computed daysUntilExpiry to the lightweight response DTO. */
-    private ExpiryProductResponse toExpiryResponse(Product product, LocalDate today) {
-        Brand brand = product.getBrand();
-        LocalDate expiry = effectiveExpiry(product);
-        long days = ChronoUnit.DAYS.between(today, expiry);
-        return new ExpiryProductResponse(
-                product.getId(),
-                product.getName(),
-                product.getCategory(),
-                brand != null ? brand.getName() : null,
-                product.getPrice(),
-                product.getUnit(),
-                product.getStockQuantity(),
-                expiry,
-                days,
-                product.getDiscountPercentage()
-        );
+    /** Merges two expiry-ordered row lists into one, keeping batched rows first on ties. */
+    private static List<ExpiryProductResponse> mergeByExpiry(List<ExpiryProductResponse> batched,
+                                                             List<ExpiryProductResponse> legacy) {
+        if (legacy.isEmpty()) {
+            return batched;
+        }
+        List<ExpiryProductResponse> merged = new ArrayList<>(batched.size() + legacy.size());
+        int i = 0;
+        int j = 0;
+        while (i < batched.size() || j < legacy.size()) {
+            if (j == legacy.size() || (i < batched.size()
+                    && !batched.get(i).getExpiryDate().isAfter(legacy.get(j).getExpiryDate()))) {
+                merged.add(batched.get(i++));
+            } else {
+                merged.add(legacy.get(j++));
+            }
+        }
+        return merged;
     }
 }
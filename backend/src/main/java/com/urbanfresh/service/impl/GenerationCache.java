@@ -0,0 +1,85 @@
+package com.urbanfresh.service.impl;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Service Layer – In-memory read-through cache invalidated by committed writes.
+ * Every invalidation bumps a generation counter, and a freshly loaded value is only stored
+ * while the generation is unchanged, so a load racing with an invalidation is returned to
+ * its caller but never cached. Owners evict from a @TransactionalEventListener once the
+ * writing transaction has committed.
+ *
+ * @param <K> cache key
+ * @param <V> cached value
+ */
+final class GenerationCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAtMillis) {
+    }
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Returns the cached value, loading it on a miss. Entries live until invalidated.
+     *
+     * @param key    cache key
+     * @param loader computes the value on a miss
+     * @return the cached or freshly loaded value
+     */
+    V get(K key, Supplier<V> loader) {
+        return get(key, Long.MAX_VALUE, loader);
+    }
+
+    /**
+     * Returns the cached value, loading it on a miss or once the entry is older than ttlMillis.
+     *
+     * @param key       cache key
+     * @param ttlMillis how long a loaded value may be served
+     * @param loader    computes the value on a miss
+     * @return the cached or freshly loaded value
+     */
+    V get(K key, long ttlMillis, Supplier<V> loader) {
+        long now = System.currentTimeMillis();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAtMillis() > now) {
+            return entry.value();
+        }
+
+        long loadGeneration = generation.get();
+        V value = loader.get();
+        if (generation.get() == loadGeneration) {
+            long expiresAt = ttlMillis >= Long.MAX_VALUE - now ? Long.MAX_VALUE : now + ttlMillis;
+            Entry<V> loaded = new Entry<>(value, expiresAt);
+            entries.put(key, loaded);
+            // An invalidation between the check and the put found nothing to evict; undo the put.
+            // Invalidations bump the generation before evicting, so this re-check cannot miss one.
+            if (generation.get() != loadGeneration) {
+                entries.remove(key, loaded);
+            }
+        }
+        return value;
+    }
+
+    /** Evicts one key and discards any load still in flight. */
+    void invalidate(K key) {
+        generation.incrementAndGet();
+        entries.remove(key);
+    }
+
+    /** Evicts the given keys and discards any load still in flight. */
+    void invalidateAll(Collection<? extends K> keys) {
+        generation.incrementAndGet();
+        keys.forEach(entries::remove);
+    }
+
+    /** Evicts every entry and discards any load still in flight. */
+    void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+}
@@ -1,15 +1,41 @@
 package com.urbanfresh.service.impl;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.urbanfresh.dto.request.BulkInventoryAdjustmentRequest;
+import com.urbanfresh.dto.request.BulkInventoryAdjustmentRequest.InventoryAdjustmentRow;
 import com.urbanfresh.dto.request.InventoryUpdateRequest;
 import com.urbanfresh.dto.response.BatchResponse;
+import com.urbanfresh.dto.response.BulkOperationResponse;
+import com.urbanfresh.dto.response.BulkOperationResponse.RowResult;
+import com.urbanfresh.dto.response.InventoryPageResponse;
 import com.urbanfresh.dto.response.InventoryResponse;
+import com.urbanfresh.event.InventoryChangedEvent;
+import com.urbanfresh.exception.BulkImportException;
 import com.urbanfresh.exception.ProductNotFoundException;
 import com.urbanfresh.model.Product;
 import com.urbanfresh.model.ProductBatch;
@@ -18,6 +44,7 @@ import com.urbanfresh.repository.ProductRepository;
 import com.urbanfresh.service.InventoryService;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Service Layer – Implements inventory lookup and stock-level update operations.
@@ -25,12 +52,29 @@ import lombok.RequiredArgsConstructor;
  * by storing the updating admin's email on each inventory change.
  * Layer: Service
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class InventoryServiceImpl implements InventoryService {
 
     private final ProductRepository productRepository;
     private final ProductBatchRepository productBatchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /** Rows committed per transaction during bulk adjustment; bounds lock time and undo size. */
+    private static final int BULK_CHUNK_SIZE = 500;
+
+    /** Upper bound shared by JSON and CSV uploads. */
+    private static final int BULK_MAX_ROWS = 50_000;
+
+    private static final String UPDATE_PRODUCT_STOCK_SQL =
+            "UPDATE products SET stock_quantity = ?, reorder_threshold = ?, " +
+            "inventory_updated_by = ?, updated_at = ? WHERE id = ?";
+
+    private static final String UPDATE_BATCH_AVAILABLE_SQL =
+            "UPDATE product_batches SET available_quantity = ? WHERE id = ?";
 
     /**
      * Retrieves all products sorted alphabetically and maps each to an InventoryResponse.
@@ -47,6 +91,38 @@ public class InventoryServiceImpl implements InventoryService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Fetches size + 1 projected rows after the (name, id) cursor; the extra row only
+     * signals whether another slice exists and is not returned.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public InventoryPageResponse getInventoryPage(boolean lowStockOnly, String category, Long brandId,
+                                                  String afterName, Long afterId, int size) {
+        String cursorName = blankToNull(afterName);
+        List<InventoryResponse> rows = productRepository.findInventoryPage(
+                lowStockOnly,
+                blankToNull(category),
+                brandId,
+                cursorName,
+                cursorName != null && afterId != null ? afterId : 0L,
+                PageRequest.of(0, size + 1));
+        return toPage(rows, size);
+    }
+
+    /**
+     * Fetches size + 1 low-stock rows after the (stockGap, id) cursor from the stock-gap index.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public InventoryPageResponse getLowStockInventory(Integer afterGap, Long afterId, int size) {
+        List<InventoryResponse> rows = productRepository.findLowStockPage(
+                afterGap,
+                afterGap != null && afterId != null ? afterId : 0L,
+                PageRequest.of(0, size + 1));
+        return toPage(rows, size);
+    }
+
     /**
      * Updates stockQuantity, reorderThreshold, and the audit field inventoryUpdatedBy
      * for the identified product, then persists and returns the updated inventory entry.
@@ -84,9 +160,99 @@ public class InventoryServiceImpl implements InventoryService {
         }
 
         Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(InventoryChangedEvent.forProduct(productId));
         return toInventoryResponse(saved);
     }
 
+    /**
+     * Validates every row up front, then applies the valid ones in chunks of BULK_CHUNK_SIZE.
+     * Each chunk runs in its own transaction: one query checks which products exist, one query
+     * loads all their allocatable batches, and two JDBC batch statements write the new product
+     * and batch quantities. Batch redistribution follows the same oldest-first, capped-at-received
+     * rule as updateInventory. A failing chunk is rolled back and its rows reported as failed;
+     * later chunks still run.
+     */
+    @Override
+    public BulkOperationResponse bulkAdjustInventory(BulkInventoryAdjustmentRequest request, String updatedBy) {
+        List<InventoryAdjustmentRow> rows = request.getRows();
+        List<RowResult> results = new ArrayList<>(rows.size());
+        List<NumberedRow> valid = new ArrayList<>(rows.size());
+        Map<Long, Integer> firstRowByProduct = new HashMap<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            InventoryAdjustmentRow row = rows.get(i);
+            int rowNumber = i + 1;
+            String error = validateAdjustment(row, firstRowByProduct, rowNumber);
+            if (error != null) {
+                results.add(failed(rowNumber, row != null ? row.getProductId() : null, error));
+            } else {
+                valid.add(new NumberedRow(rowNumber, row));
+            }
+        }
+
+        for (int from = 0; from < valid.size(); from += BULK_CHUNK_SIZE) {
+            List<NumberedRow> chunk = valid.subList(from, Math.min(from + BULK_CHUNK_SIZE, valid.size()));
+            try {
+                results.addAll(transactionTemplate.execute(status -> applyAdjustmentChunk(chunk, updatedBy)));
+            } catch (RuntimeException ex) {
+                log.error("[InventoryService] Bulk adjustment chunk starting at row {} failed",
+                        chunk.get(0).rowNumber(), ex);
+                chunk.forEach(r -> results.add(failed(r.rowNumber(), r.row().getProductId(),
+                        "Chunk rolled back due to a database error; resubmit this row")));
+            }
+        }
+
+        results.sort(Comparator.comparingInt(RowResult::getRowNumber));
+        BulkOperationResponse response = BulkOperationResponse.of(results);
+        log.info("[InventoryService] Bulk adjustment by {}: {} rows, {} updated, {} failed",
+                updatedBy, response.getTotalRows(), response.getSucceeded(), response.getFailed());
+        return response;
+    }
+
+    /**
+     * Streams the CSV line by line into adjustment rows. Unparseable numbers become
+     * null fields and are reported by the shared row validation.
+     */
+    @Override
+    public BulkOperationResponse bulkAdjustInventoryFromCsv(InputStream csv, String updatedBy) {
+        List<InventoryAdjustmentRow> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new BulkImportException("CSV file is empty");
+            }
+            Map<String, Integer> header = CsvRows.headerIndex(CsvRows.parseLine(stripBom(headerLine)));
+            for (String column : List.of("productId", "quantity", "reorderThreshold")) {
+                if (!header.containsKey(column.toLowerCase(Locale.ROOT))) {
+                    throw new BulkImportException("CSV header is missing required column: " + column);
+                }
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (rows.size() == BULK_MAX_ROWS) {
+                    throw new BulkImportException("CSV may contain at most " + BULK_MAX_ROWS + " rows");
+                }
+                List<String> cells = CsvRows.parseLine(line);
+                rows.add(InventoryAdjustmentRow.builder()
+                        .productId(parseLongOrNull(CsvRows.cell(cells, header, "productId")))
+                        .quantity(parseIntOrNull(CsvRows.cell(cells, header, "quantity")))
+                        .reorderThreshold(parseIntOrNull(CsvRows.cell(cells, header, "reorderThreshold")))
+                        .build());
+            }
+        } catch (IOException ex) {
+            throw new BulkImportException("Could not read uploaded CSV: " + ex.getMessage());
+        }
+
+        if (rows.isEmpty()) {
+            throw new BulkImportException("CSV contains no data rows");
+        }
+        return bulkAdjustInventory(new BulkInventoryAdjustmentRequest(rows), updatedBy);
+    }
+
     /**
      * Returns all batches for a product ordered by expiry date ascending.
      * Provides the admin with a full snapshot of batch composition per product.
@@ -109,6 +275,136 @@ public class InventoryServiceImpl implements InventoryService {
 
     // ── Private helpers ────────────────────────────────────────────────────────
 
+    /**
+     * Applies one chunk inside the caller's transaction and returns its row results.
+     * Only reads entities; all writes go through JDBC batch statements.
+     */
+    private List<RowResult> applyAdjustmentChunk(List<NumberedRow> chunk, String updatedBy) {
+        Set<Long> productIds = chunk.stream()
+                .map(r -> r.row().getProductId())
+                .collect(Collectors.toSet());
+        Set<Long> existing = new HashSet<>(productRepository.findExistingIds(productIds));
+
+        Map<Long, List<ProductBatch>> batchesByProduct = new LinkedHashMap<>();
+        if (!existing.isEmpty()) {
+            for (ProductBatch batch : productBatchRepository.findAllocatableBatchesByProductIdIn(existing)) {
+                batchesByProduct.computeIfAbsent(batch.getProduct().getId(), id -> new ArrayList<>()).add(batch);
+            }
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> productArgs = new ArrayList<>(chunk.size());
+        List<Object[]> batchArgs = new ArrayList<>();
+        List<RowResult> results = new ArrayList<>(chunk.size());
+
+        for (NumberedRow numbered : chunk) {
+            InventoryAdjustmentRow row = numbered.row();
+            Long productId = row.getProductId();
+            if (!existing.contains(productId)) {
+                results.add(failed(numbered.rowNumber(), productId, "Product not found with id: " + productId));
+                continue;
+            }
+
+            productArgs.add(new Object[] {
+                    row.getQuantity(), row.getReorderThreshold(), updatedBy, now, productId });
+
+            int remaining = row.getQuantity();
+            for (ProductBatch batch : batchesByProduct.getOrDefault(productId, List.of())) {
+                int newQty = Math.min(remaining, batch.getReceivedQuantity());
+                batchArgs.add(new Object[] { newQty, batch.getId() });
+                remaining = Math.max(0, remaining - newQty);
+            }
+
+            results.add(RowResult.builder()
+                    .rowNumber(numbered.rowNumber())
+                    .id(productId)
+                    .success(true)
+                    .message("Stock set to " + row.getQuantity()
+                            + ", reorder threshold " + row.getReorderThreshold())
+                    .build());
+        }
+
+        if (!productArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_PRODUCT_STOCK_SQL, productArgs);
+        }
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_BATCH_AVAILABLE_SQL, batchArgs);
+        }
+        eventPublisher.publishEvent(new InventoryChangedEvent(existing));
+        return results;
+    }
+
+    /**
+     * Returns a failure reason for an invalid adjustment row, or null when the row is valid.
+     * A product may appear only once per upload; later duplicates are rejected.
+     */
+    private String validateAdjustment(InventoryAdjustmentRow row, Map<Long, Integer> firstRowByProduct,
+                                      int rowNumber) {
+        if (row == null || row.getProductId() == null) {
+            return "productId is required";
+        }
+        if (row.getQuantity() == null || row.getQuantity() < 0) {
+            return "quantity must be a whole number of 0 or greater";
+        }
+        if (row.getReorderThreshold() == null || row.getReorderThreshold() < 0) {
+            return "reorderThreshold must be a whole number of 0 or greater";
+        }
+        Integer firstRow = firstRowByProduct.putIfAbsent(row.getProductId(), rowNumber);
+        if (firstRow != null) {
+            return "Duplicate productId — already adjusted by row " + firstRow;
+        }
+        return null;
+    }
+
+    private RowResult failed(int rowNumber, Long id, String message) {
+        return RowResult.builder()
+                .rowNumber(rowNumber)
+                .id(id)
+                .success(false)
+                .message(message)
+                .build();
+    }
+
+    private Integer parseIntOrNull(String value) {
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private Long parseLongOrNull(String value) {
+        try {
+            return value == null ? null : Long.valueOf(value);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    /** Excel-exported UTF-8 CSVs start with a byte-order mark that would corrupt the first column name. */
+    private String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    /** Adjustment row paired with its 1-based position in the upload. */
+    private record NumberedRow(int rowNumber, InventoryAdjustmentRow row) {
+    }
+
+    /** Trims the look-ahead row off a size + 1 fetch and records whether it existed. */
+    private InventoryPageResponse toPage(List<InventoryResponse> rows, int size) {
+        boolean hasMore = rows.size() > size;
+        return InventoryPageResponse.builder()
+                .items(hasMore ? rows.subList(0, size) : rows)
+                .pageSize(size)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /** Treats blank query-string values the same as an absent filter. */
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
     /**
      * Maps a Product entity to an InventoryResponse.
      * Computes lowStock inline: true when quantity is at or below the reorder threshold.
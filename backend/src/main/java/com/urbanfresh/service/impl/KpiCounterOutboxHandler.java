@@ -0,0 +1,42 @@
+package com.urbanfresh.service.impl;
+
+import org.springframework.stereotype.Component;
+
+import com.urbanfresh.event.OrderPaidPayload;
+import com.urbanfresh.event.OutboxEventHandler;
+import com.urbanfresh.model.OutboxEvent;
+import com.urbanfresh.model.OutboxEventType;
+import com.urbanfresh.service.KpiCounterService;
+
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Service Layer – Outbox handler that keeps the dashboard's paid-revenue counter current.
+ */
+@Component
+@RequiredArgsConstructor
+public class KpiCounterOutboxHandler implements OutboxEventHandler {
+
+    /** Receipt name; also referenced by the counter seed query in KpiCounterServiceImpl. */
+    static final String NAME = "kpi-counters";
+
+    private final KpiCounterService kpiCounterService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(OutboxEventType type) {
+        return type == OutboxEventType.ORDER_PAID;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        OrderPaidPayload payload = objectMapper.readValue(event.getPayload(), OrderPaidPayload.class);
+        kpiCounterService.addPaidRevenue(payload.totalAmount());
+    }
+}
@@ -0,0 +1,41 @@
+package com.urbanfresh.service.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Service Layer – Line-total arithmetic shared by cart responses and order placement,
+ * so the price a customer sees in the cart is exactly the price the order snapshots.
+ */
+public final class LinePricing {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private LinePricing() {
+    }
+
+    /**
+     * Applies a percentage discount: unitPrice × (100 − discount%) / 100, rounded HALF_UP to cents.
+     *
+     * @param unitPrice          list price per unit
+     * @param discountPercentage 0–100; null or 0 returns unitPrice unchanged
+     * @return discounted unit price
+     */
+    public static BigDecimal discountedUnitPrice(BigDecimal unitPrice, Integer discountPercentage) {
+        if (discountPercentage == null || discountPercentage <= 0) {
+            return unitPrice;
+        }
+        return unitPrice.multiply(BigDecimal.valueOf(100 - discountPercentage))
+                .divide(HUNDRED, 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * @param unitPrice          list price per unit
+     * @param discountPercentage 0–100; null means no discount
+     * @param quantity           units on the line
+     * @return discounted unit price × quantity
+     */
+    public static BigDecimal lineTotal(BigDecimal unitPrice, Integer discountPercentage, int quantity) {
+        return discountedUnitPrice(unitPrice, discountPercentage).multiply(BigDecimal.valueOf(quantity));
+    }
+}
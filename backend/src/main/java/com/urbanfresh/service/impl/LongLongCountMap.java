@@ -0,0 +1,174 @@
+package com.urbanfresh.service.impl;
+
+/**
+ * Service Layer – Sparse primitive long→long counter used by the co-purchase index.
+ * Open addressing with linear probing over parallel long arrays, so a product's co-purchase
+ * counts cost 16 bytes per slot instead of a boxed HashMap entry (~80 bytes) and lookups
+ * never allocate. Key 0 marks an empty slot; product IDs start at 1.
+ * Not thread-safe — callers synchronise on the instance.
+ */
+final class LongLongCountMap {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+
+    /** Receives one entry per call during iteration. */
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+    LongLongCountMap() {
+        this(MIN_CAPACITY);
+    }
+
+    LongLongCountMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new long[capacity];
+    }
+
+    /**
+     * Adds delta to the count for key, inserting it at delta when absent.
+     *
+     * @param key   non-zero key
+     * @param delta amount to add
+     */
+    void increment(long key, long delta) {
+        if (key == 0) {
+            throw new IllegalArgumentException("Key 0 is reserved for empty slots");
+        }
+        int slot = slotOf(key);
+        if (keys[slot] == key) {
+            values[slot] += delta;
+            return;
+        }
+        keys[slot] = key;
+        values[slot] = delta;
+        // Keep the load factor at or below 0.5 so probe chains stay short
+        if (++size * 2 > keys.length) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /** @return the count for key, or 0 when absent */
+    long get(long key) {
+        if (key == 0) {
+            return 0;
+        }
+        int slot = slotOf(key);
+        return keys[slot] == key ? values[slot] : 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the k keys with the highest counts, highest first; ties go to the smaller key
+     * so results are stable across rebuilds. Runs in O(size · k) with no allocation beyond
+     * the result arrays, which is cheaper than sorting for the small k used here.
+     *
+     * @param k maximum number of keys to return
+     * @return top keys, at most k long
+     */
+    long[] topKeys(int k) {
+        int limit = Math.min(k, size);
+        long[] topKeys = new long[limit];
+        long[] topValues = new long[limit];
+        int filled = 0;
+        for (int i = 0; i < keys.length; i++) {
+            long key = keys[i];
+            if (key == 0) {
+                continue;
+            }
+            long value = values[i];
+            int pos = filled;
+            while (pos > 0 && ranksBefore(key, value, topKeys[pos - 1], topValues[pos - 1])) {
+                pos--;
+            }
+            if (pos == limit) {
+                continue;
+            }
+            int shift = Math.min(filled, limit - 1) - pos;
+            System.arraycopy(topKeys, pos, topKeys, pos + 1, shift);
+            System.arraycopy(topValues, pos, topValues, pos + 1, shift);
+            topKeys[pos] = key;
+            topValues[pos] = value;
+            if (filled < limit) {
+                filled++;
+            }
+        }
+        return topKeys;
+    }
+
+    /**
+     * Drops every entry outside the top n, bounding memory for products with long tails of
+     * one-off co-purchases.
+     *
+     * @param n number of entries to keep
+     */
+    void retainTop(int n) {
+        if (size <= n) {
+            return;
+        }
+        long[] keep = topKeys(n);
+        long[] counts = new long[keep.length];
+        for (int i = 0; i < keep.length; i++) {
+            counts[i] = get(keep[i]);
+        }
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, keep.length * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new long[capacity];
+        size = 0;
+        for (int i = 0; i < keep.length; i++) {
+            increment(keep[i], counts[i]);
+        }
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    private static boolean ranksBefore(long key, long value, long otherKey, long otherValue) {
+        return value > otherValue || (value == otherValue && key < otherKey);
+    }
+
+    /** Slot holding key, or the empty slot where it would be inserted. */
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[capacity];
+        values = new long[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.urbanfresh.service.impl;
+
+import org.springframework.stereotype.Component;
+
+import com.urbanfresh.event.OrderPaidPayload;
+import com.urbanfresh.event.OrderStatusChangedPayload;
+import com.urbanfresh.event.OutboxEventHandler;
+import com.urbanfresh.model.OrderStatus;
+import com.urbanfresh.model.OutboxEvent;
+import com.urbanfresh.model.OutboxEventType;
+import com.urbanfresh.model.User;
+import com.urbanfresh.repository.UserRepository;
+import com.urbanfresh.service.LoyaltyService;
+
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Service Layer – Outbox handler that settles loyalty points once an order is paid.
+ * Consumes the points validated at checkout and awards points on the items subtotal, and
+ * reverses both when a paid order is cancelled. Ledger idempotency keys and the outbox
+ * receipt guarantee each settlement applies once, even if Stripe sends both
+ * payment_intent.succeeded and charge.updated.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoyaltyOutboxHandler implements OutboxEventHandler {
+
+    private final LoyaltyService loyaltyService;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String name() {
+        return "loyalty";
+    }
+
+    @Override
+    public boolean supports(OutboxEventType type) {
+        return type == OutboxEventType.ORDER_PAID || type == OutboxEventType.ORDER_STATUS_CHANGED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        if (event.getEventType() == OutboxEventType.ORDER_STATUS_CHANGED) {
+            OrderStatusChangedPayload payload =
+                    objectMapper.readValue(event.getPayload(), OrderStatusChangedPayload.class);
+            // Only paid orders have settled points; PENDING cancellations have nothing to reverse
+            if (payload.newStatus() == OrderStatus.CANCELLED && payload.previousStatus() != OrderStatus.PENDING) {
+                loyaltyService.reverseOrderPoints(payload.customerId(), payload.orderId());
+            }
+            return;
+        }
+
+        OrderPaidPayload payload = objectMapper.readValue(event.getPayload(), OrderPaidPayload.class);
+        User customer = userRepository.getReferenceById(payload.customerId());
+
+        if (payload.pointsRedeemed() > 0) {
+            loyaltyService.deductRedeemedPoints(customer, payload.orderId(), payload.pointsRedeemed());
+        }
+        loyaltyService.awardPoints(customer, payload.orderId(), payload.itemsSubtotal());
+    }
+}
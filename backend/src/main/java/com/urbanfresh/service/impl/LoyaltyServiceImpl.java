@@ -2,26 +2,50 @@ package com.urbanfresh.service.impl;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.urbanfresh.dto.response.LoyaltyPointsResponse;
+import com.urbanfresh.dto.response.LoyaltyTransactionResponse;
+import com.urbanfresh.event.LoyaltyBalanceChangedEvent;
 import com.urbanfresh.exception.InsufficientLoyaltyPointsException;
 import com.urbanfresh.exception.UserNotFoundException;
 import com.urbanfresh.model.LoyaltyPoints;
+import com.urbanfresh.model.LoyaltyTransaction;
+import com.urbanfresh.model.LoyaltyTransactionType;
 import com.urbanfresh.model.User;
 import com.urbanfresh.repository.LoyaltyPointsRepository;
+import com.urbanfresh.repository.LoyaltyTransactionRepository;
 import com.urbanfresh.repository.UserRepository;
 import com.urbanfresh.service.LoyaltyService;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Service Layer – Implements loyalty points awarding and retrieval.
  * Conversion rule: 1 point per every full LKR 100 spent on an order.
- * Ledger row is lazily created on the first order placed by a customer.
+ * Every change is first appended to loyalty_transactions under a unique idempotency key;
+ * only a newly inserted entry moves the loyalty_points balance, through a single atomic
+ * upsert. EARN and REDEEM take no read locks, so concurrent settlements for one customer only
+ * contend for the duration of their own UPDATE; a reversal locks just the order's entries.
+ * Customer summaries are cached until the balance changes.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class LoyaltyServiceImpl implements LoyaltyService {
@@ -35,57 +59,96 @@ public class LoyaltyServiceImpl implements LoyaltyService {
     private static final String CONVERSION_RULE =
             "Earn 1 point for every LKR 100 spent. Points can be redeemed in future orders.";
 
+    /**
+     * Inserts nothing when the order has already been reversed, and is a no-op update when the
+     * key exists; neither generates a key. Unlike INSERT IGNORE, FK violations and truncation
+     * still fail the statement instead of passing for an already-applied entry.
+     */
+    private static final String INSERT_ENTRY_SQL =
+            "INSERT INTO loyalty_transactions " +
+            "(user_id, order_id, entry_type, points, idempotency_key, created_at) " +
+            "SELECT ?, ?, ?, ?, ?, ? FROM DUAL WHERE NOT EXISTS (" +
+            "  SELECT 1 FROM loyalty_transactions r WHERE r.order_id = ? AND r.entry_type = 'REVERSE') " +
+            "ON DUPLICATE KEY UPDATE id = id";
+
+    private static final String UPSERT_BALANCE_SQL =
+            "INSERT INTO loyalty_points (user_id, earned_points, redeemed_points, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE " +
+            "earned_points = earned_points + VALUES(earned_points), " +
+            "redeemed_points = redeemed_points + VALUES(redeemed_points), " +
+            "updated_at = VALUES(updated_at)";
+
+    private static final String READ_BALANCE_SQL =
+            "SELECT earned_points - redeemed_points FROM loyalty_points WHERE user_id = ?";
+
+    private static final String SET_BALANCE_AFTER_SQL =
+            "UPDATE loyalty_transactions SET balance_after = ? WHERE idempotency_key = ?";
+
+    /**
+     * Locking read over the order's entries (idx_loyalty_tx_order): an EARN or REDEEM still in
+     * flight is waited for and included, and one that arrives later blocks until the REVERSE
+     * commits, then fails its NOT EXISTS check.
+     */
+    private static final String ORDER_ENTRIES_SQL =
+            "SELECT entry_type, SUM(points) FROM loyalty_transactions " +
+            "WHERE order_id = ? AND user_id = ? AND entry_type IN ('EARN', 'REDEEM') GROUP BY entry_type " +
+            "FOR UPDATE";
+
     private final LoyaltyPointsRepository loyaltyPointsRepository;
+    private final LoyaltyTransactionRepository loyaltyTransactionRepository;
     private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final GenerationCache<Long, LoyaltyPointsResponse> summaries = new GenerationCache<>();
 
     /**
      * Retrieves the loyalty summary for a customer identified by email.
      * If the customer has never placed an order, returns a zero-balance summary.
+     * Deliberately non-transactional: the cache generation must be read before the balance query.
      *
      * @param customerEmail email from JWT principal
      * @return LoyaltyPointsResponse with balance, earned, redeemed, and the conversion rule
      */
     @Override
-    @Transactional(readOnly = true)
     public LoyaltyPointsResponse getLoyaltyPoints(String customerEmail) {
         User customer = userRepository.findByEmail(customerEmail)
                 .orElseThrow(() -> new UserNotFoundException("Customer not found: " + customerEmail));
 
-        LoyaltyPoints ledger = loyaltyPointsRepository
+        return summaries.get(customer.getId(), () -> toLoyaltyResponse(loyaltyPointsRepository
                 .findByCustomerId(customer.getId())
-                .orElse(emptyLedger(customer));
+                .orElse(emptyLedger(customer))));
+    }
 
-        return toLoyaltyResponse(ledger);
+    @Override
+    @Transactional(readOnly = true)
+    public Page<LoyaltyTransactionResponse> getLoyaltyTransactions(String customerEmail, int page, int size) {
+        User customer = userRepository.findByEmail(customerEmail)
+                .orElseThrow(() -> new UserNotFoundException("Customer not found: " + customerEmail));
+
+        return loyaltyTransactionRepository
+                .findByCustomerIdOrderByIdDesc(customer.getId(), PageRequest.of(page, size))
+                .map(this::toTransactionResponse);
     }
 
     /**
-     * Credits earned points to the customer's ledger after a successful order.
-     * Uses find-or-create so the first-ever order initialises the ledger row.
-     * Called within the same @Transactional boundary as order placement.
+     * Credits earned points for a paid order through an EARN ledger entry.
+     * The first entry for a customer creates the balance row via the upsert.
      *
      * @param customer   the customer to credit
+     * @param orderId    order the points are earned on
      * @param orderTotal the order total in LKR; integer division gives whole points only
      */
     @Override
     @Transactional
-    public void awardPoints(User customer, BigDecimal orderTotal) {
-        // Pessimistic write lock prevents a lost-update race when two orders for the same
-        // customer are placed concurrently: both would otherwise read the same earnedPoints
-        // value, add their points independently, and one write would silently overwrite the other.
-        LoyaltyPoints ledger = loyaltyPointsRepository
-                .findByCustomerIdWithLock(customer.getId())
-                .orElseGet(() -> {
-                    // First order — bootstrap a fresh ledger for this customer
-                    LoyaltyPoints fresh = LoyaltyPoints.builder()
-                            .customer(customer)
-                            .build();
-                    return loyaltyPointsRepository.save(fresh);
-                });
-
+    public void awardPoints(User customer, Long orderId, BigDecimal orderTotal) {
         // Integer division intentional: only whole points are awarded
         int pointsEarned = orderTotal.intValue() / LKR_PER_POINT;
-        ledger.setEarnedPoints(ledger.getEarnedPoints() + pointsEarned);
-        loyaltyPointsRepository.save(ledger);
+        if (pointsEarned <= 0) {
+            return;
+        }
+        applyEntry(customer.getId(), orderId, LoyaltyTransactionType.EARN,
+                pointsEarned, pointsEarned, 0, "order-" + orderId + "-earn");
     }
 
     /**
@@ -124,25 +187,84 @@ public class LoyaltyServiceImpl implements LoyaltyService {
     }
 
     /**
-     * Deducts already-validated points from the customer's ledger.
+     * Deducts already-validated points through a REDEEM ledger entry.
      * Must be called only after payment is confirmed (PENDING → CONFIRMED) so points
      * are never permanently consumed for an unpaid order.
-     * Uses a pessimistic write lock to prevent concurrent double-deduction.
      */
     @Override
     @Transactional
-    public void deductRedeemedPoints(User customer, int pointsToDeduct) {
+    public void deductRedeemedPoints(User customer, Long orderId, int pointsToDeduct) {
         if (pointsToDeduct <= 0) {
             return; // nothing to deduct
         }
+        applyEntry(customer.getId(), orderId, LoyaltyTransactionType.REDEEM,
+                -pointsToDeduct, 0, pointsToDeduct, "order-" + orderId + "-redeem");
+    }
+
+    /**
+     * Writes one REVERSE entry cancelling the order's EARN and REDEEM entries: earned points
+     * are taken back and redeemed points returned. The entry is written even when nothing has
+     * been settled yet (0 points), because its presence is what makes a later, retried EARN or
+     * REDEEM for the cancelled order a no-op.
+     */
+    @Override
+    @Transactional
+    public void reverseOrderPoints(Long customerId, Long orderId) {
+        Map<LoyaltyTransactionType, Integer> settled = new EnumMap<>(LoyaltyTransactionType.class);
+        jdbcTemplate.query(ORDER_ENTRIES_SQL, rs -> {
+            settled.put(LoyaltyTransactionType.valueOf(rs.getString(1)), rs.getInt(2));
+        }, orderId, customerId);
+
+        int earned = settled.getOrDefault(LoyaltyTransactionType.EARN, 0);
+        int redeemed = -settled.getOrDefault(LoyaltyTransactionType.REDEEM, 0);
+        applyEntry(customerId, orderId, LoyaltyTransactionType.REVERSE,
+                redeemed - earned, -earned, -redeemed, "order-" + orderId + "-reverse");
+    }
+
+    /**
+     * Drops the customer's cached summary once the settling transaction has committed.
+     *
+     * @param event the committed balance change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLoyaltyBalanceChanged(LoyaltyBalanceChangedEvent event) {
+        summaries.invalidate(event.getCustomerId());
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    /**
+     * Appends a ledger entry and, only if it was newly inserted, applies the deltas to the
+     * balance row and stamps the entry with the resulting balance. The upsert's row lock is
+     * held from here to commit, which makes the balance read back consistent with this entry.
+     */
+    private void applyEntry(Long customerId, Long orderId, LoyaltyTransactionType type, int points,
+                            int earnedDelta, int redeemedDelta, String idempotencyKey) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_ENTRY_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, customerId);
+            ps.setLong(2, orderId);
+            ps.setString(3, type.name());
+            ps.setInt(4, points);
+            ps.setString(5, idempotencyKey);
+            ps.setTimestamp(6, now);
+            ps.setLong(7, orderId);
+            return ps;
+        }, keyHolder);
+        // The update count cannot tell a no-op duplicate from an insert (CLIENT_FOUND_ROWS); the key can
+        if (keyHolder.getKey() == null) {
+            log.debug("[LoyaltyService] Skipped {} for order {}: already applied or order reversed",
+                    type, orderId);
+            return;
+        }
 
-        LoyaltyPoints ledger = loyaltyPointsRepository
-                .findByCustomerIdWithLock(customer.getId())
-                .orElseThrow(() -> new InsufficientLoyaltyPointsException(
-                        "Loyalty ledger not found for customer — cannot deduct points."));
+        jdbcTemplate.update(UPSERT_BALANCE_SQL, customerId, earnedDelta, redeemedDelta, now, now);
+        Integer balance = jdbcTemplate.queryForObject(READ_BALANCE_SQL, Integer.class, customerId);
+        jdbcTemplate.update(SET_BALANCE_AFTER_SQL, balance, idempotencyKey);
 
-        ledger.setRedeemedPoints(ledger.getRedeemedPoints() + pointsToDeduct);
-        loyaltyPointsRepository.save(ledger);
+        eventPublisher.publishEvent(new LoyaltyBalanceChangedEvent(customerId));
     }
 
     /** Build a zero-balance in-memory ledger for a customer with no orders yet (not persisted). */
@@ -162,4 +284,15 @@ public class LoyaltyServiceImpl implements LoyaltyService {
                 .conversionRule(CONVERSION_RULE)
                 .build();
     }
+
+    private LoyaltyTransactionResponse toTransactionResponse(LoyaltyTransaction entry) {
+        return LoyaltyTransactionResponse.builder()
+                .id(entry.getId())
+                .type(entry.getType().name())
+                .points(entry.getPoints())
+                .balanceAfter(entry.getBalanceAfter())
+                .orderId(entry.getOrderId())
+                .createdAt(entry.getCreatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,54 @@
+package com.urbanfresh.service.impl;
+
+import org.springframework.stereotype.Component;
+
+import com.urbanfresh.event.OrderStatusChangedPayload;
+import com.urbanfresh.event.OutboxEventHandler;
+import com.urbanfresh.model.Order;
+import com.urbanfresh.model.OutboxEvent;
+import com.urbanfresh.model.OutboxEventType;
+import com.urbanfresh.repository.OrderRepository;
+import com.urbanfresh.service.NotificationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Service Layer – Outbox handler that creates the customer's in-app notification for an
+ * order status change.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxHandler implements OutboxEventHandler {
+
+    private final NotificationService notificationService;
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String name() {
+        return "notification";
+    }
+
+    @Override
+    public boolean supports(OutboxEventType type) {
+        return type == OutboxEventType.ORDER_STATUS_CHANGED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        OrderStatusChangedPayload payload =
+                objectMapper.readValue(event.getPayload(), OrderStatusChangedPayload.class);
+        if (!payload.notifyCustomer()) {
+            return;
+        }
+        Order order = orderRepository.findById(payload.orderId()).orElse(null);
+        if (order == null) {
+            log.warn("Order {} no longer exists — skipping status notification", payload.orderId());
+            return;
+        }
+        notificationService.createOrderStatusNotification(order, payload.newStatus());
+    }
+}
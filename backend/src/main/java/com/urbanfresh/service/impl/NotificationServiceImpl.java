@@ -33,7 +33,7 @@ public class NotificationServiceImpl implements NotificationService {
     /**
      * Builds a customer-friendly message for the given status and persists a
      * Notification linked to the order's customer.
-     * Called from OrderServiceImpl and PaymentServiceImpl after every status save.
+     * Called from NotificationOutboxHandler after an order status change commits.
      *
      * @param order     the updated order (must have customer eagerly available)
      * @param newStatus the status the order just transitioned to
@@ -3,31 +3,46 @@ package com.urbanfresh.service.impl;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.urbanfresh.dto.request.BulkDeliveryAssignmentRequest;
+import com.urbanfresh.dto.request.BulkOrderStatusUpdateRequest;
 import com.urbanfresh.dto.request.OrderItemRequest;
 import com.urbanfresh.dto.request.OrderStatusUpdateRequest;
 import com.urbanfresh.dto.request.PlaceOrderRequest;
 import com.urbanfresh.dto.response.AdminOrderResponse;
 import com.urbanfresh.dto.response.AdminOrderReviewResponse;
 import com.urbanfresh.dto.response.BatchAllocationDto;
+import com.urbanfresh.dto.response.BulkOperationResponse;
 import com.urbanfresh.dto.response.DeliveryAssignedOrderResponse;
 import com.urbanfresh.dto.response.DeliveryOrderDetailsResponse;
 import com.urbanfresh.dto.response.DeliveryProfileSummaryResponse;
 import com.urbanfresh.dto.response.OrderItemResponse;
 import com.urbanfresh.dto.response.OrderResponse;
+import com.urbanfresh.event.DeliveryAssignmentsChangedEvent;
+import com.urbanfresh.event.InventoryChangedEvent;
+import com.urbanfresh.event.OrderStatusChangedPayload;
 import com.urbanfresh.exception.InsufficientStockException;
 import com.urbanfresh.exception.InvalidOrderStatusTransitionException;
 import com.urbanfresh.exception.OrderNotFoundException;
@@ -37,7 +52,7 @@ import com.urbanfresh.model.Order;
 import com.urbanfresh.model.OrderItem;
 import com.urbanfresh.model.OrderItemBatchAllocation;
 import com.urbanfresh.model.OrderStatus;
-import com.urbanfresh.model.OrderStatusHistory;
+import com.urbanfresh.model.OutboxEventType;
 import com.urbanfresh.model.PaymentStatus;
 import com.urbanfresh.model.Product;
 import com.urbanfresh.model.ProductBatch;
@@ -50,10 +65,13 @@ import com.urbanfresh.repository.ProductBatchRepository;
 import com.urbanfresh.repository.ProductRepository;
 import com.urbanfresh.repository.UserRepository;
 import com.urbanfresh.service.LoyaltyService;
-import com.urbanfresh.service.NotificationService;
 import com.urbanfresh.service.OrderService;
+import com.urbanfresh.service.OutboxService;
 import com.urbanfresh.service.ProductBatchService;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -74,6 +92,18 @@ public class OrderServiceImpl implements OrderService {
 				"PENDING, CONFIRMED, PROCESSING, READY, CANCELLED, OUT_FOR_DELIVERY, DELIVERED, RETURNED";
                 private static final String DELIVERY_PAYMENT_METHOD_LABEL = "ONLINE (STRIPE)";
 
+        private static final String LOCK_ORDERS_SQL =
+                        "SELECT id, status, user_id, assigned_delivery_person_id FROM orders " +
+                        "WHERE id IN (:ids) ORDER BY id FOR UPDATE";
+
+        private static final String BULK_UPDATE_STATUS_SQL =
+                        "UPDATE orders SET status = :status WHERE id IN (:ids)";
+
+        private static final String BULK_ASSIGN_DELIVERY_SQL =
+                        "UPDATE orders SET assigned_delivery_person_id = :deliveryPersonId, " +
+                        "status = CASE WHEN status = 'READY' THEN 'OUT_FOR_DELIVERY' ELSE status END " +
+                        "WHERE id IN (:ids)";
+
         		// CONFIRMED is set only by the payment webhook — admins cannot set it directly
 		private static final Set<OrderStatus> ADMIN_MANAGEABLE_CURRENT_STATUSES = Set.of(
 				OrderStatus.CONFIRMED,   // admin can advance a paid order to PROCESSING
@@ -115,13 +145,18 @@ public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
         private final OrderStatusHistoryRepository orderStatusHistoryRepository;
+        private final OrderStatusHistoryAppender statusHistoryAppender;
+        private final NamedParameterJdbcTemplate namedJdbcTemplate;
+        private final DeliveryProfileSummaryCache deliveryProfileSummaryCache;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final LoyaltyService loyaltyService;
-    private final NotificationService notificationService;
     private final ProductBatchService productBatchService;
     private final ProductBatchRepository productBatchRepository;
     private final OrderItemBatchAllocationRepository allocationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Places an order for the authenticated customer.
@@ -143,6 +178,7 @@ public class OrderServiceImpl implements OrderService {
      */
     @Override
     @Transactional
+    @Timed(value = "urbanfresh.checkout.place-order", description = "Order placement including stock locks and FIFO allocation")
     public OrderResponse placeOrder(PlaceOrderRequest request, String customerEmail) {
 
         User customer = userRepository.findByEmail(customerEmail)
@@ -153,6 +189,7 @@ public class OrderServiceImpl implements OrderService {
         // than surfacing one problem at a time.
         List<String> stockErrors = new ArrayList<>();
         List<Product> lockedProducts = new ArrayList<>();
+        Timer.Sample lockWait = Timer.start(meterRegistry);
 
         for (OrderItemRequest item : request.getItems()) {
             Product product = productRepository.findByIdWithLock(item.getProductId())
@@ -166,6 +203,7 @@ public class OrderServiceImpl implements OrderService {
 
             lockedProducts.add(product);
         }
+        lockWait.stop(meterRegistry.timer("urbanfresh.checkout.product-lock"));
 
         // Reject the entire order if any item has insufficient stock
         if (!stockErrors.isEmpty()) {
@@ -187,17 +225,7 @@ public class OrderServiceImpl implements OrderService {
             // Apply product discount if present, then calculate line total from discounted unit price
             BigDecimal unitPrice = product.getPrice();
             Integer discountPercentage = product.getDiscountPercentage() != null ? product.getDiscountPercentage() : 0;
-            BigDecimal discountedUnitPrice = unitPrice;
-            
-            if (discountPercentage > 0) {
-                // discountedUnitPrice = unitPrice * (1 - discount% / 100)
-                discountedUnitPrice = unitPrice.multiply(
-                    BigDecimal.valueOf(100 - discountPercentage)
-                ).divide(BigDecimal.valueOf(100), 2, java.math.RoundingMode.HALF_UP);
-            }
-
-            BigDecimal lineTotal = discountedUnitPrice
-                    .multiply(BigDecimal.valueOf(itemRequest.getQuantity()));
+            BigDecimal lineTotal = LinePricing.lineTotal(unitPrice, discountPercentage, itemRequest.getQuantity());
             total = total.add(lineTotal);
 
             orderItems.add(OrderItem.builder()
@@ -400,15 +428,13 @@ public class OrderServiceImpl implements OrderService {
                                 order.setStatus(targetStatus);
                                 Order updated = orderRepository.save(order);
 
-                                orderStatusHistoryRepository.save(OrderStatusHistory.builder()
-                                                .order(updated)
-                                                .previousStatus(currentStatus)
-                                                .newStatus(targetStatus)
-                                                .changedByDelivery(deliveryPerson)
-                                                .changeReason(normalizeChangeReason(request.getChangeReason()))
-                                                .build());
+                                statusHistoryAppender.append(updated.getId(), currentStatus, targetStatus,
+                                                null, deliveryPerson.getId(),
+                                                normalizeChangeReason(request.getChangeReason()));
 
-                                notificationService.createOrderStatusNotification(updated, targetStatus);
+                                recordStatusChange(updated, currentStatus, targetStatus, true);
+                                eventPublisher.publishEvent(
+                                                DeliveryAssignmentsChangedEvent.forDeliveryPerson(deliveryPerson.getId()));
 
                                 Order detailedUpdatedOrder = orderRepository
                                                 .findDetailedByIdAndAssignedDeliveryPersonId(orderId, deliveryPerson.getId())
@@ -419,37 +445,37 @@ public class OrderServiceImpl implements OrderService {
 
         /**
          * Returns delivery profile summary counters for the authenticated delivery user.
+         * Counts come from one GROUP BY status aggregate and are cached per rider until the
+         * rider's assignments change. Deliberately non-transactional: the cache must read its
+         * generation before the aggregate query takes its snapshot.
          *
          * @param deliveryEmail email from JWT principal
          * @return delivery profile summary metrics
          */
         @Override
-        @Transactional(readOnly = true)
         public DeliveryProfileSummaryResponse getDeliveryProfileSummary(String deliveryEmail) {
                 User deliveryPerson = userRepository.findByEmailAndRoleAndIsActiveTrue(deliveryEmail, Role.DELIVERY)
                                 .orElseThrow(() -> new UserNotFoundException("Delivery personnel not found: " + deliveryEmail));
 
-                Long assignedCount = orderRepository.countByAssignedDeliveryPersonId(deliveryPerson.getId());
-                Long outForDeliveryCount = orderRepository.countByAssignedDeliveryPersonIdAndStatus(
-                                deliveryPerson.getId(),
-                                OrderStatus.OUT_FOR_DELIVERY
-                );
-                Long deliveredCount = orderRepository.countByAssignedDeliveryPersonIdAndStatus(
-                                deliveryPerson.getId(),
-                                OrderStatus.DELIVERED
-                );
-                Long returnedCount = orderRepository.countByAssignedDeliveryPersonIdAndStatus(
-                                deliveryPerson.getId(),
-                                OrderStatus.RETURNED
-                );
+                Long deliveryPersonId = deliveryPerson.getId();
+                return deliveryProfileSummaryCache.get(deliveryPersonId, () -> {
+                        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+                        long assignedCount = 0;
+                        for (OrderRepository.StatusCount row : orderRepository.countByStatusForDeliveryPerson(deliveryPersonId)) {
+                                counts.put(row.getStatus(), row.getTotal());
+                                assignedCount += row.getTotal();
+                        }
 
-                return DeliveryProfileSummaryResponse.builder()
-                                .assignedOrderCount(assignedCount)
-                                .outForDeliveryCount(outForDeliveryCount)
-                                .deliveredCount(deliveredCount)
-                                .returnedCount(returnedCount)
-                                .completedOrderCount(deliveredCount + returnedCount)
-                                .build();
+                        long deliveredCount = counts.getOrDefault(OrderStatus.DELIVERED, 0L);
+                        long returnedCount = counts.getOrDefault(OrderStatus.RETURNED, 0L);
+                        return DeliveryProfileSummaryResponse.builder()
+                                        .assignedOrderCount(assignedCount)
+                                        .outForDeliveryCount(counts.getOrDefault(OrderStatus.OUT_FOR_DELIVERY, 0L))
+                                        .deliveredCount(deliveredCount)
+                                        .returnedCount(returnedCount)
+                                        .completedOrderCount(deliveredCount + returnedCount)
+                                        .build();
+                });
         }
 
         /**
@@ -527,8 +553,8 @@ public class OrderServiceImpl implements OrderService {
                 Order order = orderRepository.findDetailedById(orderId)
                                 .orElseThrow(() -> new OrderNotFoundException(orderId));
 
-                List<OrderStatusHistory> historyRows =
-                                orderStatusHistoryRepository.findByOrderIdOrderByChangedAtDesc(orderId);
+                List<OrderStatusHistoryRepository.HistoryView> historyRows =
+                                orderStatusHistoryRepository.findHistoryViewsByOrderId(orderId);
 
                 return toAdminOrderReviewResponse(order, historyRows);
         }
@@ -598,15 +624,11 @@ public class OrderServiceImpl implements OrderService {
                 }
                 Order updated = orderRepository.save(order);
 
-                orderStatusHistoryRepository.save(OrderStatusHistory.builder()
-                                .order(updated)
-                                .previousStatus(currentStatus)
-                                .newStatus(targetStatus)
-                                .changedByAdmin(adminUser)
-                                .changeReason(normalizedReason)
-                                .build());
+                statusHistoryAppender.append(updated.getId(), currentStatus, targetStatus,
+                                adminUser.getId(), null,
+                                normalizedReason);
 
-                notificationService.createOrderStatusNotification(updated, targetStatus);
+                recordStatusChange(updated, currentStatus, targetStatus, true);
 
                 return toAdminOrderResponse(updated);
         }
@@ -638,6 +660,10 @@ public class OrderServiceImpl implements OrderService {
                                 productRepository.save(product);
                         }
                 }
+                eventPublisher.publishEvent(new InventoryChangedEvent(order.getItems().stream()
+                                .map(item -> item.getProduct().getId())
+                                .distinct()
+                                .toList()));
         }
 
         /**
@@ -657,15 +683,11 @@ public class OrderServiceImpl implements OrderService {
                         order.setStatus(OrderStatus.CANCELLED);
                         Order saved = orderRepository.save(order);
 
-                        orderStatusHistoryRepository.save(OrderStatusHistory.builder()
-                                .order(saved)
-                                .previousStatus(OrderStatus.PENDING)
-                                .newStatus(OrderStatus.CANCELLED)
-                                .changedByAdmin(null)
-                                .changeReason("Automatically cancelled after 24 hours — payment was not completed.")
-                                .build());
+                        statusHistoryAppender.append(saved.getId(), OrderStatus.PENDING, OrderStatus.CANCELLED,
+                                        null, null,
+                                        "Automatically cancelled after 24 hours — payment was not completed.");
 
-                        notificationService.createOrderStatusNotification(saved, OrderStatus.CANCELLED);
+                        recordStatusChange(saved, OrderStatus.PENDING, OrderStatus.CANCELLED, true);
                         log.info("[OrderService] Auto-cancelled stale PENDING order id={}", saved.getId());
                 }
 
@@ -674,6 +696,23 @@ public class OrderServiceImpl implements OrderService {
                 }
         }
 
+        /**
+         * Writes an ORDER_STATUS_CHANGED outbox event in the current transaction.
+         * Notifications and read-model invalidation are applied by outbox handlers after commit,
+         * keeping them out of the status-change transaction.
+         *
+         * @param order order after the change
+         * @param previousStatus status before the change
+         * @param newStatus status after the change
+         * @param notifyCustomer whether the customer receives an in-app notification
+         */
+        private void recordStatusChange(Order order, OrderStatus previousStatus, OrderStatus newStatus,
+                        boolean notifyCustomer) {
+                outboxService.append(OutboxEventType.ORDER_STATUS_CHANGED, order.getId(),
+                                new OrderStatusChangedPayload(order.getId(), order.getCustomer().getId(),
+                                                previousStatus, newStatus, notifyCustomer));
+        }
+
         /**
          * Normalizes optional change reason to null when empty.
          *
@@ -818,20 +857,11 @@ public class OrderServiceImpl implements OrderService {
                         return Map.of();
                 }
 
-                List<OrderStatusHistory> historyRows = orderStatusHistoryRepository
-                                .findByOrderIdInAndNewStatusInOrderByChangedAtDesc(
-                                                targetOrderIds,
-                                                List.of(OrderStatus.DELIVERED, OrderStatus.RETURNED)
-                                );
-
+                // One grouped row per order instead of every matching history entity
                 Map<Long, java.time.LocalDateTime> resolved = new HashMap<>();
-                for (OrderStatusHistory row : historyRows) {
-                        Long orderId = row.getOrder() != null ? row.getOrder().getId() : null;
-                        if (orderId == null || resolved.containsKey(orderId)) {
-                                continue;
-                        }
-
-                        resolved.put(orderId, row.getChangedAt());
+                for (Object[] row : orderStatusHistoryRepository.findLatestChangeTimes(
+                                targetOrderIds, List.of(OrderStatus.DELIVERED, OrderStatus.RETURNED))) {
+                        resolved.put((Long) row[0], (java.time.LocalDateTime) row[1]);
                 }
 
                 return resolved;
@@ -912,10 +942,11 @@ public class OrderServiceImpl implements OrderService {
          * Maps persisted entities to a detailed admin order review payload.
          *
          * @param order persisted order entity with relations preloaded
-         * @param historyRows persisted status history records
+         * @param historyRows compact status history views, newest first
          * @return complete admin order review response
          */
-        private AdminOrderReviewResponse toAdminOrderReviewResponse(Order order, List<OrderStatusHistory> historyRows) {
+        private AdminOrderReviewResponse toAdminOrderReviewResponse(Order order,
+                        List<OrderStatusHistoryRepository.HistoryView> historyRows) {
                 User deliveryPerson = order.getAssignedDeliveryPerson();
                 List<AdminOrderReviewResponse.OrderItemInfo> itemRows = order.getItems().stream()
                                 .map(item -> AdminOrderReviewResponse.OrderItemInfo.builder()
@@ -942,7 +973,7 @@ public class OrderServiceImpl implements OrderService {
                                 .map(row -> AdminOrderReviewResponse.StatusHistoryEntry.builder()
                                                 .previousStatus(row.getPreviousStatus().name())
                                                 .newStatus(row.getNewStatus().name())
-                                                .changedBy(resolveStatusChangedByName(row))
+                                                .changedBy(row.getChangedBy())
                                                 .changeReason(row.getChangeReason())
                                                 .changedAt(row.getChangedAt())
                                                 .build())
@@ -987,10 +1018,11 @@ public class OrderServiceImpl implements OrderService {
          * Resolves last update timestamp from status history or creation date fallback.
          *
          * @param order persisted order entity
-         * @param historyRows status history records
+         * @param historyRows status history views, newest first
          * @return last update timestamp for review UI
          */
-        private java.time.LocalDateTime resolveLastUpdatedDate(Order order, List<OrderStatusHistory> historyRows) {
+        private java.time.LocalDateTime resolveLastUpdatedDate(Order order,
+                        List<OrderStatusHistoryRepository.HistoryView> historyRows) {
                 if (!historyRows.isEmpty()) {
                         return historyRows.get(0).getChangedAt();
                 }
@@ -1014,24 +1046,6 @@ public class OrderServiceImpl implements OrderService {
                 return paymentStatus.name();
         }
 
-                /**
-                 * Resolves the actor name responsible for a status change row.
-                 *
-                 * @param row status history record
-                 * @return actor display name
-                 */
-                private String resolveStatusChangedByName(OrderStatusHistory row) {
-                                if (row.getChangedByAdmin() != null) {
-                                                return row.getChangedByAdmin().getName();
-                                }
-
-                                if (row.getChangedByDelivery() != null) {
-                                                return row.getChangedByDelivery().getName();
-                                }
-
-                                return "System";
-                }
-
                 /**
                  * Maps an assigned order entity to delivery order details response.
                  *
@@ -1099,25 +1113,277 @@ public class OrderServiceImpl implements OrderService {
                                 .orElseThrow(() -> new UserNotFoundException("Admin not found: " + adminEmail));
 
                 OrderStatus previousStatus = order.getStatus();
+                User previousDeliveryPerson = order.getAssignedDeliveryPerson();
                 order.setAssignedDeliveryPerson(deliveryPerson);
                 if (previousStatus == OrderStatus.READY) {
                         order.setStatus(OrderStatus.OUT_FOR_DELIVERY);
                 }
                 Order updated = orderRepository.save(order);
 
-                orderStatusHistoryRepository.save(OrderStatusHistory.builder()
-                                .order(updated)
-                                .previousStatus(previousStatus)
-                                .newStatus(updated.getStatus())
-                                .changedByAdmin(adminUser)
-                                .changeReason("Assigned to delivery personnel: " + deliveryPerson.getName())
-                                .build());
+                statusHistoryAppender.append(updated.getId(), previousStatus, updated.getStatus(),
+                                adminUser.getId(), null,
+                                "Assigned to delivery personnel: " + deliveryPerson.getName());
 
                 // Only notify when the status actually changed (READY → OUT_FOR_DELIVERY)
                 if (updated.getStatus() != previousStatus) {
-                        notificationService.createOrderStatusNotification(updated, updated.getStatus());
+                        recordStatusChange(updated, previousStatus, updated.getStatus(), true);
                 }
 
+                Set<Long> affectedRiders = new HashSet<>();
+                affectedRiders.add(deliveryPersonId);
+                if (previousDeliveryPerson != null) {
+                        affectedRiders.add(previousDeliveryPerson.getId());
+                }
+                eventPublisher.publishEvent(new DeliveryAssignmentsChangedEvent(affectedRiders));
+
                 return toAdminOrderResponse(updated);
         }
+
+        /**
+         * Moves many orders to one target status in a single transaction.
+         * Orders are row-locked and read in one query, every transition is validated in memory
+         * against ALLOWED_ADMIN_TRANSITIONS, and eligible orders are updated with one set-based
+         * UPDATE. History rows are batched by the appender and notifications are enqueued
+         * through the outbox in one JDBC batch. Orders already in the target status succeed as
+         * no-ops; every other rejection is reported per order without failing the rest.
+         *
+         * @param request    order IDs, target status and optional reason
+         * @param adminEmail authenticated admin email used to populate audit history
+         * @return per-order outcome report
+         */
+        @Override
+        @Transactional
+        public BulkOperationResponse bulkUpdateOrderStatus(BulkOrderStatusUpdateRequest request, String adminEmail) {
+                OrderStatus targetStatus;
+                try {
+                        targetStatus = OrderStatus.valueOf(request.getStatus().trim().toUpperCase());
+                } catch (IllegalArgumentException ex) {
+                        throw new InvalidOrderStatusTransitionException(
+                                        "Invalid order status '" + request.getStatus() +
+                                                        "'. Allowed values: " + FULL_STATUS_LABELS + "."
+                        );
+                }
+
+                if (!ADMIN_ALLOWED_TARGET_STATUSES.contains(targetStatus)) {
+                        throw new InvalidOrderStatusTransitionException(
+                                        "Admins can only set statuses: " + ADMIN_ALLOWED_STATUS_LABELS + "."
+                        );
+                }
+
+                User adminUser = userRepository.findByEmail(adminEmail)
+                                .orElseThrow(() -> new UserNotFoundException("Admin not found: " + adminEmail));
+                String normalizedReason = normalizeChangeReason(request.getChangeReason());
+
+                Map<Long, LockedOrderRow> lockedRows = lockOrderRows(request.getOrderIds());
+                Map<Long, OrderStatus> eligible = new LinkedHashMap<>();
+                List<BulkOperationResponse.RowResult> results = validateBulkRows(
+                                request.getOrderIds(), lockedRows, eligible, row -> {
+                        if (!ADMIN_MANAGEABLE_CURRENT_STATUSES.contains(row.status())) {
+                                return BulkRowOutcome.rejected("Admin cannot update an order once it reaches " + row.status() + ".");
+                        }
+                        if (row.status() == targetStatus) {
+                                return BulkRowOutcome.noOp("Already " + targetStatus + ".");
+                        }
+                        if (!ALLOWED_ADMIN_TRANSITIONS.getOrDefault(row.status(), Set.of()).contains(targetStatus)) {
+                                return BulkRowOutcome.rejected(
+                                                "Cannot transition order status from " + row.status() + " to " + targetStatus + ".");
+                        }
+                        if (isBackwardTransition(row.status(), targetStatus) && normalizedReason == null) {
+                                return BulkRowOutcome.rejected("Correction reason is required for backward status updates.");
+                        }
+                        return BulkRowOutcome.apply(row.status() + " → " + targetStatus);
+                });
+
+                if (!eligible.isEmpty()) {
+                        // Cancellation returns allocated stock batch by batch, as in the single-order path
+                        if (targetStatus == OrderStatus.CANCELLED) {
+                                orderRepository.findAllById(eligible.keySet()).forEach(this::restoreStockForOrder);
+                        }
+
+                        namedJdbcTemplate.update(BULK_UPDATE_STATUS_SQL, new MapSqlParameterSource()
+                                        .addValue("status", targetStatus.name())
+                                        .addValue("ids", eligible.keySet()));
+
+                        Map<Long, OrderStatusChangedPayload> payloads = new LinkedHashMap<>();
+                        eligible.forEach((orderId, previousStatus) -> {
+                                statusHistoryAppender.append(orderId, previousStatus, targetStatus,
+                                                adminUser.getId(), null, normalizedReason);
+                                payloads.put(orderId, new OrderStatusChangedPayload(orderId,
+                                                lockedRows.get(orderId).customerId(), previousStatus, targetStatus, true));
+                        });
+                        outboxService.appendAll(OutboxEventType.ORDER_STATUS_CHANGED, payloads);
+                }
+
+                log.info("[OrderService] Bulk status update to {}: {} of {} order(s) transitioned",
+                                targetStatus, eligible.size(), request.getOrderIds().size());
+                return BulkOperationResponse.of(results);
+        }
+
+        /**
+         * Assigns one active delivery person to many READY/OUT_FOR_DELIVERY orders.
+         * READY orders move to OUT_FOR_DELIVERY in the same set-based UPDATE. Orders already
+         * assigned to this person succeed as no-ops; ineligible orders are reported per order.
+         *
+         * @param request    order IDs and the delivery person to assign
+         * @param adminEmail authenticated admin email for audit trail
+         * @return per-order outcome report
+         */
+        @Override
+        @Transactional
+        public BulkOperationResponse bulkAssignDeliveryPersonnel(BulkDeliveryAssignmentRequest request, String adminEmail) {
+                Long deliveryPersonId = request.getDeliveryPersonId();
+                User deliveryPerson = userRepository.findByIdAndRole(deliveryPersonId, Role.DELIVERY)
+                                .orElseThrow(() -> new UserNotFoundException(
+                                        "Active delivery personnel not found with ID: " + deliveryPersonId));
+
+                if (!Boolean.TRUE.equals(deliveryPerson.getIsActive())) {
+                        throw new InvalidOrderStatusTransitionException(
+                                        "Cannot assign an inactive delivery person (ID: " + deliveryPersonId + ")."
+                        );
+                }
+
+                User adminUser = userRepository.findByEmail(adminEmail)
+                                .orElseThrow(() -> new UserNotFoundException("Admin not found: " + adminEmail));
+
+                Map<Long, LockedOrderRow> lockedRows = lockOrderRows(request.getOrderIds());
+                Map<Long, OrderStatus> eligible = new LinkedHashMap<>();
+                List<BulkOperationResponse.RowResult> results = validateBulkRows(
+                                request.getOrderIds(), lockedRows, eligible, row -> {
+                        if (row.status() != OrderStatus.READY && row.status() != OrderStatus.OUT_FOR_DELIVERY) {
+                                return BulkRowOutcome.rejected(
+                                                "Delivery can only be assigned to orders in READY or OUT_FOR_DELIVERY status. Current status: "
+                                                + row.status() + ".");
+                        }
+                        if (deliveryPersonId.equals(row.assignedDeliveryPersonId())) {
+                                return BulkRowOutcome.noOp("Already assigned to " + deliveryPerson.getName() + ".");
+                        }
+                        return BulkRowOutcome.apply("Assigned to " + deliveryPerson.getName() + ".");
+                });
+
+                if (!eligible.isEmpty()) {
+                        namedJdbcTemplate.update(BULK_ASSIGN_DELIVERY_SQL, new MapSqlParameterSource()
+                                        .addValue("deliveryPersonId", deliveryPersonId)
+                                        .addValue("ids", eligible.keySet()));
+
+                        String reason = "Assigned to delivery personnel: " + deliveryPerson.getName();
+                        Map<Long, OrderStatusChangedPayload> payloads = new LinkedHashMap<>();
+                        eligible.forEach((orderId, previousStatus) -> {
+                                OrderStatus newStatus = previousStatus == OrderStatus.READY
+                                                ? OrderStatus.OUT_FOR_DELIVERY
+                                                : previousStatus;
+                                statusHistoryAppender.append(orderId, previousStatus, newStatus,
+                                                adminUser.getId(), null, reason);
+                                // Only notify when the status actually changed (READY → OUT_FOR_DELIVERY)
+                                if (newStatus != previousStatus) {
+                                        payloads.put(orderId, new OrderStatusChangedPayload(orderId,
+                                                        lockedRows.get(orderId).customerId(), previousStatus, newStatus, true));
+                                }
+                        });
+                        outboxService.appendAll(OutboxEventType.ORDER_STATUS_CHANGED, payloads);
+
+                        Set<Long> affectedRiders = new HashSet<>();
+                        affectedRiders.add(deliveryPersonId);
+                        eligible.keySet().forEach(orderId -> {
+                                Long previousRider = lockedRows.get(orderId).assignedDeliveryPersonId();
+                                if (previousRider != null) {
+                                        affectedRiders.add(previousRider);
+                                }
+                        });
+                        eventPublisher.publishEvent(new DeliveryAssignmentsChangedEvent(affectedRiders));
+                }
+
+                log.info("[OrderService] Bulk delivery assignment to user {}: {} of {} order(s) assigned",
+                                deliveryPersonId, eligible.size(), request.getOrderIds().size());
+                return BulkOperationResponse.of(results);
+        }
+
+        /** Current state of an order row read under lock by the bulk operations. */
+        private record LockedOrderRow(OrderStatus status, Long customerId, Long assignedDeliveryPersonId) {
+        }
+
+        /** Result of the operation-specific check for one locked order row. */
+        private record BulkRowOutcome(boolean success, boolean eligible, String message) {
+
+                static BulkRowOutcome rejected(String reason) {
+                        return new BulkRowOutcome(false, false, reason);
+                }
+
+                /** Succeeds without changing anything (order already in the requested state). */
+                static BulkRowOutcome noOp(String message) {
+                        return new BulkRowOutcome(true, false, message);
+                }
+
+                static BulkRowOutcome apply(String message) {
+                        return new BulkRowOutcome(true, true, message);
+                }
+        }
+
+        /**
+         * Validates every requested order ID and builds one result per input row. Null,
+         * duplicate and unknown IDs are rejected here; rows that exist are passed to the
+         * operation's rule, and those it accepts for change are added to {@code eligible}
+         * with their current status, in request order.
+         *
+         * @param orderIds   requested IDs, as sent
+         * @param lockedRows rows locked by lockOrderRows
+         * @param eligible   receives orders to change, keyed by ID
+         * @param rule       operation-specific check for an existing row
+         * @return per-row results in request order
+         */
+        private List<BulkOperationResponse.RowResult> validateBulkRows(List<Long> orderIds,
+                        Map<Long, LockedOrderRow> lockedRows, Map<Long, OrderStatus> eligible,
+                        Function<LockedOrderRow, BulkRowOutcome> rule) {
+                Set<Long> seen = new HashSet<>();
+                List<BulkOperationResponse.RowResult> results = new ArrayList<>(orderIds.size());
+
+                int rowNumber = 0;
+                for (Long orderId : orderIds) {
+                        rowNumber++;
+                        BulkRowOutcome outcome;
+                        if (orderId == null) {
+                                outcome = BulkRowOutcome.rejected("Order ID is required.");
+                        } else if (!seen.add(orderId)) {
+                                outcome = BulkRowOutcome.rejected("Duplicate order ID in request.");
+                        } else if (!lockedRows.containsKey(orderId)) {
+                                outcome = BulkRowOutcome.rejected("Order not found with ID: " + orderId);
+                        } else {
+                                LockedOrderRow row = lockedRows.get(orderId);
+                                outcome = rule.apply(row);
+                                if (outcome.eligible()) {
+                                        eligible.put(orderId, row.status());
+                                }
+                        }
+
+                        results.add(BulkOperationResponse.RowResult.builder()
+                                        .rowNumber(rowNumber)
+                                        .id(orderId)
+                                        .success(outcome.success())
+                                        .message(outcome.message())
+                                        .build());
+                }
+                return results;
+        }
+
+        /**
+         * Locks the requested order rows in ID order (deadlock-safe) and reads the columns the
+         * bulk operations validate against, in one query.
+         *
+         * @param orderIds requested IDs; nulls and duplicates are ignored here
+         * @return locked rows keyed by order ID; missing IDs are absent
+         */
+        private Map<Long, LockedOrderRow> lockOrderRows(List<Long> orderIds) {
+                Set<Long> ids = new TreeSet<>();
+                orderIds.stream().filter(Objects::nonNull).forEach(ids::add);
+                Map<Long, LockedOrderRow> rows = new HashMap<>();
+                if (ids.isEmpty()) {
+                        return rows;
+                }
+                namedJdbcTemplate.query(LOCK_ORDERS_SQL, new MapSqlParameterSource("ids", ids), rs -> {
+                        rows.put(rs.getLong("id"), new LockedOrderRow(
+                                        OrderStatus.valueOf(rs.getString("status")),
+                                        rs.getLong("user_id"),
+                                        rs.getObject("assigned_delivery_person_id", Long.class)));
+                });
+                return rows;
+        }
 }
@@ -0,0 +1,120 @@
+package com.urbanfresh.service.impl;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.urbanfresh.model.OrderStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service Layer – Collects order status history rows for the current transaction and
+ * writes them with one JDBC batch INSERT just before commit.
+ * A bulk transition over hundreds of orders therefore costs one batched round trip for its
+ * audit rows instead of one INSERT (and one persistence-context entry) per order.
+ * Outside a transaction rows are written immediately.
+ *
+ * The changed_at timestamp is taken at append time, so ordering within the flushed batch
+ * matches the order of the transitions.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStatusHistoryAppender {
+
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO order_status_history (order_id, previous_status, new_status, " +
+            "changed_by_admin_id, changed_by_delivery_id, change_reason, changed_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Buffers one transition. At most one of the actor IDs is set; both null means "System".
+     *
+     * @param orderId             order that changed
+     * @param previousStatus      status before the change
+     * @param newStatus           status after the change
+     * @param changedByAdminId    acting admin, or null
+     * @param changedByDeliveryId acting delivery user, or null
+     * @param changeReason        optional reason shown on the review screen
+     */
+    public void append(Long orderId, OrderStatus previousStatus, OrderStatus newStatus,
+                       Long changedByAdminId, Long changedByDeliveryId, String changeReason) {
+        Object[] row = {
+                orderId,
+                previousStatus.name(),
+                newStatus.name(),
+                changedByAdminId,
+                changedByDeliveryId,
+                changeReason,
+                Timestamp.valueOf(LocalDateTime.now()) };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            jdbcTemplate.update(INSERT_HISTORY_SQL, row);
+            return;
+        }
+        buffer().add(row);
+    }
+
+    /**
+     * Writes buffered rows now. Only needed when the same transaction reads history back;
+     * otherwise the pre-commit hook flushes automatically.
+     */
+    public void flush() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = (List<Object[]>) TransactionSynchronizationManager.getResource(this);
+        if (rows != null && !rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, rows);
+            rows.clear();
+        }
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    /**
+     * Per-transaction buffer, registered with a pre-commit flush on first use. The buffer is
+     * unbound while its transaction is suspended, so a REQUIRES_NEW transaction gets its own.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object[]> buffer() {
+        List<Object[]> rows = (List<Object[]>) TransactionSynchronizationManager.getResource(this);
+        if (rows == null) {
+            List<Object[]> bound = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResource(OrderStatusHistoryAppender.this);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(OrderStatusHistoryAppender.this, bound);
+                }
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    // Qualified: a bare flush() resolves to the no-op TransactionSynchronization.flush()
+                    OrderStatusHistoryAppender.this.flush();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OrderStatusHistoryAppender.this);
+                }
+            });
+            rows = bound;
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,215 @@
+package com.urbanfresh.service.impl;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.urbanfresh.event.OutboxEventHandler;
+import com.urbanfresh.model.OutboxEvent;
+import com.urbanfresh.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service Layer – Delivers transactional outbox events to in-process handlers.
+ * Called by OutboxPollingScheduler. Each poll reads a batch of unpublished events and, for
+ * every (event, handler) pair, runs the handler in its own transaction together with an
+ * INSERT IGNORE into outbox_handler_receipts. A receipt that already exists means the
+ * handler ran before, so redelivery (crash, partial failure, two instances polling) is a
+ * no-op — at-least-once delivery with exactly-once effects.
+ * Fully delivered events are stamped published in one UPDATE per batch.
+ *
+ * An event that fails max-attempts times is dead-lettered: it stays in outbox_events for
+ * manual review, is counted in urbanfresh.outbox.dead_lettered, and the number waiting is
+ * exported as urbanfresh.outbox.dead_letter.backlog (alert when above zero).
+ * purgePublished removes published events and their receipts after the retention period.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final String CLAIM_RECEIPT_SQL =
+            "INSERT IGNORE INTO outbox_handler_receipts (event_id, handler, processed_at) VALUES (?, ?, ?)";
+
+    private static final String MARK_PUBLISHED_SQL =
+            "UPDATE outbox_events SET published_at = :now WHERE id IN (:ids)";
+
+    private static final String RECORD_FAILURE_SQL =
+            "UPDATE outbox_events SET attempts = attempts + 1, last_error = ? WHERE id = ?";
+
+    private static final String EXPIRED_PUBLISHED_IDS_SQL =
+            "SELECT id FROM outbox_events WHERE published_at < ? ORDER BY published_at, id LIMIT ?";
+
+    private static final String DELETE_RECEIPTS_SQL =
+            "DELETE FROM outbox_handler_receipts WHERE event_id IN (:ids)";
+
+    private static final String DELETE_EVENTS_SQL =
+            "DELETE FROM outbox_events WHERE id IN (:ids)";
+
+    private static final String DEAD_LETTER_COUNT_SQL =
+            "SELECT COUNT(*) FROM outbox_events WHERE published_at IS NULL AND attempts >= ?";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventHandler> handlers;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate handlerTransaction;
+    private final Counter deadLettered;
+    private final AtomicLong deadLetterBacklog = new AtomicLong();
+
+    @Value("${app.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.outbox.max-batches-per-poll:10}")
+    private int maxBatchesPerPoll;
+
+    @Value("${app.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            List<OutboxEventHandler> handlers,
+                            JdbcTemplate jdbcTemplate,
+                            NamedParameterJdbcTemplate namedJdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlers = handlers;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.handlerTransaction = new TransactionTemplate(transactionManager);
+        this.handlerTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.deadLettered = Counter.builder("urbanfresh.outbox.dead_lettered")
+                .description("Outbox events that reached max-attempts and are no longer retried")
+                .register(meterRegistry);
+        meterRegistry.gauge("urbanfresh.outbox.dead_letter.backlog", deadLetterBacklog);
+    }
+
+    /**
+     * Dispatches pending events in batches until the backlog is drained or the per-poll cap
+     * is reached.
+     *
+     * @return number of events fully published
+     */
+    public int dispatchPending() {
+        int published = 0;
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            List<OutboxEvent> batch = outboxEventRepository.findPending(maxAttempts, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            int delivered = dispatchBatch(batch);
+            published += delivered;
+            // A short batch, or one where nothing succeeded, means there is no more work this poll
+            if (batch.size() < batchSize || delivered == 0) {
+                break;
+            }
+        }
+        return published;
+    }
+
+    /**
+     * Deletes events published before the cutoff, with their handler receipts, in chunks so
+     * no single DELETE holds locks for long. Unpublished and dead-lettered events are kept.
+     * Also refreshes the dead-letter backlog gauge.
+     *
+     * @param publishedBefore events published before this instant are removed
+     * @param chunkSize       events deleted per statement pair
+     * @return number of events deleted
+     */
+    public int purgePublished(LocalDateTime publishedBefore, int chunkSize) {
+        int deleted = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(EXPIRED_PUBLISHED_IDS_SQL, Long.class,
+                    Timestamp.valueOf(publishedBefore), chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+            namedJdbcTemplate.update(DELETE_RECEIPTS_SQL, params);
+            deleted += namedJdbcTemplate.update(DELETE_EVENTS_SQL, params);
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+
+        Long backlog = jdbcTemplate.queryForObject(DEAD_LETTER_COUNT_SQL, Long.class, maxAttempts);
+        deadLetterBacklog.set(backlog != null ? backlog : 0);
+        return deleted;
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    private int dispatchBatch(List<OutboxEvent> batch) {
+        List<Long> deliveredIds = new ArrayList<>(batch.size());
+        List<Object[]> failures = new ArrayList<>();
+
+        for (OutboxEvent event : batch) {
+            String error = deliver(event);
+            if (error == null) {
+                deliveredIds.add(event.getId());
+            } else {
+                failures.add(new Object[] { error.length() > 500 ? error.substring(0, 500) : error, event.getId() });
+                if (event.getAttempts() + 1 >= maxAttempts) {
+                    log.error("[OutboxDispatcher] Outbox event {} ({}) dead-lettered after {} attempt(s): {}",
+                            event.getId(), event.getEventType(), maxAttempts, error);
+                    deadLettered.increment();
+                    deadLetterBacklog.incrementAndGet();
+                }
+            }
+        }
+
+        if (!deliveredIds.isEmpty()) {
+            namedJdbcTemplate.update(MARK_PUBLISHED_SQL, new MapSqlParameterSource()
+                    .addValue("now", Timestamp.valueOf(LocalDateTime.now()))
+                    .addValue("ids", deliveredIds));
+        }
+        if (!failures.isEmpty()) {
+            jdbcTemplate.batchUpdate(RECORD_FAILURE_SQL, failures);
+        }
+        return deliveredIds.size();
+    }
+
+    /**
+     * Runs every supporting handler for the event.
+     *
+     * @return null when all handlers succeeded (or had already run), else the first error
+     */
+    private String deliver(OutboxEvent event) {
+        String firstError = null;
+        for (OutboxEventHandler handler : handlers) {
+            if (!handler.supports(event.getEventType())) {
+                continue;
+            }
+            try {
+                handlerTransaction.executeWithoutResult(status -> {
+                    int claimed = jdbcTemplate.update(CLAIM_RECEIPT_SQL,
+                            event.getId(), handler.name(), Timestamp.valueOf(LocalDateTime.now()));
+                    if (claimed == 1) {
+                        handler.handle(event);
+                    }
+                });
+            } catch (RuntimeException ex) {
+                log.error("[OutboxDispatcher] Handler '{}' failed for outbox event {} ({}): {}",
+                        handler.name(), event.getId(), event.getEventType(), ex.getMessage(), ex);
+                if (firstError == null) {
+                    firstError = handler.name() + ": " + ex.getMessage();
+                }
+            }
+        }
+        return firstError;
+    }
+}
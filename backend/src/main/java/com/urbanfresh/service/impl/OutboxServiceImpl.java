@@ -0,0 +1,61 @@
+package com.urbanfresh.service.impl;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.urbanfresh.model.OutboxEvent;
+import com.urbanfresh.model.OutboxEventType;
+import com.urbanfresh.repository.OutboxEventRepository;
+import com.urbanfresh.service.OutboxService;
+
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Service Layer – Implements OutboxService.
+ * MANDATORY propagation guarantees the event row shares the business transaction:
+ * an outbox write without a surrounding change is a programming error.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxServiceImpl implements OutboxService {
+
+    private static final String INSERT_EVENT_SQL =
+            "INSERT INTO outbox_events (event_type, aggregate_id, payload, attempts, created_at) " +
+            "VALUES (?, ?, ?, 0, ?)";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, Long aggregateId, Object payload) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(type)
+                .aggregateId(aggregateId)
+                .payload(objectMapper.writeValueAsString(payload))
+                .build());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(OutboxEventType type, Map<Long, ?> payloadsByAggregateId) {
+        if (payloadsByAggregateId.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(payloadsByAggregateId.size());
+        payloadsByAggregateId.forEach((aggregateId, payload) -> rows.add(new Object[] {
+                type.name(), aggregateId, objectMapper.writeValueAsString(payload), now }));
+        jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, rows);
+    }
+}
@@ -0,0 +1,203 @@
+package com.urbanfresh.service.impl;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.urbanfresh.exception.PaymentException;
+import com.urbanfresh.exception.PaymentGatewayUnavailableException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service Layer – Resilience wrapper around PaymentGateway calls.
+ * Three independent protections keep a slow or failing processor from spreading:
+ * - Bulkhead: at most max-concurrent-calls in flight; callers wait briefly, then get 503.
+ * - Timeout: each call has a hard deadline regardless of the gateway's own socket timeouts.
+ * - Circuit breaker: after failure-threshold consecutive transient failures the circuit opens
+ *   for open-duration-ms and calls fail immediately; one probe call then decides whether to close.
+ * Only PaymentGatewayUnavailableException and timeouts count as failures — a rejected request
+ * (PaymentException) means the processor is healthy.
+ */
+@Slf4j
+@Component
+public class PaymentGatewayGuard {
+
+    private final Semaphore bulkhead;
+    private final long bulkheadWaitMs;
+    private final long callTimeoutMs;
+    private final int failureThreshold;
+    private final long openDurationMs;
+
+    /** Calls run on virtual threads so a timed-out call never blocks the request thread. */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private volatile long openedAtMillis = 0L;
+
+    public PaymentGatewayGuard(
+            @Value("${app.payment.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${app.payment.bulkhead.max-wait-ms:250}") long bulkheadWaitMs,
+            @Value("${app.payment.call-timeout-ms:8000}") long callTimeoutMs,
+            @Value("${app.payment.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${app.payment.circuit-breaker.open-duration-ms:30000}") long openDurationMs) {
+        this.bulkhead = new Semaphore(maxConcurrentCalls, true);
+        this.bulkheadWaitMs = bulkheadWaitMs;
+        this.callTimeoutMs = callTimeoutMs;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+    }
+
+    /**
+     * Runs the gateway call under bulkhead, timeout and circuit-breaker protection.
+     *
+     * @param call the gateway invocation; must not access the database
+     * @return the call's result
+     * @throws PaymentGatewayUnavailableException when rejected by any protection or on transient failure
+     */
+    public <T> T execute(Supplier<T> call) {
+        boolean probe = acquireCircuitPermission();
+        try {
+            if (!tryEnterBulkhead()) {
+                throw new PaymentGatewayUnavailableException(
+                        "Payment service is busy. Please try again shortly.");
+            }
+
+            Future<T> future;
+            try {
+                future = executor.submit(() -> {
+                    try {
+                        return call.get();
+                    } finally {
+                        // Released by the call itself so abandoned (timed-out) calls still occupy a slot
+                        bulkhead.release();
+                    }
+                });
+            } catch (RuntimeException ex) {
+                bulkhead.release();
+                throw ex;
+            }
+
+            T result;
+            try {
+                result = await(future);
+            } catch (PaymentGatewayUnavailableException ex) {
+                onFailure();
+                throw ex;
+            } catch (PaymentException ex) {
+                // Processor answered (request rejected) — it is healthy
+                onSuccess(probe);
+                throw ex;
+            }
+            onSuccess(probe);
+            return result;
+        } finally {
+            if (probe) {
+                probeInFlight.set(false);
+            }
+        }
+    }
+
+    /** True while the circuit is rejecting calls. */
+    public boolean isOpen() {
+        return openedAtMillis != 0L;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    /**
+     * Returns normally when a call may proceed; the return value marks a half-open probe.
+     * Throws without touching the failure counter when the circuit is open.
+     */
+    private boolean acquireCircuitPermission() {
+        long openedAt = openedAtMillis;
+        if (openedAt == 0L) {
+            return false;
+        }
+        if (System.currentTimeMillis() - openedAt >= openDurationMs && probeInFlight.compareAndSet(false, true)) {
+            log.info("[PaymentGatewayGuard] Circuit half-open — sending probe call");
+            return true;
+        }
+        throw new CircuitOpenException();
+    }
+
+    private boolean tryEnterBulkhead() {
+        try {
+            return bulkhead.tryAcquire(bulkheadWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(callTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            throw new PaymentGatewayUnavailableException(
+                    "Payment gateway timed out. Please try again shortly.", ex);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PaymentGatewayUnavailableException("Payment gateway call interrupted.", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new PaymentGatewayUnavailableException("Payment gateway call failed.", ex.getCause());
+        }
+    }
+
+    /**
+     * Resets the failure streak; only the half-open probe may close an open circuit. A slow
+     * call admitted before the circuit tripped can succeed after it, and must not cut the
+     * open window short.
+     */
+    private void onSuccess(boolean probe) {
+        consecutiveFailures.set(0);
+        if (probe && openedAtMillis != 0L) {
+            openedAtMillis = 0L;
+            log.info("[PaymentGatewayGuard] Probe succeeded — circuit closed");
+        }
+    }
+
+    private void onFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (openedAtMillis != 0L) {
+            // Failed probe: restart the open window
+            openedAtMillis = System.currentTimeMillis();
+        } else if (failures >= failureThreshold) {
+            openedAtMillis = System.currentTimeMillis();
+            log.warn("[PaymentGatewayGuard] {} consecutive gateway failures — circuit open for {} ms",
+                    failures, openDurationMs);
+        }
+    }
+
+    /**
+     * Fast rejection while the circuit is open. Extends the public exception type so the
+     * 503 mapping applies, but is not counted as a new failure.
+     */
+    private static final class CircuitOpenException extends PaymentGatewayUnavailableException {
+        CircuitOpenException() {
+            super("Payment gateway is temporarily unavailable. Please try again shortly.");
+        }
+    }
+}
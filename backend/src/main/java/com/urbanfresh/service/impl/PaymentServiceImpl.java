@@ -1,46 +1,66 @@
 package com.urbanfresh.service.impl;
 
 import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.stripe.exception.EventDataObjectDeserializationException;
 import com.stripe.exception.SignatureVerificationException;
-import com.stripe.exception.StripeException;
 import com.stripe.model.Charge;
 import com.stripe.model.Event;
 import com.stripe.model.EventDataObjectDeserializer;
 import com.stripe.model.PaymentIntent;
 import com.stripe.model.StripeObject;
+import com.stripe.net.ApiResource;
 import com.stripe.net.Webhook;
-import com.stripe.param.PaymentIntentCreateParams;
 import com.urbanfresh.dto.request.CreatePaymentIntentRequest;
 import com.urbanfresh.dto.response.PaymentIntentResponse;
 import com.urbanfresh.dto.response.PaymentTrackingStatusResponse;
+import com.urbanfresh.event.OrderPaidPayload;
+import com.urbanfresh.event.OrderStatusChangedPayload;
+import com.urbanfresh.event.WebhookEventReceivedEvent;
 import com.urbanfresh.exception.OrderNotFoundException;
 import com.urbanfresh.exception.PaymentAccessException;
 import com.urbanfresh.exception.PaymentException;
 import com.urbanfresh.exception.UserNotFoundException;
 import com.urbanfresh.model.Order;
 import com.urbanfresh.model.OrderStatus;
+import com.urbanfresh.model.OutboxEventType;
 import com.urbanfresh.model.Payment;
 import com.urbanfresh.model.PaymentStatus;
 import com.urbanfresh.model.User;
+import com.urbanfresh.model.WebhookInboxEvent;
+import com.urbanfresh.model.WebhookInboxStatus;
 import com.urbanfresh.repository.OrderRepository;
 import com.urbanfresh.repository.PaymentRepository;
 import com.urbanfresh.repository.UserRepository;
-import com.urbanfresh.service.LoyaltyService;
-import com.urbanfresh.service.NotificationService;
+import com.urbanfresh.repository.WebhookInboxEventRepository;
+import com.urbanfresh.service.OutboxService;
+import com.urbanfresh.service.PaymentGateway;
 import com.urbanfresh.service.PaymentService;
 
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Service Layer – Implements Stripe payment processing.
- * Handles PaymentIntent creation (server-side) and webhook event processing.
+ * Handles PaymentIntent creation (server-side, via PaymentGateway) and webhook event processing
+ * through the stripe_webhook_inbox table.
  * Order status changes are only made after Stripe confirms the event via a
  * signed webhook.
  */
@@ -58,6 +78,15 @@ public class PaymentServiceImpl implements PaymentService {
     private static final String EVENT_PAYMENT_FAILED = "payment_intent.payment_failed";
     private static final String EVENT_CHARGE_UPDATED = "charge.updated";
 
+    /**
+     * A duplicate event ID becomes a no-op update, which generates no key; unlike INSERT IGNORE,
+     * truncation and every other error still fail the statement.
+     */
+    private static final String INSERT_INBOX_EVENT_SQL =
+            "INSERT INTO stripe_webhook_inbox (event_id, event_type, payment_intent_id, payload, " +
+            "status, attempts, received_at) VALUES (?, ?, ?, ?, 'RECEIVED', 0, ?) " +
+            "ON DUPLICATE KEY UPDATE event_id = event_id";
+
     @Value("${stripe.publishable-key}")
     private String publishableKey;
 
@@ -78,17 +107,25 @@ public class PaymentServiceImpl implements PaymentService {
     private final OrderRepository orderRepository;
     private final PaymentRepository paymentRepository;
     private final UserRepository userRepository;
-    private final LoyaltyService loyaltyService;
-    private final NotificationService notificationService;
+    private final OutboxService outboxService;
+    private final PaymentGateway paymentGateway;
+    private final PaymentGatewayGuard gatewayGuard;
+    private final TransactionTemplate transactionTemplate;
+    private final WebhookInboxEventRepository webhookInboxRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Creates a Stripe PaymentIntent for a customer-owned order.
-     * Steps:
-     * 1. Resolve customer from JWT email.
-     * 2. Load the order and verify ownership — never trust client-supplied amounts.
-     * 3. Call Stripe to create a PaymentIntent with the server-side amount.
-     * 4. Persist a PENDING Payment record linked to the order.
-     * 5. Return the clientSecret + publishableKey to the frontend.
+     * The processor round trip runs outside any transaction so a slow Stripe region never
+     * holds a pooled DB connection:
+     * 1. Short transaction: resolve the customer, verify ownership and status, price the order
+     *    server-side — never trust client-supplied amounts.
+     * 2. No transaction: create the PaymentIntent through PaymentGatewayGuard (bulkhead,
+     *    timeout, circuit breaker) with an idempotency key derived from the order, so a retried
+     *    checkout returns the same intent instead of creating a second one.
+     * 3. Short transaction: persist (or re-arm) the PENDING Payment record.
+     * 4. Return the clientSecret + publishableKey to the frontend.
      *
      * @param request       orderId from the client
      * @param customerEmail authenticated customer email
@@ -96,102 +133,54 @@ public class PaymentServiceImpl implements PaymentService {
      *         paymentIntentId
      */
     @Override
-    @Transactional
     public PaymentIntentResponse createPaymentIntent(CreatePaymentIntentRequest request, String customerEmail) {
 
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new UserNotFoundException("Customer not found: " + customerEmail));
-
-        Order order = orderRepository.findById(request.getOrderId())
-                .orElseThrow(() -> new OrderNotFoundException(request.getOrderId()));
-
-        // Ownership check — prevent one customer from initiating payment on another's
-        // order
-        if (!order.getCustomer().getId().equals(customer.getId())) {
-            throw new PaymentAccessException("You are not authorised to pay for this order.");
-        }
-
-        // Only PENDING orders can be paid for; CONFIRMED means already paid
-        if (order.getStatus() != OrderStatus.PENDING) {
-            throw new PaymentException(
-                    "Order " + order.getId() + " cannot be paid — current status: " + order.getStatus());
-        }
-
-        // Minimum order amount check — prevents Stripe amount_too_small errors
-        // and enforces the business rule. Configured via app.min-order-amount-lkr.
-        if (order.getTotalAmount().compareTo(BigDecimal.valueOf(minOrderAmountLkr)) < 0) {
-            throw new PaymentException(
-                    "Minimum order amount is Rs. " + minOrderAmountLkr
-                            + ". Your order total is Rs. " + order.getTotalAmount().toPlainString() + ".");
-        }
+        PaymentQuote quote = transactionTemplate.execute(status -> quotePayment(request.getOrderId(), customerEmail));
 
-        // Convert LKR order total → USD cents for Stripe.
-        // Formula: usdCents = round(lkrAmount / lkrToUsdRate * 100)
-        // Example: Rs 3000 / 300 = $10.00 USD = 1000 cents
-        BigDecimal lkrAmount = order.getTotalAmount();
-        long stripeAmount = lkrAmount
-                .divide(BigDecimal.valueOf(lkrToUsdRate), 6, java.math.RoundingMode.HALF_UP)
-                .multiply(BigDecimal.valueOf(100))
-                .setScale(0, java.math.RoundingMode.HALF_UP)
-                .longValue();
+        Map<String, String> metadata = new LinkedHashMap<>();
+        // Store the original LKR amount in metadata for dashboard traceability
+        metadata.put("orderId", String.valueOf(quote.orderId()));
+        metadata.put("customerEmail", customerEmail);
+        metadata.put("amountLKR", quote.lkrAmount().toPlainString());
+        metadata.put("amountUSDCents", String.valueOf(quote.stripeAmount()));
+        metadata.put("lkrToUsdRate", String.valueOf(lkrToUsdRate));
 
-        log.info("Currency conversion: Rs {} LKR → {} USD cents (rate: {})",
-                lkrAmount, stripeAmount, lkrToUsdRate);
+        // Amount is part of the key: Stripe rejects a reused key with different parameters
+        String idempotencyKey = "order-" + quote.orderId() + "-" + quote.stripeAmount();
 
-        PaymentIntent intent;
-        try {
-            PaymentIntentCreateParams params = PaymentIntentCreateParams.builder()
-                    .setAmount(stripeAmount)
-                    .setCurrency(STRIPE_CURRENCY)
-                    // Restrict to card payments only — matches the card-only checkout UI
-                    .addPaymentMethodType("card")
-                    // Store the original LKR amount in metadata for dashboard traceability
-                    .putMetadata("orderId", String.valueOf(order.getId()))
-                    .putMetadata("customerEmail", customerEmail)
-                    .putMetadata("amountLKR", lkrAmount.toPlainString())
-                    .putMetadata("amountUSDCents", String.valueOf(stripeAmount))
-                    .putMetadata("lkrToUsdRate", String.valueOf(lkrToUsdRate))
-                    .build();
-
-            intent = PaymentIntent.create(params);
-
-        } catch (StripeException ex) {
-            log.error("Stripe PaymentIntent creation failed for orderId={}: {}", order.getId(), ex.getMessage());
-            throw new PaymentException("Payment gateway error — could not create payment session.", ex);
-        }
+        PaymentGateway.CreatedIntent intent = gatewayGuard.execute(() -> paymentGateway.createPaymentIntent(
+                new PaymentGateway.IntentRequest(
+                        quote.orderId(), quote.stripeAmount(), STRIPE_CURRENCY, metadata, idempotencyKey)));
 
         // Persist a PENDING record so we can correlate the upcoming webhook event
-        paymentRepository.save(Payment.builder()
-                .order(order)
-                .stripePaymentIntentId(intent.getId())
-                .amount(order.getTotalAmount())
-                .currency(DB_CURRENCY)
-                .status(PaymentStatus.PENDING)
-                .build());
+        transactionTemplate.executeWithoutResult(status -> recordPendingPayment(quote, intent.paymentIntentId()));
 
-        log.info("PaymentIntent {} created for orderId={}", intent.getId(), order.getId());
+        log.info("PaymentIntent {} created for orderId={}", intent.paymentIntentId(), quote.orderId());
 
         return PaymentIntentResponse.builder()
-                .clientSecret(intent.getClientSecret())
+                .clientSecret(intent.clientSecret())
                 .publishableKey(publishableKey)
-                .paymentIntentId(intent.getId())
-                .orderId(order.getId())
+                .paymentIntentId(intent.paymentIntentId())
+                .orderId(quote.orderId())
                 .build();
     }
 
     /**
-     * Processes an inbound Stripe webhook event.
+     * Ingests an inbound Stripe webhook event.
      * Signature verification is mandatory — requests without a valid signature are
-     * rejected.
-     * Only processes event types relevant to payment lifecycle; all others are
-     * silently ignored.
+     * rejected. Only event types relevant to the payment lifecycle are stored; all others
+     * are acknowledged and dropped.
+     * The verified event is written to the inbox with a no-op upsert on the unique event ID,
+     * so a Stripe retry storm costs one indexed insert per delivery and no duplicate work.
+     * No transaction is held: the insert auto-commits and the event is handed to
+     * WebhookInboxDispatcher, which applies it off the request thread.
      *
      * @param payload   raw JSON request body (must not be parsed before reaching
      *                  this method)
      * @param sigHeader Stripe-Signature HTTP header value
      */
     @Override
-    @Transactional
+    @Timed(value = "urbanfresh.payment.webhook.receive", description = "Webhook signature check and inbox insert")
     public void handleWebhookEvent(String payload, String sigHeader) {
 
         Event event;
@@ -204,45 +193,74 @@ public class PaymentServiceImpl implements PaymentService {
 
         String eventType = event.getType();
 
-        // Only process events relevant to payment lifecycle tracking.
+        // Only store events relevant to payment lifecycle tracking.
         if (!eventType.equals(EVENT_CHARGE_UPDATED)
             && !eventType.equals(EVENT_PAYMENT_SUCCEEDED)
             && !eventType.equals(EVENT_PAYMENT_FAILED)) {
             return;
         }
 
-        log.info("Processing webhook: type={}", eventType);
+        String paymentIntentId = resolvePaymentIntentId(extractStripeObject(event));
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_INBOX_EVENT_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, event.getId());
+            ps.setString(2, eventType);
+            ps.setString(3, paymentIntentId);
+            ps.setString(4, payload);
+            ps.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
+            return ps;
+        }, keyHolder);
+
+        // The update count cannot tell a no-op duplicate from an insert (CLIENT_FOUND_ROWS); the key can
+        Number key = keyHolder.getKey();
+        if (key == null) {
+            log.info("Duplicate webhook delivery ignored: eventId={}, type={}", event.getId(), eventType);
+            return;
+        }
 
-        StripeObject stripeObject = extractStripeObject(event);
+        Long inboxEventId = key.longValue();
+        log.info("Webhook stored: eventId={}, type={}, inboxId={}", event.getId(), eventType, inboxEventId);
+        eventPublisher.publishEvent(new WebhookEventReceivedEvent(inboxEventId, paymentIntentId));
+    }
 
-        if (stripeObject == null) {
-            log.warn("Event {} has no deserializable Stripe object even after fallback.", eventType);
+    /**
+     * Applies a stored webhook event under a row lock. Already-processed rows are skipped,
+     * so a redelivered or re-swept event is a no-op.
+     *
+     * @param inboxEventId ID of the stripe_webhook_inbox row
+     */
+    @Override
+    @Transactional
+    @Timed(value = "urbanfresh.payment.webhook.apply", description = "Applying a stored webhook event to its order")
+    public void processWebhookInboxEvent(Long inboxEventId) {
+        WebhookInboxEvent inbox = webhookInboxRepository.findByIdForUpdate(inboxEventId).orElse(null);
+        if (inbox == null || inbox.getStatus() == WebhookInboxStatus.PROCESSED) {
             return;
         }
 
-        switch (eventType) {
-            case EVENT_CHARGE_UPDATED -> {
-                if (stripeObject instanceof Charge charge) {
-                    handleChargeUpdated(charge);
-                } else {
-                    log.warn("Event {} did not contain a Charge payload.", eventType);
-                }
-            }
-            case EVENT_PAYMENT_SUCCEEDED -> {
-                if (stripeObject instanceof PaymentIntent intent) {
-                    handlePaymentSucceeded(intent);
-                } else {
-                    log.warn("Event {} did not contain a PaymentIntent payload.", eventType);
-                }
-            }
-            case EVENT_PAYMENT_FAILED -> {
-                if (stripeObject instanceof PaymentIntent intent) {
-                    handlePaymentFailed(intent);
-                } else {
-                    log.warn("Event {} did not contain a PaymentIntent payload.", eventType);
-                }
-            }
-        }
+        // Payload was signature-verified at ingestion; parse without re-verifying
+        Event event = ApiResource.GSON.fromJson(inbox.getPayload(), Event.class);
+        applyWebhookEvent(event);
+
+        inbox.setStatus(WebhookInboxStatus.PROCESSED);
+        inbox.setAttempts(inbox.getAttempts() + 1);
+        inbox.setLastError(null);
+        inbox.setProcessedAt(LocalDateTime.now());
+        webhookInboxRepository.save(inbox);
+    }
+
+    @Override
+    @Transactional
+    @Counted(value = "urbanfresh.payment.webhook.failures", description = "Webhook inbox events that failed to apply")
+    public void recordWebhookInboxFailure(Long inboxEventId, String error) {
+        webhookInboxRepository.findById(inboxEventId).ifPresent(inbox -> {
+            inbox.setStatus(WebhookInboxStatus.FAILED);
+            inbox.setAttempts(inbox.getAttempts() + 1);
+            inbox.setLastError(error != null && error.length() > 500 ? error.substring(0, 500) : error);
+            webhookInboxRepository.save(inbox);
+        });
     }
 
         /**
@@ -283,10 +301,152 @@ public class PaymentServiceImpl implements PaymentService {
             .build();
         }
 
+    // ──────────────────────────────────────────
+    // PaymentIntent creation phases
+    // ──────────────────────────────────────────
+
+    /** Server-side priced order, carried from the validation phase to the persistence phase. */
+    private record PaymentQuote(Long orderId, BigDecimal lkrAmount, long stripeAmount) {
+    }
+
+    /**
+     * Validation phase: ownership, status and minimum-amount checks, then LKR → USD cents
+     * conversion. Runs inside a short transaction.
+     */
+    private PaymentQuote quotePayment(Long orderId, String customerEmail) {
+        User customer = userRepository.findByEmail(customerEmail)
+                .orElseThrow(() -> new UserNotFoundException("Customer not found: " + customerEmail));
+
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException(orderId));
+
+        // Ownership check — prevent one customer from initiating payment on another's
+        // order
+        if (!order.getCustomer().getId().equals(customer.getId())) {
+            throw new PaymentAccessException("You are not authorised to pay for this order.");
+        }
+
+        // Only PENDING orders can be paid for; CONFIRMED means already paid
+        if (order.getStatus() != OrderStatus.PENDING) {
+            throw new PaymentException(
+                    "Order " + order.getId() + " cannot be paid — current status: " + order.getStatus());
+        }
+
+        // Minimum order amount check — prevents Stripe amount_too_small errors
+        // and enforces the business rule. Configured via app.min-order-amount-lkr.
+        if (order.getTotalAmount().compareTo(BigDecimal.valueOf(minOrderAmountLkr)) < 0) {
+            throw new PaymentException(
+                    "Minimum order amount is Rs. " + minOrderAmountLkr
+                            + ". Your order total is Rs. " + order.getTotalAmount().toPlainString() + ".");
+        }
+
+        // Convert LKR order total → USD cents for Stripe.
+        // Formula: usdCents = round(lkrAmount / lkrToUsdRate * 100)
+        // Example: Rs 3000 / 300 = $10.00 USD = 1000 cents
+        BigDecimal lkrAmount = order.getTotalAmount();
+        long stripeAmount = lkrAmount
+                .divide(BigDecimal.valueOf(lkrToUsdRate), 6, java.math.RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100))
+                .setScale(0, java.math.RoundingMode.HALF_UP)
+                .longValue();
+
+        log.info("Currency conversion: Rs {} LKR → {} USD cents (rate: {})",
+                lkrAmount, stripeAmount, lkrToUsdRate);
+
+        return new PaymentQuote(order.getId(), lkrAmount, stripeAmount);
+    }
+
+    /**
+     * Persistence phase: inserts the PENDING Payment for a new intent. An idempotent replay
+     * returns an intent we already recorded; a previously FAILED attempt on it is re-armed
+     * to PENDING because the customer is retrying with another card.
+     */
+    private void recordPendingPayment(PaymentQuote quote, String paymentIntentId) {
+        Payment existing = paymentRepository.findByStripePaymentIntentId(paymentIntentId).orElse(null);
+        if (existing == null) {
+            paymentRepository.save(Payment.builder()
+                    .order(orderRepository.getReferenceById(quote.orderId()))
+                    .stripePaymentIntentId(paymentIntentId)
+                    .amount(quote.lkrAmount())
+                    .currency(DB_CURRENCY)
+                    .status(PaymentStatus.PENDING)
+                    .build());
+            return;
+        }
+
+        if (existing.getStatus() == PaymentStatus.FAILED) {
+            existing.setStatus(PaymentStatus.PENDING);
+            paymentRepository.save(existing);
+            Order order = existing.getOrder();
+            if (order.getPaymentStatus() == PaymentStatus.FAILED) {
+                order.setPaymentStatus(PaymentStatus.PENDING);
+                orderRepository.save(order);
+            }
+        }
+    }
+
     // ──────────────────────────────────────────
     // Private event handlers
     // ──────────────────────────────────────────
 
+    /**
+     * Routes a verified event to its handler based on event type.
+     *
+     * @param event verified Stripe event
+     */
+    private void applyWebhookEvent(Event event) {
+        String eventType = event.getType();
+        log.info("Processing webhook: type={}", eventType);
+
+        StripeObject stripeObject = extractStripeObject(event);
+
+        if (stripeObject == null) {
+            log.warn("Event {} has no deserializable Stripe object even after fallback.", eventType);
+            return;
+        }
+
+        switch (eventType) {
+            case EVENT_CHARGE_UPDATED -> {
+                if (stripeObject instanceof Charge charge) {
+                    handleChargeUpdated(charge);
+                } else {
+                    log.warn("Event {} did not contain a Charge payload.", eventType);
+                }
+            }
+            case EVENT_PAYMENT_SUCCEEDED -> {
+                if (stripeObject instanceof PaymentIntent intent) {
+                    handlePaymentSucceeded(intent);
+                } else {
+                    log.warn("Event {} did not contain a PaymentIntent payload.", eventType);
+                }
+            }
+            case EVENT_PAYMENT_FAILED -> {
+                if (stripeObject instanceof PaymentIntent intent) {
+                    handlePaymentFailed(intent);
+                } else {
+                    log.warn("Event {} did not contain a PaymentIntent payload.", eventType);
+                }
+            }
+            default -> log.debug("Ignoring stored webhook of type {}", eventType);
+        }
+    }
+
+    /**
+     * Partition key for the webhook worker pool: the PaymentIntent the event concerns.
+     *
+     * @param stripeObject deserialized event payload (nullable)
+     * @return PaymentIntent ID, or null when the payload carries none
+     */
+    private String resolvePaymentIntentId(StripeObject stripeObject) {
+        if (stripeObject instanceof PaymentIntent intent) {
+            return intent.getId();
+        }
+        if (stripeObject instanceof Charge charge) {
+            return charge.getPaymentIntent();
+        }
+        return null;
+    }
+
     /**
      * Attempts safe Stripe object deserialization with an unsafe fallback.
      * Fallback keeps webhook processing resilient when endpoint API version
@@ -399,27 +559,25 @@ public class PaymentServiceImpl implements PaymentService {
         payment.setStatus(PaymentStatus.PAID);
         paymentRepository.save(payment);
 
+        OrderStatus previousStatus = order.getStatus();
         order.setStatus(OrderStatus.CONFIRMED);
         order.setPaymentStatus(PaymentStatus.PAID);
         orderRepository.save(order);
 
-        notificationService.createOrderStatusNotification(order, OrderStatus.CONFIRMED);
-
-        // Deduct loyalty points NOW — payment is confirmed so it's safe to consume them.
-        // Points were validated (but NOT deducted) at order placement in OrderServiceImpl.
-        // This two-phase approach ensures a failed payment never permanently burns a
-        // customer's loyalty balance.
-        // The idempotency guard above (already CONFIRMED check) prevents double-deduction
-        // if both payment_intent.succeeded and charge.updated fire for the same payment.
-        if (order.getPointsRedeemed() > 0) {
-            loyaltyService.deductRedeemedPoints(order.getCustomer(), order.getPointsRedeemed());
-        }
-
-        // Award loyalty points based on the product-discounted items subtotal (SCRUM-39 AC:
-        // "loyalty points calculate from discounted price"). itemsSubtotal restores the
-        // pre-loyalty-redemption total so redeeming points doesn't reduce what you earn.
-        java.math.BigDecimal itemsSubtotal = order.getTotalAmount().add(order.getDiscountAmount());
-        loyaltyService.awardPoints(order.getCustomer(), itemsSubtotal);
+        // Notification, loyalty settlement, read-model invalidation and the revenue KPI are
+        // applied by outbox handlers after commit. Loyalty points validated (but NOT deducted)
+        // at order placement are consumed only now, so a failed payment never burns a
+        // customer's balance. Points are earned on the product-discounted items subtotal
+        // (SCRUM-39 AC: "loyalty points calculate from discounted price"); itemsSubtotal
+        // restores the pre-redemption total so redeeming points doesn't reduce what you earn.
+        // The CONFIRMED guard above plus per-handler outbox receipts prevent double-application
+        // when both payment_intent.succeeded and charge.updated fire for the same payment.
+        Long customerId = order.getCustomer().getId();
+        outboxService.append(OutboxEventType.ORDER_STATUS_CHANGED, order.getId(),
+                new OrderStatusChangedPayload(order.getId(), customerId, previousStatus, OrderStatus.CONFIRMED, true));
+        outboxService.append(OutboxEventType.ORDER_PAID, order.getId(),
+                new OrderPaidPayload(order.getId(), customerId, order.getTotalAmount(),
+                        order.getTotalAmount().add(order.getDiscountAmount()), order.getPointsRedeemed()));
 
         log.info("Order confirmed from {}: orderId={}, paymentIntentId={}",
                 eventType, order.getId(), paymentIntentId);
@@ -446,16 +604,24 @@ public class PaymentServiceImpl implements PaymentService {
 
     /**
      * Marks payment/order as failed while leaving order lifecycle pending for retry.
+     * Inbox rows are retried out of order, so a failure applied after the PaymentIntent
+     * already succeeded is ignored rather than moving a paid order back to FAILED.
      *
      * @param payment payment entity to mutate
      * @param paymentIntentId Stripe PaymentIntent ID for logging
      * @param eventType event source that triggered this transition
      */
     private void applyFailedState(Payment payment, String paymentIntentId, String eventType) {
+        Order order = payment.getOrder();
+        if (payment.getStatus() == PaymentStatus.PAID
+                || (order != null && order.getPaymentStatus() == PaymentStatus.PAID)) {
+            log.warn("Ignoring stale {} event for already PAID paymentIntentId={}", eventType, paymentIntentId);
+            return;
+        }
+
         payment.setStatus(PaymentStatus.FAILED);
         paymentRepository.save(payment);
 
-        Order order = payment.getOrder();
         if (order == null) {
             log.error("Order not found for Payment: {}", payment.getId());
             return;
@@ -1,12 +1,25 @@
 package com.urbanfresh.service.impl;
 
+import java.sql.Date;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeSet;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.urbanfresh.event.InventoryChangedEvent;
 import com.urbanfresh.exception.InsufficientStockException;
 import com.urbanfresh.exception.ProductNotFoundException;
 import com.urbanfresh.model.BatchStatus;
@@ -19,6 +32,7 @@ import com.urbanfresh.repository.ProductBatchRepository;
 import com.urbanfresh.repository.ProductRepository;
 import com.urbanfresh.service.ProductBatchService;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -35,6 +49,26 @@ public class ProductBatchServiceImpl implements ProductBatchService {
     private final ProductBatchRepository productBatchRepository;
     private final OrderItemBatchAllocationRepository allocationRepository;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /** Locks the affected product rows in ID order (deadlock-safe) and reads their batch sequence. */
+    private static final String LOCK_PRODUCT_SEQUENCES_SQL =
+            "SELECT id, batch_sequence FROM products WHERE id IN (:ids) ORDER BY id FOR UPDATE";
+
+    /** Existing batch counts; seeds the sequence for products whose batches predate it. */
+    private static final String COUNT_BATCHES_SQL =
+            "SELECT product_id, COUNT(*) FROM product_batches WHERE product_id IN (:ids) GROUP BY product_id";
+
+    private static final String INSERT_BATCH_SQL =
+            "INSERT INTO product_batches (product_id, batch_number, manufacturing_date, expiry_date, " +
+            "received_quantity, available_quantity, status, purchase_order_item_id, received_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE', ?, ?)";
+
+    private static final String POST_STOCK_SQL =
+            "UPDATE products SET stock_quantity = stock_quantity + ?, batch_sequence = ?, " +
+            "inventory_updated_by = ?, updated_at = ? WHERE id = ?";
 
     /**
      * Creates a ProductBatch for the given product using supplier-provided batch metadata.
@@ -65,12 +99,91 @@ public class ProductBatchServiceImpl implements ProductBatchService {
         // logic in OrderServiceImpl continues to work without modification
         product.setStockQuantity(product.getStockQuantity() + quantity);
         productRepository.save(product);
+        eventPublisher.publishEvent(InventoryChangedEvent.forProduct(productId));
 
         log.info("Created ProductBatch ID {} (batchNumber: {}, qty: {}) for product ID {}",
                 saved.getId(), batchNumber, quantity, productId);
         return saved;
     }
 
+    /**
+     * Receiving engine: two reads (locked sequences, existing batch counts), one JDBC batch
+     * INSERT of all batches, and one JDBC batch of per-product stock UPDATEs, regardless of
+     * how many lines the delivery has. Writes bypass the persistence context, so callers must
+     * not hold dirty Product entities for the affected products in the same transaction.
+     */
+    @Override
+    @Transactional
+    public List<String> receiveBatches(List<BatchReceipt> receipts, String receivedBy) {
+        if (receipts.isEmpty()) {
+            return List.of();
+        }
+
+        TreeSet<Long> productIds = new TreeSet<>();
+        receipts.forEach(r -> productIds.add(r.productId()));
+        MapSqlParameterSource idParams = new MapSqlParameterSource("ids", productIds);
+
+        Map<Long, Integer> sequences = new HashMap<>();
+        namedJdbcTemplate.query(LOCK_PRODUCT_SEQUENCES_SQL, idParams,
+                rs -> { sequences.put(rs.getLong(1), rs.getInt(2)); });
+        for (Long productId : productIds) {
+            if (!sequences.containsKey(productId)) {
+                throw new ProductNotFoundException(productId);
+            }
+        }
+        // GREATEST(sequence, batch count): batches created before the sequence existed,
+        // or through createBatch, must not have their numbers re-issued
+        namedJdbcTemplate.query(COUNT_BATCHES_SQL, idParams,
+                rs -> { sequences.merge(rs.getLong(1), rs.getInt(2), Math::max); });
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Map<Long, Integer> stockIncrements = new LinkedHashMap<>();
+        List<Object[]> batchArgs = new ArrayList<>(receipts.size());
+        List<String> batchNumbers = new ArrayList<>(receipts.size());
+
+        for (BatchReceipt receipt : receipts) {
+            Long productId = receipt.productId();
+            stockIncrements.merge(productId, receipt.quantity(), Integer::sum);
+
+            if (receipt.expiryDate() == null) {
+                // Legacy fallback: no expiry date supplied — stock is added without batch tracking
+                log.warn("Receipt for product ID {} (PO item {}) has no expiry date — stock added without batch",
+                        productId, receipt.purchaseOrderItemId());
+                batchNumbers.add(null);
+                continue;
+            }
+
+            int sequence = sequences.merge(productId, 1, Integer::sum);
+            String batchNumber = receipt.batchNumber() != null && !receipt.batchNumber().isBlank()
+                    ? receipt.batchNumber()
+                    : String.format("BATCH-%d-%03d", productId, sequence);
+            batchNumbers.add(batchNumber);
+            batchArgs.add(new Object[] {
+                    productId,
+                    batchNumber,
+                    receipt.manufacturingDate() != null ? Date.valueOf(receipt.manufacturingDate()) : null,
+                    Date.valueOf(receipt.expiryDate()),
+                    receipt.quantity(),
+                    receipt.quantity(),
+                    receipt.purchaseOrderItemId(),
+                    now });
+        }
+
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_BATCH_SQL, batchArgs);
+        }
+
+        List<Object[]> stockArgs = new ArrayList<>(stockIncrements.size());
+        stockIncrements.forEach((productId, increment) -> stockArgs.add(new Object[] {
+                increment, sequences.get(productId), receivedBy, now, productId }));
+        jdbcTemplate.batchUpdate(POST_STOCK_SQL, stockArgs);
+
+        eventPublisher.publishEvent(new InventoryChangedEvent(List.copyOf(productIds)));
+        log.info("Received {} line(s) into {} batch(es) across {} product(s)",
+                receipts.size(), batchArgs.size(), productIds.size());
+        return batchNumbers;
+    }
+
     /**
      * Allocates units from available batches using FIFO (oldest expiry date first).
      * Iterates batches sorted by expiryDate ASC, deducting from each until satisfied.
@@ -81,6 +194,7 @@ public class ProductBatchServiceImpl implements ProductBatchService {
      */
     @Override
     @Transactional
+    @Timed(value = "urbanfresh.inventory.allocate-fifo", description = "FIFO batch allocation for one order line")
     public void allocateBatchesFifo(OrderItem orderItem, int quantity) {
         Long productId = orderItem.getProduct().getId();
         List<ProductBatch> batches = productBatchRepository.findAllocatableBatchesByProductId(productId);
@@ -113,6 +227,8 @@ public class ProductBatchServiceImpl implements ProductBatchService {
                     String.format("Batch stock exhausted for '%s': unable to allocate %d remaining units via FIFO",
                             orderItem.getProductName(), remaining));
         }
+
+        eventPublisher.publishEvent(InventoryChangedEvent.forProduct(productId));
     }
 
     /** Returns total allocatable quantity across ACTIVE and NEAR_EXPIRY batches. */
@@ -0,0 +1,409 @@
+package com.urbanfresh.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.urbanfresh.dto.request.ProductImportRow;
+import com.urbanfresh.dto.response.BulkOperationResponse;
+import com.urbanfresh.dto.response.BulkOperationResponse.RowResult;
+import com.urbanfresh.event.InventoryChangedEvent;
+import com.urbanfresh.exception.BulkImportException;
+import com.urbanfresh.model.Brand;
+import com.urbanfresh.model.PricingUnit;
+import com.urbanfresh.repository.BrandRepository;
+import com.urbanfresh.service.ProductImportService;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Service Layer – Implements ProductImportService.
+ * The file is streamed in chunks of CHUNK_SIZE rows. For each chunk:
+ *  1. Rows are validated in parallel (bean validation + brand resolution against a map
+ *     preloaded once per job) — pure CPU work with no database access.
+ *  2. Valid rows are written in one transaction: a JDBC batch INSERT into products
+ *     (generated keys returned in order), then a JDBC batch INSERT of each product's
+ *     initial batch "BATCH-{id}-001". Product stock equals the initial batch quantity,
+ *     matching the net effect of AdminProductServiceImpl.createProduct.
+ * A chunk that fails at the database is rolled back and its rows reported as failed;
+ * the remaining chunks still run.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportServiceImpl implements ProductImportService {
+
+    /** Rows per transaction; also the unit of parallel validation. */
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final List<String> REQUIRED_CSV_COLUMNS =
+            List.of("name", "price", "expiryDate", "stockQuantity");
+
+    private static final String INSERT_PRODUCT_SQL =
+            "INSERT INTO products (name, description, price, category, brand_id, image_url, hidden, " +
+            "featured, unit, expiry_date, discount_percentage, stock_quantity, reorder_threshold, " +
+            "approval_status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, FALSE, ?, ?, ?, ?, ?, 0, 'APPROVED', ?, ?)";
+
+    private static final String INSERT_BATCH_SQL =
+            "INSERT INTO product_batches (product_id, batch_number, expiry_date, received_quantity, " +
+            "available_quantity, status, received_at) VALUES (?, ?, ?, ?, ?, 'ACTIVE', ?)";
+
+    private final BrandRepository brandRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Streams the upload chunk by chunk so memory stays bounded by CHUNK_SIZE
+     * regardless of catalogue size.
+     */
+    @Override
+    public BulkOperationResponse importProducts(InputStream content, Format format) {
+        BrandLookup brands = loadBrands();
+        List<RowResult> results = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8))) {
+            Function<String, Parsed> parser = format == Format.CSV
+                    ? csvParser(reader)
+                    : this::parseJsonLine;
+
+            List<ParsedRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            int rowNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.add(parser.apply(line).at(++rowNumber));
+                if (chunk.size() == CHUNK_SIZE) {
+                    results.addAll(processChunk(chunk, brands));
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                results.addAll(processChunk(chunk, brands));
+            }
+        } catch (IOException ex) {
+            throw new BulkImportException("Could not read uploaded file: " + ex.getMessage());
+        }
+
+        if (results.isEmpty()) {
+            throw new BulkImportException("Upload contains no data rows");
+        }
+
+        BulkOperationResponse response = BulkOperationResponse.of(results);
+        log.info("[ProductImportService] Imported {} of {} rows ({} failed)",
+                response.getSucceeded(), response.getTotalRows(), response.getFailed());
+        return response;
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    /**
+     * Validates a chunk in parallel, inserts the valid rows in one transaction,
+     * and returns one result per row ordered by row number.
+     */
+    private List<RowResult> processChunk(List<ParsedRow> chunk, BrandLookup brands) {
+        // Order-preserving parallel map: validation is CPU-only and the lookup maps are read-only
+        List<ValidatedRow> validated = chunk.parallelStream()
+                .map(row -> validate(row, brands))
+                .toList();
+
+        List<RowResult> results = new ArrayList<>(chunk.size());
+        List<ValidatedRow> insertable = new ArrayList<>(chunk.size());
+        for (ValidatedRow row : validated) {
+            if (row.error() != null) {
+                results.add(result(row.rowNumber(), null, false, row.error()));
+            } else {
+                insertable.add(row);
+            }
+        }
+
+        if (!insertable.isEmpty()) {
+            try {
+                List<Long> ids = transactionTemplate.execute(status -> insertChunk(insertable));
+                for (int i = 0; i < insertable.size(); i++) {
+                    results.add(result(insertable.get(i).rowNumber(), ids.get(i), true, "Imported"));
+                }
+            } catch (RuntimeException ex) {
+                log.error("[ProductImportService] Chunk starting at row {} failed",
+                        insertable.get(0).rowNumber(), ex);
+                insertable.forEach(row -> results.add(result(row.rowNumber(), null, false,
+                        "Chunk rolled back due to a database error; resubmit this row")));
+            }
+        }
+
+        results.sort(Comparator.comparingInt(RowResult::getRowNumber));
+        return results;
+    }
+
+    /**
+     * Writes products and their initial batches with two JDBC batch statements
+     * on the transaction-bound connection.
+     *
+     * @return generated product IDs, in the same order as rows
+     */
+    private List<Long> insertChunk(List<ValidatedRow> rows) {
+        List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) con -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Long> generated = new ArrayList<>(rows.size());
+
+            try (PreparedStatement ps = con.prepareStatement(INSERT_PRODUCT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (ValidatedRow validatedRow : rows) {
+                    ProductImportRow row = validatedRow.row();
+                    ps.setString(1, row.getName().trim());
+                    ps.setString(2, row.getDescription());
+                    ps.setBigDecimal(3, row.getPrice());
+                    ps.setString(4, row.getCategory());
+                    if (validatedRow.brandId() != null) {
+                        ps.setLong(5, validatedRow.brandId());
+                    } else {
+                        ps.setNull(5, Types.BIGINT);
+                    }
+                    ps.setString(6, row.getImageUrl());
+                    ps.setBoolean(7, row.isFeatured());
+                    ps.setString(8, (row.getUnit() != null ? row.getUnit() : PricingUnit.PER_ITEM).name());
+                    ps.setDate(9, Date.valueOf(row.getExpiryDate()));
+                    ps.setInt(10, row.getDiscountPercentage() != null ? row.getDiscountPercentage() : 0);
+                    ps.setInt(11, row.getStockQuantity());
+                    ps.setTimestamp(12, now);
+                    ps.setTimestamp(13, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        generated.add(keys.getLong(1));
+                    }
+                }
+            }
+
+            if (generated.size() != rows.size()) {
+                throw new IllegalStateException(String.format(
+                        "Expected %d generated product IDs, got %d", rows.size(), generated.size()));
+            }
+
+            try (PreparedStatement ps = con.prepareStatement(INSERT_BATCH_SQL)) {
+                boolean any = false;
+                for (int i = 0; i < rows.size(); i++) {
+                    ProductImportRow row = rows.get(i).row();
+                    if (row.getStockQuantity() <= 0) {
+                        continue;
+                    }
+                    Long productId = generated.get(i);
+                    ps.setLong(1, productId);
+                    ps.setString(2, String.format("BATCH-%d-001", productId));
+                    ps.setDate(3, Date.valueOf(row.getExpiryDate()));
+                    ps.setInt(4, row.getStockQuantity());
+                    ps.setInt(5, row.getStockQuantity());
+                    ps.setTimestamp(6, now);
+                    ps.addBatch();
+                    any = true;
+                }
+                if (any) {
+                    ps.executeBatch();
+                }
+            }
+            return generated;
+        });
+
+        eventPublisher.publishEvent(new InventoryChangedEvent(ids));
+        return ids;
+    }
+
+    /** Bean validation plus brand resolution for one row. Safe to call from parallel streams. */
+    private ValidatedRow validate(ParsedRow parsed, BrandLookup brands) {
+        if (parsed.error() != null) {
+            return new ValidatedRow(parsed.rowNumber(), null, null, parsed.error());
+        }
+
+        ProductImportRow row = parsed.row();
+        Set<ConstraintViolation<ProductImportRow>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            return new ValidatedRow(parsed.rowNumber(), row, null, message);
+        }
+
+        Long brandId = null;
+        if (row.getBrandId() != null) {
+            if (!brands.ids().contains(row.getBrandId())) {
+                return new ValidatedRow(parsed.rowNumber(), row, null,
+                        "Brand not found with id: " + row.getBrandId());
+            }
+            brandId = row.getBrandId();
+        } else if (row.getBrandCode() != null && !row.getBrandCode().isBlank()) {
+            brandId = brands.idsByCode().get(row.getBrandCode().trim().toLowerCase(Locale.ROOT));
+            if (brandId == null) {
+                return new ValidatedRow(parsed.rowNumber(), row, null,
+                        "Brand not found with code: " + row.getBrandCode());
+            }
+        }
+        return new ValidatedRow(parsed.rowNumber(), row, brandId, null);
+    }
+
+    /** Loads every brand once per job so row validation never touches the database. */
+    private BrandLookup loadBrands() {
+        List<Brand> all = brandRepository.findAll();
+        Map<String, Long> byCode = new HashMap<>();
+        for (Brand brand : all) {
+            byCode.put(brand.getCode().toLowerCase(Locale.ROOT), brand.getId());
+        }
+        return new BrandLookup(
+                all.stream().map(Brand::getId).collect(Collectors.toUnmodifiableSet()),
+                Map.copyOf(byCode));
+    }
+
+    /**
+     * Reads the CSV header and returns a parser for the remaining lines.
+     * Columns are matched case-insensitively against ProductImportRow field names.
+     */
+    private Function<String, Parsed> csvParser(BufferedReader reader) {
+        Map<String, Integer> header;
+        try {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new BulkImportException("CSV file is empty");
+            }
+            if (headerLine.startsWith("\uFEFF")) {
+                headerLine = headerLine.substring(1);
+            }
+            header = CsvRows.headerIndex(CsvRows.parseLine(headerLine));
+        } catch (IOException ex) {
+            throw new BulkImportException("Could not read uploaded file: " + ex.getMessage());
+        }
+        for (String column : REQUIRED_CSV_COLUMNS) {
+            if (!header.containsKey(column.toLowerCase(Locale.ROOT))) {
+                throw new BulkImportException("CSV header is missing required column: " + column);
+            }
+        }
+        return line -> parseCsvLine(CsvRows.parseLine(line), header);
+    }
+
+    /** Maps CSV cells onto a ProductImportRow; the first unparseable cell becomes the row error. */
+    private Parsed parseCsvLine(List<String> cells, Map<String, Integer> header) {
+        ProductImportRow row = new ProductImportRow();
+        String current = null;
+        try {
+            row.setName(CsvRows.cell(cells, header, "name"));
+            row.setDescription(CsvRows.cell(cells, header, "description"));
+            row.setCategory(CsvRows.cell(cells, header, "category"));
+            row.setImageUrl(CsvRows.cell(cells, header, "imageUrl"));
+            row.setBrandCode(CsvRows.cell(cells, header, "brandCode"));
+
+            current = "price";
+            String price = CsvRows.cell(cells, header, current);
+            row.setPrice(price != null ? new BigDecimal(price) : null);
+
+            current = "brandId";
+            String brandId = CsvRows.cell(cells, header, current);
+            row.setBrandId(brandId != null ? Long.valueOf(brandId) : null);
+
+            current = "featured";
+            String featured = CsvRows.cell(cells, header, current);
+            row.setFeatured(featured != null && (featured.equalsIgnoreCase("true") || featured.equals("1")));
+
+            current = "unit";
+            String unit = CsvRows.cell(cells, header, current);
+            row.setUnit(unit != null ? PricingUnit.valueOf(unit.toUpperCase(Locale.ROOT)) : PricingUnit.PER_ITEM);
+
+            current = "expiryDate";
+            String expiry = CsvRows.cell(cells, header, current);
+            row.setExpiryDate(expiry != null ? LocalDate.parse(expiry) : null);
+
+            current = "discountPercentage";
+            String discount = CsvRows.cell(cells, header, current);
+            row.setDiscountPercentage(discount != null ? Integer.valueOf(discount) : null);
+
+            current = "stockQuantity";
+            String stock = CsvRows.cell(cells, header, current);
+            row.setStockQuantity(stock != null ? Integer.valueOf(stock) : null);
+        } catch (RuntimeException ex) {
+            return Parsed.error("Invalid value for " + current + ": '"
+                    + CsvRows.cell(cells, header, current) + "'");
+        }
+        return Parsed.ok(row);
+    }
+
+    /** Deserialises one NDJSON line; malformed JSON becomes the row error. */
+    private Parsed parseJsonLine(String line) {
+        try {
+            return Parsed.ok(objectMapper.readValue(line, ProductImportRow.class));
+        } catch (JacksonException ex) {
+            return Parsed.error("Invalid JSON: " + ex.getOriginalMessage());
+        }
+    }
+
+    private RowResult result(int rowNumber, Long id, boolean success, String message) {
+        return RowResult.builder()
+                .rowNumber(rowNumber)
+                .id(id)
+                .success(success)
+                .message(message)
+                .build();
+    }
+
+    /** Immutable brand lookups shared by all validation threads of one job. */
+    private record BrandLookup(Set<Long> ids, Map<String, Long> idsByCode) {
+    }
+
+    /** Outcome of parsing one input line, before its row number is attached. */
+    private record Parsed(ProductImportRow row, String error) {
+
+        static Parsed ok(ProductImportRow row) {
+            return new Parsed(row, null);
+        }
+
+        static Parsed error(String error) {
+            return new Parsed(null, error);
+        }
+
+        ParsedRow at(int rowNumber) {
+            return new ParsedRow(rowNumber, row, error);
+        }
+    }
+
+    /** A parsed input line with its 1-based data row number: either a row or a parse error. */
+    private record ParsedRow(int rowNumber, ProductImportRow row, String error) {
+    }
+
+    /** A row after validation, with its resolved brand ID or failure reason. */
+    private record ValidatedRow(int rowNumber, ProductImportRow row, Long brandId, String error) {
+    }
+}
@@ -34,6 +34,7 @@ public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
     private final ProductBatchService productBatchService;
+    private final CoPurchaseIndex coPurchaseIndex;
 
     /**
      * Fetches all products with featured=true and maps them to ProductResponse DTOs.
@@ -129,6 +130,7 @@ public class ProductServiceImpl implements ProductService {
     /**
      * Fetches a single product by ID and maps it to a ProductResponse.
      * Throws ProductNotFoundException (-> 404) when the ID does not exist.
+     * Attaches "frequently bought together" suggestions from the in-memory co-purchase index.
      *
      * @param id product primary key
      * @return ProductResponse for the found product
@@ -137,7 +139,9 @@ public class ProductServiceImpl implements ProductService {
     public ProductResponse getProductById(Long id) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new ProductNotFoundException(id));
-        return toResponse(product);
+        ProductResponse response = toResponse(product);
+        response.setFrequentlyBoughtTogether(coPurchaseIndex.frequentlyBoughtWith(product.getId()));
+        return response;
     }
 
     /**
@@ -0,0 +1,29 @@
+package com.urbanfresh.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Service Layer – Immutable snapshot of precomputed recommendations, one ranked candidate
+ * list per customer. Built offline by RecommendationModelBuilder and swapped in whole,
+ * so lookups are a single hash probe with no locking.
+ *
+ * @param byCustomer ranked candidates keyed by customer ID
+ * @param builtAt    when the snapshot was computed
+ */
+record RecommendationModel(Map<Long, Candidates> byCustomer, LocalDateTime builtAt) {
+
+    /**
+     * Ranked product candidates for one customer. The customer's own most-bought products
+     * come first, followed by products frequently bought alongside them.
+     *
+     * @param productIds   candidate product IDs, best first
+     * @param unitsOrdered units the customer bought of each candidate (0 for co-purchase picks)
+     */
+    record Candidates(long[] productIds, long[] unitsOrdered) {
+    }
+
+    static RecommendationModel empty() {
+        return new RecommendationModel(Map.of(), null);
+    }
+}
@@ -0,0 +1,179 @@
+package com.urbanfresh.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.urbanfresh.service.impl.ConfirmedBasketReader.Basket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service Layer – Offline builder for the recommendation model.
+ *
+ * Confirmed orders are read through ConfirmedBasketReader's keyset pages and each page is
+ * folded into primitive LongLongCountMap counters before the next is read, so no basket
+ * outlives its page:
+ *  1. per-customer units bought of each product (the "buy again" ranking);
+ *  2. per-product basket co-occurrence, from which item-to-item cosine similarity and the
+ *     top-K neighbours per product are computed once the scan is complete;
+ *  3. per-customer candidates: own top products, then neighbours of those products weighted
+ *     by how much the customer bought and how similar the neighbour is.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationModelBuilder {
+
+    private final ConfirmedBasketReader basketReader;
+
+    @Value("${app.recommendations.neighbours-per-product:10}")
+    private int neighboursPerProduct;
+
+    @Value("${app.recommendations.candidates-per-customer:20}")
+    private int candidatesPerCustomer;
+
+    private record Neighbour(long productId, double similarity) {
+    }
+
+    /**
+     * Scans all confirmed orders and computes a fresh model.
+     *
+     * @return the new snapshot; empty maps when there is no order history
+     */
+    public RecommendationModel build() {
+        long started = System.currentTimeMillis();
+        ConcurrentHashMap<Long, LongLongCountMap> unitsByCustomer = new ConcurrentHashMap<>();
+        ConcurrentHashMap<Long, LongLongCountMap> coOccurrence = new ConcurrentHashMap<>();
+        int[] orders = { 0 };
+        basketReader.forEachPage(page -> {
+            page.parallelStream().forEach(basket -> {
+                recordUnits(unitsByCustomer, basket);
+                recordCoOccurrence(coOccurrence, basket.productIds());
+            });
+            orders[0] += page.size();
+        });
+
+        Map<Long, List<Neighbour>> neighbours = computeNeighbours(coOccurrence);
+        coOccurrence.clear();
+
+        Map<Long, RecommendationModel.Candidates> candidates = unitsByCustomer.entrySet().parallelStream()
+                .collect(Collectors.toConcurrentMap(Map.Entry::getKey,
+                        e -> rankCandidates(e.getValue(), neighbours)));
+
+        log.info("[RecommendationModel] Built from {} order(s): {} customer(s), {} product(s) with neighbours in {} ms",
+                orders[0], candidates.size(), neighbours.size(), System.currentTimeMillis() - started);
+        return new RecommendationModel(Map.copyOf(candidates), LocalDateTime.now());
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    /** Adds the basket's units to its customer's per-product tally. */
+    private static void recordUnits(Map<Long, LongLongCountMap> unitsByCustomer, Basket basket) {
+        LongLongCountMap units = unitsByCustomer.computeIfAbsent(basket.customerId(), id -> new LongLongCountMap());
+        synchronized (units) {
+            for (int i = 0; i < basket.productIds().length; i++) {
+                units.increment(basket.productIds()[i], basket.quantities()[i]);
+            }
+        }
+    }
+
+    /**
+     * Counts, per product, the baskets it shares with every other product. A product's own
+     * entry holds the number of baskets containing it, which is the cosine denominator.
+     */
+    private static void recordCoOccurrence(Map<Long, LongLongCountMap> coOccurrence, long[] productIds) {
+        int n = Math.min(productIds.length, ConfirmedBasketReader.MAX_BASKET_PAIR_PRODUCTS);
+        for (int i = 0; i < productIds.length; i++) {
+            LongLongCountMap map = coOccurrence.computeIfAbsent(productIds[i], id -> new LongLongCountMap());
+            synchronized (map) {
+                map.increment(productIds[i], 1);
+                if (i < n) {
+                    for (int j = 0; j < n; j++) {
+                        if (j != i) {
+                            map.increment(productIds[j], 1);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Cosine similarity over basket occurrence: co(a, b) / sqrt(n(a) · n(b)),
+     * keeping the top neighboursPerProduct for each product. Runs after the scan, so the
+     * counters are only read.
+     */
+    private Map<Long, List<Neighbour>> computeNeighbours(Map<Long, LongLongCountMap> coOccurrence) {
+        return coOccurrence.entrySet().parallelStream()
+                .filter(e -> e.getValue().size() > 1)
+                .collect(Collectors.toConcurrentMap(Map.Entry::getKey, e -> {
+                    long productId = e.getKey();
+                    LongLongCountMap counts = e.getValue();
+                    double baskets = counts.get(productId);
+                    List<Neighbour> candidates = new ArrayList<>(counts.size() - 1);
+                    counts.forEach((otherId, together) -> {
+                        if (otherId != productId) {
+                            double otherBaskets = coOccurrence.get(otherId).get(otherId);
+                            candidates.add(new Neighbour(otherId, together / Math.sqrt(baskets * otherBaskets)));
+                        }
+                    });
+                    return candidates.stream()
+                            .sorted(Comparator.comparingDouble(Neighbour::similarity).reversed()
+                                    .thenComparingLong(Neighbour::productId))
+                            .limit(neighboursPerProduct)
+                            .toList();
+                }));
+    }
+
+    /** Own top products by units bought, then unseen neighbours scored by log-weighted similarity. */
+    private RecommendationModel.Candidates rankCandidates(LongLongCountMap units, Map<Long, List<Neighbour>> neighbours) {
+        // Own history fills at most half the list so co-purchase picks always get a share
+        long[] own = units.topKeys(Math.max(1, candidatesPerCustomer / 2));
+
+        Map<Long, Double> discoveryScores = new HashMap<>();
+        for (long productId : own) {
+            double weight = Math.log1p(units.get(productId));
+            for (Neighbour neighbour : neighbours.getOrDefault(productId, List.of())) {
+                if (units.get(neighbour.productId()) == 0) {
+                    discoveryScores.merge(neighbour.productId(), weight * neighbour.similarity(), Double::sum);
+                }
+            }
+        }
+
+        Set<Long> picked = new HashSet<>();
+        long[] productIds = new long[candidatesPerCustomer];
+        long[] unitsOrdered = new long[candidatesPerCustomer];
+        int size = 0;
+        for (long productId : own) {
+            productIds[size] = productId;
+            unitsOrdered[size++] = units.get(productId);
+            picked.add(productId);
+        }
+        for (Map.Entry<Long, Double> entry : discoveryScores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .toList()) {
+            if (size == candidatesPerCustomer) {
+                break;
+            }
+            if (picked.add(entry.getKey())) {
+                productIds[size++] = entry.getKey();
+            }
+        }
+
+        return new RecommendationModel.Candidates(
+                Arrays.copyOf(productIds, size), Arrays.copyOf(unitsOrdered, size));
+    }
+}
@@ -1,6 +1,11 @@
 package com.urbanfresh.service.impl;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -9,7 +14,9 @@ import org.springframework.transaction.annotation.Transactional;
 import com.urbanfresh.dto.response.RecommendationResponse;
 import com.urbanfresh.exception.UserNotFoundException;
 import com.urbanfresh.model.OrderStatus;
+import com.urbanfresh.model.Product;
 import com.urbanfresh.repository.OrderRepository;
+import com.urbanfresh.repository.ProductRepository;
 import com.urbanfresh.repository.UserRepository;
 import com.urbanfresh.service.RecommendationService;
 
@@ -17,8 +24,10 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * Service Layer – Implements habit-based recommendations.
- * Queries confirmed order history to rank products by purchase frequency,
- * then filters to only those currently in stock and visible to customers.
+ * Serves ranked candidates from the precomputed RecommendationModel (one hash lookup),
+ * then loads just those products to drop anything hidden or out of stock. Customers not
+ * yet covered by the model (first order since the last build) fall back to the live
+ * purchase-frequency query.
  */
 @Service
 @RequiredArgsConstructor
@@ -37,10 +46,15 @@ public class RecommendationServiceImpl implements RecommendationService {
 
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final RecommendationModelBuilder modelBuilder;
+
+    private volatile RecommendationModel model = RecommendationModel.empty();
 
     /**
-     * Returns up to 5 most-frequently-purchased products for the customer,
-     * ranked by total units ordered. Hidden and out-of-stock products are excluded.
+     * Returns up to 5 recommended products for the customer: their most-bought products
+     * first, then products frequently bought alongside them. Hidden and out-of-stock
+     * products are excluded.
      *
      * @param customerEmail email from JWT principal
      * @return ordered recommendation list (empty when customer has no confirmed orders)
@@ -52,10 +66,42 @@ public class RecommendationServiceImpl implements RecommendationService {
                 .orElseThrow(() -> new UserNotFoundException("Customer not found: " + customerEmail))
                 .getId();
 
-        return orderRepository.findTopProductsByCustomer(
-                customerId,
-                CONFIRMED_STATUSES,
-                PageRequest.of(0, MAX_RECOMMENDATIONS)
-        );
+        RecommendationModel.Candidates candidates = model.byCustomer().get(customerId);
+        if (candidates == null) {
+            return orderRepository.findTopProductsByCustomer(
+                    customerId,
+                    CONFIRMED_STATUSES,
+                    PageRequest.of(0, MAX_RECOMMENDATIONS)
+            );
+        }
+
+        long[] productIds = candidates.productIds();
+        Map<Long, Product> products = productRepository
+                .findAllById(Arrays.stream(productIds).boxed().toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<RecommendationResponse> recommendations = new ArrayList<>(MAX_RECOMMENDATIONS);
+        for (int i = 0; i < productIds.length && recommendations.size() < MAX_RECOMMENDATIONS; i++) {
+            Product product = products.get(productIds[i]);
+            if (product == null || product.isHidden() || product.getStockQuantity() <= 0) {
+                continue;
+            }
+            recommendations.add(new RecommendationResponse(
+                    product.getId(),
+                    product.getName(),
+                    product.getImageUrl(),
+                    product.getPrice(),
+                    product.getStockQuantity(),
+                    candidates.unitsOrdered()[i]));
+        }
+        return recommendations;
+    }
+
+    @Override
+    public int rebuildModel() {
+        RecommendationModel rebuilt = modelBuilder.build();
+        model = rebuilt;
+        return rebuilt.byCustomer().size();
     }
 }
@@ -0,0 +1,72 @@
+package com.urbanfresh.service.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.ApiException;
+import com.stripe.exception.RateLimitException;
+import com.stripe.exception.StripeException;
+import com.stripe.model.PaymentIntent;
+import com.stripe.net.RequestOptions;
+import com.stripe.param.PaymentIntentCreateParams;
+import com.urbanfresh.exception.PaymentException;
+import com.urbanfresh.exception.PaymentGatewayUnavailableException;
+import com.urbanfresh.service.PaymentGateway;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service Layer – Stripe implementation of PaymentGateway.
+ * Every request carries explicit connect/read timeouts and the caller's idempotency key, so a
+ * slow Stripe region fails fast and a retried request returns the original PaymentIntent.
+ * Transient failures are surfaced as PaymentGatewayUnavailableException so the circuit
+ * breaker in PaymentGatewayGuard can count them; validation errors stay PaymentException.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.payment.gateway", havingValue = "stripe", matchIfMissing = true)
+public class StripePaymentGateway implements PaymentGateway {
+
+    @Value("${app.payment.stripe.connect-timeout-ms:2000}")
+    private int connectTimeoutMs;
+
+    @Value("${app.payment.stripe.read-timeout-ms:5000}")
+    private int readTimeoutMs;
+
+    /** Stripe-side network retries; safe because every request is idempotent. */
+    @Value("${app.payment.stripe.max-network-retries:1}")
+    private int maxNetworkRetries;
+
+    @Override
+    public CreatedIntent createPaymentIntent(IntentRequest request) {
+        PaymentIntentCreateParams params = PaymentIntentCreateParams.builder()
+                .setAmount(request.amount())
+                .setCurrency(request.currency())
+                // Restrict to card payments only — matches the card-only checkout UI
+                .addPaymentMethodType("card")
+                .putAllMetadata(request.metadata())
+                .build();
+
+        RequestOptions options = RequestOptions.builder()
+                .setIdempotencyKey(request.idempotencyKey())
+                .setConnectTimeout(connectTimeoutMs)
+                .setReadTimeout(readTimeoutMs)
+                .setMaxNetworkRetries(maxNetworkRetries)
+                .build();
+
+        try {
+            PaymentIntent intent = PaymentIntent.create(params, options);
+            return new CreatedIntent(intent.getId(), intent.getClientSecret());
+        } catch (ApiConnectionException | ApiException | RateLimitException ex) {
+            log.warn("Stripe unavailable creating PaymentIntent for orderId={}: {}",
+                    request.orderId(), ex.getMessage());
+            throw new PaymentGatewayUnavailableException(
+                    "Payment gateway is temporarily unavailable. Please try again shortly.", ex);
+        } catch (StripeException ex) {
+            log.error("Stripe PaymentIntent creation failed for orderId={}: {}", request.orderId(), ex.getMessage());
+            throw new PaymentException("Payment gateway error — could not create payment session.", ex);
+        }
+    }
+}
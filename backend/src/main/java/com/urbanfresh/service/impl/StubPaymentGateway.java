@@ -0,0 +1,53 @@
+package com.urbanfresh.service.impl;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.urbanfresh.exception.PaymentGatewayUnavailableException;
+import com.urbanfresh.service.PaymentGateway;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service Layer – Local PaymentGateway for load tests (app.payment.gateway=stub).
+ * Never contacts Stripe. Intent IDs are derived from the idempotency key, mirroring Stripe's
+ * "same key, same intent" behaviour; latency and failure rate are configurable so the
+ * bulkhead and circuit breaker can be exercised without a real processor.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.payment.gateway", havingValue = "stub")
+public class StubPaymentGateway implements PaymentGateway {
+
+    @Value("${app.payment.stub.latency-ms:150}")
+    private long latencyMs;
+
+    /** Fraction of calls (0.0–1.0) that fail as if Stripe were unreachable. */
+    @Value("${app.payment.stub.failure-rate:0.0}")
+    private double failureRate;
+
+    @PostConstruct
+    void warnActive() {
+        log.warn("Stub payment gateway active — no real payments will be created (latency {} ms, failure rate {})",
+                latencyMs, failureRate);
+    }
+
+    @Override
+    public CreatedIntent createPaymentIntent(IntentRequest request) {
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PaymentGatewayUnavailableException("Stub payment gateway interrupted.", ex);
+        }
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new PaymentGatewayUnavailableException("Stub payment gateway simulated outage.");
+        }
+        String intentId = "pi_stub_" + request.idempotencyKey();
+        return new CreatedIntent(intentId, intentId + "_secret_stub");
+    }
+}
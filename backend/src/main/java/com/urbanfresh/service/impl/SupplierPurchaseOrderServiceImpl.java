@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -56,6 +59,24 @@ public class SupplierPurchaseOrderServiceImpl implements SupplierPurchaseOrderSe
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PurchaseOrderDto> getPurchaseOrdersPageForSupplier(String email, PurchaseOrderStatus status,
+                                                                   int page, int size) {
+        Long supplierId = getSupplierIdFromEmail(email);
+        List<Long> brandIds = getBrandIdsForSupplier(supplierId);
+        PageRequest pageRequest = PageRequest.of(page, size,
+                Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+
+        if (brandIds.isEmpty()) {
+            return Page.empty(pageRequest);
+        }
+
+        // Page over IDs first, then fetch brand/items/products for just this page in one query
+        Page<Long> idPage = purchaseOrderRepository.findIdsByBrandIdInAndStatus(brandIds, status, pageRequest);
+        return purchaseOrderRepository.findWithDetailsByIdPage(idPage).map(this::mapToDto);
+    }
+
     @Override
     @Transactional
     public PurchaseOrderDto updateShipmentStatus(String email, Long orderId, UpdatePurchaseOrderStatusDto updateDto) {
@@ -0,0 +1,118 @@
+package com.urbanfresh.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.urbanfresh.event.WebhookEventReceivedEvent;
+import com.urbanfresh.model.WebhookInboxEvent;
+import com.urbanfresh.repository.WebhookInboxEventRepository;
+import com.urbanfresh.service.PaymentService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service Layer – Worker pool that applies stored Stripe webhook events.
+ * Events are partitioned by PaymentIntent ID onto single-threaded workers, so every event
+ * for one payment is applied in arrival order while different payments proceed in parallel.
+ * Worker queues are bounded: when a retry storm overflows them the event simply stays
+ * RECEIVED in the inbox and is picked up by the retry sweep, never dropped.
+ */
+@Slf4j
+@Component
+public class WebhookInboxDispatcher {
+
+    private final PaymentService paymentService;
+    private final WebhookInboxEventRepository webhookInboxRepository;
+    private final ExecutorService[] partitions;
+
+    @Value("${app.payment.webhook.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.payment.webhook.retry-after-ms:60000}")
+    private long retryAfterMs;
+
+    @Value("${app.payment.webhook.sweep-size:200}")
+    private int sweepSize;
+
+    public WebhookInboxDispatcher(
+            PaymentService paymentService,
+            WebhookInboxEventRepository webhookInboxRepository,
+            @Value("${app.payment.webhook.worker-partitions:4}") int partitionCount,
+            @Value("${app.payment.webhook.queue-capacity:1000}") int queueCapacity) {
+        this.paymentService = paymentService;
+        this.webhookInboxRepository = webhookInboxRepository;
+        this.partitions = new ExecutorService[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            String threadName = "webhook-worker-" + i;
+            partitions[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity),
+                    runnable -> new Thread(runnable, threadName));
+        }
+    }
+
+    /** Hands a freshly stored event to its partition. */
+    @EventListener
+    public void onWebhookEventReceived(WebhookEventReceivedEvent event) {
+        enqueue(event.getInboxEventId(), event.getPaymentIntentId());
+    }
+
+    /**
+     * Re-enqueues inbox rows that were never applied (lost queue, overflow, restart) or that
+     * failed below the attempt limit. Called by WebhookInboxRetryScheduler.
+     *
+     * @return number of events re-enqueued
+     */
+    public int requeueStaleEvents() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(retryAfterMs * 1_000_000L);
+        List<WebhookInboxEvent> stale = webhookInboxRepository.findRetryable(
+                cutoff, maxAttempts, PageRequest.of(0, sweepSize));
+        stale.forEach(e -> enqueue(e.getId(), e.getPaymentIntentId()));
+        return stale.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService partition : partitions) {
+            partition.shutdown();
+        }
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    private void enqueue(Long inboxEventId, String paymentIntentId) {
+        int partition = paymentIntentId != null
+                ? Math.floorMod(paymentIntentId.hashCode(), partitions.length)
+                : (int) Math.floorMod(inboxEventId, (long) partitions.length);
+        try {
+            partitions[partition].execute(() -> process(inboxEventId));
+        } catch (RejectedExecutionException ex) {
+            log.warn("[WebhookInboxDispatcher] Partition {} full — inbox event {} left for retry sweep",
+                    partition, inboxEventId);
+        }
+    }
+
+    private void process(Long inboxEventId) {
+        try {
+            paymentService.processWebhookInboxEvent(inboxEventId);
+        } catch (RuntimeException ex) {
+            log.error("[WebhookInboxDispatcher] Failed to apply inbox event {}: {}", inboxEventId, ex.getMessage(), ex);
+            try {
+                paymentService.recordWebhookInboxFailure(inboxEventId, ex.getMessage());
+            } catch (RuntimeException recordEx) {
+                log.error("[WebhookInboxDispatcher] Could not record failure for inbox event {}: {}",
+                        inboxEventId, recordEx.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+-- Composite indexes for the hottest predicates. Tables and columns are still created by
+-- Hibernate (ddl-auto=update); these migrations own every index that is not declared on
+-- an entity, so each environment ends up with the same access paths.
+-- Keep SchemaIndexVerifier.EXPECTED in step with this file.
+
+-- FIFO allocation, stock sums and earliest-expiry lookups: product, then status filter, then expiry order
+CREATE INDEX idx_product_batches_product_status_expiry ON product_batches (product_id, status, expiry_date);
+
+-- Batch expiry scheduler: status transitions by expiry date across all products
+CREATE INDEX idx_product_batches_status_expiry ON product_batches (status, expiry_date);
+
+-- Customer order history, newest first
+CREATE INDEX idx_orders_user_created ON orders (user_id, created_at);
+
+-- Admin order lists, stale-PENDING cancellation and dispatch waves by status in creation order
+CREATE INDEX idx_orders_status_created ON orders (status, created_at);
+
+-- Unread badge count and mark-all-read
+CREATE INDEX idx_notifications_customer_read ON notifications (customer_id, is_read);
+
+-- Notification feed, newest first
+CREATE INDEX idx_notifications_customer_created ON notifications (customer_id, created_at);
+
+-- Waste report ordering and the monthly wasted-value sum (covering: no row lookups)
+CREATE INDEX idx_waste_records_expiry ON waste_records (expiry_date, wasted_value);
+
+-- Allocations of an order item (returns, cancellations, batch traceability)
+CREATE INDEX idx_order_item_batch_allocations_item ON order_item_batch_allocations (order_item_id);
@@ -0,0 +1,19 @@
+-- Order items, batch allocations, notifications and waste records now take pooled IDs from
+-- id_generators (see model/IdGenerators). Start each generator one allocation block past the
+-- highest existing ID so the first reserved block can never collide with IDENTITY-era rows.
+
+INSERT INTO id_generators (gen_name, next_val)
+SELECT 'order_items', COALESCE(MAX(id), 0) + 51 FROM order_items
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (gen_name, next_val)
+SELECT 'order_item_batch_allocations', COALESCE(MAX(id), 0) + 51 FROM order_item_batch_allocations
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (gen_name, next_val)
+SELECT 'notifications', COALESCE(MAX(id), 0) + 51 FROM notifications
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (gen_name, next_val)
+SELECT 'waste_records', COALESCE(MAX(id), 0) + 51 FROM waste_records
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
@@ -0,0 +1,87 @@
+package com.urbanfresh.config;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.urbanfresh.model.IdGenerators;
+
+@ExtendWith(MockitoExtension.class)
+class PooledIdGeneratorVerifierTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private ObjectProvider<Flyway> flyway;
+
+    private PooledIdGeneratorVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        verifier = new PooledIdGeneratorVerifier(jdbcTemplate, flyway);
+    }
+
+    @Test
+    void passesWhenEveryGeneratorIsOneBlockAhead() {
+        for (String table : IdGenerators.POOLED_TABLES) {
+            givenTable(table, 100, List.of(100L + IdGenerators.ALLOCATION_SIZE));
+        }
+
+        assertThatCode(verifier::afterSingletonsInstantiated).doesNotThrowAnyException();
+    }
+
+    @Test
+    void passesForEmptyTablesWithoutGeneratorRows() {
+        for (String table : IdGenerators.POOLED_TABLES) {
+            givenMaxId(table, 0);
+        }
+
+        assertThatCode(verifier::afterSingletonsInstantiated).doesNotThrowAnyException();
+    }
+
+    @Test
+    void failsWhenGeneratorRowIsMissingForPopulatedTable() {
+        givenTable("order_items", 500, List.of());
+        givenRemainingTablesEmpty("order_items");
+
+        assertThatThrownBy(verifier::afterSingletonsInstantiated)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("order_items (max id 500, next_val missing)");
+    }
+
+    @Test
+    void failsWhenNextBlockOverlapsExistingIds() {
+        givenTable("order_items", 500, List.of(520L));
+        givenRemainingTablesEmpty("order_items");
+
+        assertThatThrownBy(verifier::afterSingletonsInstantiated)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("order_items (max id 500, next_val 520)");
+    }
+
+    private void givenTable(String table, long maxId, List<Long> nextValue) {
+        givenMaxId(table, maxId);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(table))).thenReturn(nextValue);
+    }
+
+    private void givenMaxId(String table, long maxId) {
+        when(jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class)).thenReturn(maxId);
+    }
+
+    private void givenRemainingTablesEmpty(String populated) {
+        IdGenerators.POOLED_TABLES.stream()
+                .filter(table -> !table.equals(populated))
+                .forEach(table -> givenMaxId(table, 0));
+    }
+}
@@ -0,0 +1,113 @@
+package com.urbanfresh.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock private DataSource primary;
+    @Mock private DataSource replica;
+    @Mock private Connection primaryConnection;
+    @Mock private Connection replicaConnection;
+
+    private ReplicaRoutingDataSource routing;
+    private Boolean previousScope;
+
+    @BeforeEach
+    void setUp() {
+        routing = new ReplicaRoutingDataSource(primary, replica, 60_000, new SimpleMeterRegistry());
+        routing.afterPropertiesSet();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("customer@urbanfresh.test", null, List.of()));
+        previousScope = ReplicaRoutingDataSource.enterReplicaScope();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.exitReplicaScope(previousScope);
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() throws Exception {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        assertThat(readOnlyConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void readWriteTransactionWithoutDmlDoesNotPinUserToPrimary() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        commitReadWrite("SELECT id FROM products WHERE id = ? FOR UPDATE");
+
+        assertThat(readOnlyConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void committedDmlKeepsUserOnPrimaryForReadYourWrites() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        commitReadWrite("  update orders set status = ? where id = ?");
+
+        assertThat(readOnlyConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void rolledBackDmlIsNotTracked() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        TransactionSynchronizationManager.initSynchronization();
+        routing.getConnection().prepareStatement("INSERT INTO orders (id) VALUES (?)");
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(readOnlyConnection()).isSameAs(replicaConnection);
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────────────
+
+    /** Runs one read-write transaction that prepares the statement, then commits it. */
+    private void commitReadWrite(String sql) throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        Connection connection = routing.getConnection();
+        connection.prepareStatement(sql);
+        verify(primaryConnection).prepareStatement(sql);
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private Connection readOnlyConnection() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            return routing.getConnection();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.urbanfresh.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.urbanfresh.exception.SqlStatementBudgetExceededException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class SqlStatementBudgetFilterTest {
+
+    private static final int BUDGET = 3;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatementCounter inspector = new SqlStatementCounter();
+
+    @Test
+    void recordsStatementsAndFlagsRequestsOverBudget() throws Exception {
+        SqlStatementBudgetFilter filter = new SqlStatementBudgetFilter(meterRegistry, BUDGET, false);
+
+        filter.doFilter(request(), new MockHttpServletResponse(), chainIssuing(5));
+
+        assertThat(meterRegistry.get("urbanfresh.http.sql.statements").summary().totalAmount()).isEqualTo(5);
+        assertThat(meterRegistry.get("urbanfresh.http.sql.budget.exceeded").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void enforcedBudgetFailsTheRequestAndStillRecordsIt() {
+        SqlStatementBudgetFilter filter = new SqlStatementBudgetFilter(meterRegistry, BUDGET, true);
+
+        assertThatThrownBy(() -> filter.doFilter(request(), new MockHttpServletResponse(), chainIssuing(5)))
+                .isInstanceOf(SqlStatementBudgetExceededException.class);
+
+        // The statement that crossed the budget is the last one counted
+        assertThat(meterRegistry.get("urbanfresh.http.sql.statements").summary().totalAmount()).isEqualTo(BUDGET + 1);
+        assertThat(meterRegistry.get("urbanfresh.http.sql.budget.exceeded").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void scopeIsClosedAfterTheRequest() throws Exception {
+        SqlStatementBudgetFilter filter = new SqlStatementBudgetFilter(meterRegistry, BUDGET, true);
+
+        assertThatThrownBy(() -> filter.doFilter(request(), new MockHttpServletResponse(), chainIssuing(5)))
+                .isInstanceOf(SqlStatementBudgetExceededException.class);
+
+        // Outside a request scope statements pass through uncounted and never throw
+        for (int i = 0; i < 10; i++) {
+            assertThat(inspector.inspect("select 1")).isEqualTo("select 1");
+        }
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/products/{id}");
+        return request;
+    }
+
+    /** A chain whose handler issues the given number of Hibernate statements. */
+    private MockFilterChain chainIssuing(int statements) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                for (int i = 0; i < statements; i++) {
+                    inspector.inspect("select * from products where id = ?");
+                }
+            }
+        });
+    }
+}
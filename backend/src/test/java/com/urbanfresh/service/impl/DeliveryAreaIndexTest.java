@@ -0,0 +1,72 @@
+package com.urbanfresh.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.urbanfresh.model.DeliveryArea;
+
+/**
+ * Address resolution in DeliveryAreaIndex: word n-gram keyword lookup, longest keyword
+ * first, and the locality fallback for addresses without a keyword.
+ */
+class DeliveryAreaIndexTest {
+
+    private DeliveryAreaIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = DeliveryAreaIndex.of(List.of(
+                area("COL03", "colombo 03, kollupitiya", 6.91, 79.85),
+                area("COL", "colombo", 6.93, 79.85),
+                area("MTL", "mount lavinia, mt lavinia", 6.84, 79.86)));
+    }
+
+    @Test
+    void longerKeywordWinsOverItsPrefix() {
+        assertThat(index.resolve("12 Galle Road, Colombo 03").code()).isEqualTo("COL03");
+        assertThat(index.resolve("5 Main Street, Colombo").code()).isEqualTo("COL");
+    }
+
+    @Test
+    void keywordMatchesAnywhereIgnoringCaseAndPunctuation() {
+        assertThat(index.resolve("No.7, KOLLUPITIYA Rd.").code()).isEqualTo("COL03");
+        assertThat(index.resolve("Flat 2/B, Hotel Rd, Mt. Lavinia").code()).isEqualTo("MTL");
+    }
+
+    @Test
+    void resolvedAreaCarriesCoordinates() {
+        DeliveryAreaIndex.Area area = index.resolve("Mount Lavinia");
+
+        assertThat(area.hasLocation()).isTrue();
+        assertThat(area.latitude()).isEqualTo(6.84);
+        assertThat(area.longitude()).isEqualTo(79.86);
+    }
+
+    @Test
+    void unknownAddressFallsBackToLastNonBlankSegment() {
+        DeliveryAreaIndex.Area area = index.resolve("22 Temple Lane, Kandy, ");
+
+        assertThat(area.code()).isEqualTo("KANDY");
+        assertThat(area.hasLocation()).isFalse();
+    }
+
+    @Test
+    void blankAddressIsUnresolved() {
+        assertThat(index.resolve(null)).isNull();
+        assertThat(index.resolve("  ,  ")).isNull();
+    }
+
+    private static DeliveryArea area(String code, String keywords, double latitude, double longitude) {
+        return DeliveryArea.builder()
+                .code(code)
+                .name(code)
+                .keywords(keywords)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
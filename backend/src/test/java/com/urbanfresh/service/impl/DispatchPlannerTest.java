@@ -0,0 +1,125 @@
+package com.urbanfresh.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Trip building and rider assignment in DispatchPlanner: full trips per area, greedy
+ * merging of nearby partial trips, and least-loaded assignment.
+ */
+class DispatchPlannerTest {
+
+    private static final double MERGE_RADIUS_KM = 3.0;
+
+    // About 1.1 km apart
+    private static final DeliveryAreaIndex.Area NORTH = new DeliveryAreaIndex.Area("NORTH", 6.93, 79.85);
+    private static final DeliveryAreaIndex.Area CENTRE = new DeliveryAreaIndex.Area("CENTRE", 6.92, 79.85);
+    // About 55 km from CENTRE
+    private static final DeliveryAreaIndex.Area FAR = new DeliveryAreaIndex.Area("FAR", 7.42, 79.85);
+    // Locality fallback: no coordinates
+    private static final DeliveryAreaIndex.Area KANDY = new DeliveryAreaIndex.Area("KANDY", null, null);
+    private static final DeliveryAreaIndex.Area GALLE = new DeliveryAreaIndex.Area("GALLE", null, null);
+
+    private long nextOrderId = 1;
+
+    @Test
+    void largeAreaIsCutIntoFullTripsPlusRemainder() {
+        List<DispatchPlanner.PendingOrder> orders = orders(CENTRE, 10);
+
+        List<DispatchPlanner.Trip> trips = trips(DispatchPlanner.plan(orders, riders(1), 4, MERGE_RADIUS_KM));
+
+        assertThat(trips).extracting(t -> t.orderIds().size()).containsExactly(4, 4, 2);
+        assertThat(trips.get(0).orderIds()).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(trips.get(2).orderIds()).containsExactly(9L, 10L);
+    }
+
+    @Test
+    void nearbyPartialsAreMergedAndDistantOnesAreNot() {
+        List<DispatchPlanner.PendingOrder> orders = new ArrayList<>();
+        orders.addAll(orders(CENTRE, 3));
+        orders.addAll(orders(NORTH, 2));
+        orders.addAll(orders(FAR, 2));
+
+        List<DispatchPlanner.Trip> trips = trips(DispatchPlanner.plan(orders, riders(1), 8, MERGE_RADIUS_KM));
+
+        assertThat(trips).extracting(DispatchPlanner.Trip::areas)
+                .containsExactly(List.of("CENTRE", "NORTH"), List.of("FAR"));
+        assertThat(trips.get(0).orderIds()).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void mergeNeverExceedsTripCapacity() {
+        List<DispatchPlanner.PendingOrder> orders = new ArrayList<>();
+        orders.addAll(orders(CENTRE, 3));
+        orders.addAll(orders(NORTH, 2));
+
+        List<DispatchPlanner.Trip> trips = trips(DispatchPlanner.plan(orders, riders(1), 4, MERGE_RADIUS_KM));
+
+        assertThat(trips).extracting(DispatchPlanner.Trip::areas)
+                .containsExactly(List.of("CENTRE"), List.of("NORTH"));
+    }
+
+    @Test
+    void localityFallbackAreasAreNeverMerged() {
+        List<DispatchPlanner.PendingOrder> orders = new ArrayList<>();
+        orders.addAll(orders(KANDY, 2));
+        orders.addAll(orders(GALLE, 1));
+        orders.addAll(orders(KANDY, 1));
+
+        List<DispatchPlanner.Trip> trips = trips(DispatchPlanner.plan(orders, riders(1), 8, MERGE_RADIUS_KM));
+
+        assertThat(trips).extracting(DispatchPlanner.Trip::areas)
+                .containsExactly(List.of("KANDY"), List.of("GALLE"));
+        assertThat(trips.get(0).orderIds()).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    void largestTripGoesToLeastLoadedRider() {
+        List<DispatchPlanner.PendingOrder> orders = new ArrayList<>();
+        orders.addAll(orders(CENTRE, 4));
+        orders.addAll(orders(FAR, 2));
+        List<DispatchPlanner.Rider> riders = List.of(
+                new DispatchPlanner.Rider(1L, "Busy", 3),
+                new DispatchPlanner.Rider(2L, "Idle", 0));
+
+        List<DispatchPlanner.RiderPlan> plans = DispatchPlanner.plan(orders, riders, 4, MERGE_RADIUS_KM);
+
+        assertThat(plans).extracting(p -> p.rider().id()).containsExactly(1L, 2L);
+        assertThat(plans.get(1).trips()).extracting(DispatchPlanner.Trip::areas).containsExactly(List.of("CENTRE"));
+        assertThat(plans.get(1).projectedLoad()).isEqualTo(4);
+        assertThat(plans.get(0).trips()).extracting(DispatchPlanner.Trip::areas).containsExactly(List.of("FAR"));
+        assertThat(plans.get(0).projectedLoad()).isEqualTo(5);
+    }
+
+    @Test
+    void noRidersMeansNoPlans() {
+        assertThat(DispatchPlanner.plan(orders(CENTRE, 3), List.of(), 8, MERGE_RADIUS_KM)).isEmpty();
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────────────
+
+    private List<DispatchPlanner.PendingOrder> orders(DeliveryAreaIndex.Area area, int count) {
+        List<DispatchPlanner.PendingOrder> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orders.add(new DispatchPlanner.PendingOrder(nextOrderId++, area));
+        }
+        return orders;
+    }
+
+    private static List<DispatchPlanner.Rider> riders(int count) {
+        List<DispatchPlanner.Rider> riders = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            riders.add(new DispatchPlanner.Rider(id, "Rider " + id, 0));
+        }
+        return riders;
+    }
+
+    /** Trips of a single-rider plan, in assignment order (largest first). */
+    private static List<DispatchPlanner.Trip> trips(List<DispatchPlanner.RiderPlan> plans) {
+        return plans.get(0).trips();
+    }
+}
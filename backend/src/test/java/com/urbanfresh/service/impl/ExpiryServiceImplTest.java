@@ -0,0 +1,67 @@
+package com.urbanfresh.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.urbanfresh.dto.response.ExpiryBucketResponse;
+import com.urbanfresh.dto.response.ExpiryProductResponse;
+import com.urbanfresh.repository.ProductBatchRepository;
+
+/**
+ * Bucketing in ExpiryServiceImpl: batched rows and legacy batch-less products are merged
+ * by expiry before being split into urgency buckets.
+ */
+@ExtendWith(MockitoExtension.class)
+class ExpiryServiceImplTest {
+
+    @Mock private ProductBatchRepository productBatchRepository;
+
+    @InjectMocks
+    private ExpiryServiceImpl expiryService;
+
+    @Test
+    void legacyProductsWithoutBatchesAreBucketedByProductExpiry() {
+        LocalDate today = LocalDate.now();
+        when(productBatchRepository.findExpiryDashboardRows(any(), any()))
+                .thenReturn(List.of(row(1L, today.plusDays(1)), row(2L, today.plusDays(20))));
+        when(productBatchRepository.findLegacyExpiryDashboardRows(any(), any()))
+                .thenReturn(List.of(row(3L, today), row(4L, today.plusDays(5)), row(5L, today.plusDays(20))));
+
+        ExpiryBucketResponse buckets = expiryService.getExpiryBuckets();
+
+        assertThat(buckets.getWithin1Day()).extracting(ExpiryProductResponse::getId).containsExactly(3L, 1L);
+        assertThat(buckets.getWithin7Days()).extracting(ExpiryProductResponse::getId).containsExactly(4L);
+        assertThat(buckets.getWithin30Days()).extracting(ExpiryProductResponse::getId).containsExactly(2L, 5L);
+        assertThat(buckets.getTotalNearExpiryCount()).isEqualTo(5);
+        assertThat(buckets.getWithin7Days().get(0).getDaysUntilExpiry()).isEqualTo(5);
+    }
+
+    @Test
+    void batchedRowsAloneAreBucketedUnchanged() {
+        LocalDate today = LocalDate.now();
+        when(productBatchRepository.findExpiryDashboardRows(any(), any()))
+                .thenReturn(List.of(row(1L, today.plusDays(3))));
+        when(productBatchRepository.findLegacyExpiryDashboardRows(any(), any())).thenReturn(List.of());
+
+        ExpiryBucketResponse buckets = expiryService.getExpiryBuckets();
+
+        assertThat(buckets.getWithin7Days()).extracting(ExpiryProductResponse::getId).containsExactly(1L);
+        assertThat(buckets.getTotalNearExpiryCount()).isEqualTo(1);
+    }
+
+    private static ExpiryProductResponse row(long id, LocalDate expiry) {
+        return new ExpiryProductResponse(id, "Product " + id, "Dairy", null, BigDecimal.TEN,
+                null, 5, expiry, 0);
+    }
+}
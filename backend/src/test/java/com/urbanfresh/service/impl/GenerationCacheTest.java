@@ -0,0 +1,126 @@
+package com.urbanfresh.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class GenerationCacheTest {
+
+    private final GenerationCache<Long, String> cache = new GenerationCache<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void loadsOnceUntilInvalidated() {
+        assertThat(cache.get(1L, () -> load("a"))).isEqualTo("a");
+        assertThat(cache.get(1L, () -> load("b"))).isEqualTo("a");
+        assertThat(loads).hasValue(1);
+
+        cache.invalidate(1L);
+
+        assertThat(cache.get(1L, () -> load("c"))).isEqualTo("c");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void loadRacingWithInvalidationIsReturnedButNotCached() {
+        String value = cache.get(1L, () -> {
+            // A committed write lands while the load is still reading
+            cache.invalidate(2L);
+            return load("stale");
+        });
+
+        assertThat(value).isEqualTo("stale");
+        assertThat(cache.get(1L, () -> load("fresh"))).isEqualTo("fresh");
+    }
+
+    @Test
+    void sameKeyInvalidatedInsideLoaderIsNotCached() {
+        cache.get(1L, () -> {
+            cache.invalidate(1L);
+            return load("stale");
+        });
+        assertThat(cache.get(1L, () -> load("fresh"))).isEqualTo("fresh");
+
+        cache.invalidate(1L);
+        cache.get(1L, () -> {
+            cache.clear();
+            return load("stale");
+        });
+        assertThat(cache.get(1L, () -> load("fresh2"))).isEqualTo("fresh2");
+    }
+
+    @Test
+    void concurrentLoadsNeverOutliveTheLastInvalidation() throws Exception {
+        AtomicInteger version = new AtomicInteger();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread reader = new Thread(() -> {
+                awaitQuietly(start);
+                while (writing.get()) {
+                    cache.get(1L, () -> String.valueOf(version.get()));
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        start.countDown();
+        for (int i = 0; i < 20_000; i++) {
+            // Commit first, then evict, as the @TransactionalEventListener owners do
+            version.incrementAndGet();
+            cache.invalidate(1L);
+        }
+        writing.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertThat(cache.get(1L, () -> load("reloaded"))).isIn(String.valueOf(version.get()), "reloaded");
+    }
+
+    @Test
+    void invalidateAllAndClearEvictOnlyWhatTheyName() {
+        cache.get(1L, () -> load("a"));
+        cache.get(2L, () -> load("b"));
+        cache.get(3L, () -> load("c"));
+
+        cache.invalidateAll(List.of(1L, 2L));
+
+        assertThat(cache.get(3L, () -> load("x"))).isEqualTo("c");
+        assertThat(cache.get(1L, () -> load("a2"))).isEqualTo("a2");
+
+        cache.clear();
+
+        assertThat(cache.get(3L, () -> load("c2"))).isEqualTo("c2");
+    }
+
+    @Test
+    void expiredEntriesAreReloaded() {
+        cache.get(1L, 0, () -> load("a"));
+
+        assertThat(cache.get(1L, 0, () -> load("b"))).isEqualTo("b");
+        assertThat(cache.get(1L, 60_000, () -> load("c"))).isEqualTo("c");
+        assertThat(cache.get(1L, 60_000, () -> load("d"))).isEqualTo("c");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String load(String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+}
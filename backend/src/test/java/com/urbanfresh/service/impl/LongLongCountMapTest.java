@@ -0,0 +1,136 @@
+package com.urbanfresh.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class LongLongCountMapTest {
+
+    @Test
+    void incrementAccumulatesPerKey() {
+        LongLongCountMap map = new LongLongCountMap();
+        map.increment(5, 2);
+        map.increment(5, 3);
+        map.increment(9, 1);
+
+        assertThat(map.get(5)).isEqualTo(5);
+        assertThat(map.get(9)).isEqualTo(1);
+        assertThat(map.get(7)).isZero();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsReservedZeroKey() {
+        LongLongCountMap map = new LongLongCountMap();
+
+        assertThatThrownBy(() -> map.increment(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(map.get(0)).isZero();
+    }
+
+    @Test
+    void topKeysOrdersByCountThenSmallerKey() {
+        LongLongCountMap map = new LongLongCountMap();
+        map.increment(40, 3);
+        map.increment(10, 7);
+        map.increment(30, 3);
+        map.increment(20, 9);
+        map.increment(50, 3);
+
+        assertThat(map.topKeys(5)).containsExactly(20, 10, 30, 40, 50);
+        // Ties at the cut-off go to the smaller key
+        assertThat(map.topKeys(3)).containsExactly(20, 10, 30);
+    }
+
+    @Test
+    void topKeysIsIndependentOfInsertionOrder() {
+        LongLongCountMap ascending = new LongLongCountMap();
+        LongLongCountMap descending = new LongLongCountMap();
+        for (long key = 1; key <= 100; key++) {
+            ascending.increment(key, key % 7);
+            descending.increment(101 - key, (101 - key) % 7);
+        }
+
+        assertThat(ascending.topKeys(10)).containsExactly(descending.topKeys(10));
+        assertThat(ascending.topKeys(10)).containsExactly(6, 13, 20, 27, 34, 41, 48, 55, 62, 69);
+    }
+
+    @Test
+    void topKeysCapsAtSize() {
+        LongLongCountMap map = new LongLongCountMap();
+        map.increment(3, 1);
+        map.increment(4, 2);
+
+        assertThat(map.topKeys(10)).containsExactly(4, 3);
+        assertThat(new LongLongCountMap().topKeys(10)).isEmpty();
+    }
+
+    @Test
+    void retainTopKeepsOnlyHighestCounts() {
+        LongLongCountMap map = new LongLongCountMap();
+        for (long key = 1; key <= 50; key++) {
+            map.increment(key, key);
+        }
+
+        map.retainTop(3);
+
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.get(50)).isEqualTo(50);
+        assertThat(map.get(49)).isEqualTo(49);
+        assertThat(map.get(48)).isEqualTo(48);
+        assertThat(map.get(47)).isZero();
+
+        // The compacted map keeps accepting increments
+        map.increment(1, 100);
+        assertThat(map.topKeys(4)).containsExactly(1, 50, 49, 48);
+    }
+
+    @Test
+    void retainTopIsNoOpWithinLimit() {
+        LongLongCountMap map = new LongLongCountMap();
+        map.increment(8, 2);
+        map.increment(9, 1);
+
+        map.retainTop(5);
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(8)).isEqualTo(2);
+        assertThat(map.get(9)).isEqualTo(1);
+    }
+
+    @Test
+    void growsPastLoadFactorWithoutLosingEntries() {
+        // Starts at the minimum capacity and must rehash several times
+        LongLongCountMap map = new LongLongCountMap();
+        int keys = 10_000;
+        for (long key = 1; key <= keys; key++) {
+            map.increment(key * 31, key);
+        }
+        for (long key = 1; key <= keys; key++) {
+            map.increment(key * 31, 1);
+        }
+
+        assertThat(map.size()).isEqualTo(keys);
+        for (long key = 1; key <= keys; key++) {
+            assertThat(map.get(key * 31)).isEqualTo(key + 1);
+        }
+        long[] visited = { 0, 0 };
+        map.forEach((key, value) -> {
+            visited[0]++;
+            visited[1] += value;
+        });
+        assertThat(visited[0]).isEqualTo(keys);
+        assertThat(visited[1]).isEqualTo((long) keys * (keys + 1) / 2 + keys);
+    }
+
+    @Test
+    void presizedMapHoldsExpectedEntries() {
+        LongLongCountMap map = new LongLongCountMap(3);
+        for (long key = 1; key <= 64; key++) {
+            map.increment(key, 1);
+        }
+
+        assertThat(map.size()).isEqualTo(64);
+        assertThat(map.get(64)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,228 @@
+package com.urbanfresh.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.invocation.Invocation;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.KeyHolder;
+
+import com.urbanfresh.event.LoyaltyBalanceChangedEvent;
+import com.urbanfresh.model.User;
+
+/**
+ * Ledger behaviour of LoyaltyServiceImpl: each EARN, REDEEM and REVERSE entry moves the
+ * balance only when its idempotency key is newly inserted.
+ */
+@ExtendWith(MockitoExtension.class)
+class LoyaltyServiceImplTest {
+
+    private static final long CUSTOMER_ID = 7L;
+    private static final long ORDER_ID = 42L;
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private LoyaltyServiceImpl loyaltyService;
+
+    private User customer;
+    private String insertSql;
+    private final Map<Object, Object> insertParams = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        customer = User.builder().id(CUSTOMER_ID).build();
+    }
+
+    @Test
+    void earnAppliesBalanceOnceForNewEntry() {
+        givenEntryInserted();
+
+        loyaltyService.awardPoints(customer, ORDER_ID, new BigDecimal("1250.00"));
+
+        verifyEntryInserted("EARN", 12, "order-42-earn");
+        verifyBalanceUpsert(12, 0);
+        verify(jdbcTemplate).update(startsWith("UPDATE loyalty_transactions SET balance_after"), eq(12), eq("order-42-earn"));
+        verify(eventPublisher).publishEvent(any(LoyaltyBalanceChangedEvent.class));
+    }
+
+    @Test
+    void retriedEarnLeavesBalanceUntouched() {
+        givenEntryAlreadyApplied();
+
+        loyaltyService.awardPoints(customer, ORDER_ID, new BigDecimal("1250.00"));
+
+        verifyNoBalanceChange();
+    }
+
+    @Test
+    void redeemAppliesBalanceOnceForNewEntry() {
+        givenEntryInserted();
+
+        loyaltyService.deductRedeemedPoints(customer, ORDER_ID, 5);
+
+        verifyEntryInserted("REDEEM", -5, "order-42-redeem");
+        verifyBalanceUpsert(0, 5);
+        verify(eventPublisher).publishEvent(any(LoyaltyBalanceChangedEvent.class));
+    }
+
+    @Test
+    void retriedRedeemLeavesBalanceUntouched() {
+        givenEntryAlreadyApplied();
+
+        loyaltyService.deductRedeemedPoints(customer, ORDER_ID, 5);
+
+        verifyNoBalanceChange();
+    }
+
+    @Test
+    void reverseCancelsEarnedAndRedeemedPoints() {
+        givenSettledEntries(new Object[] {"EARN", 12}, new Object[] {"REDEEM", -5});
+        givenEntryInserted();
+
+        loyaltyService.reverseOrderPoints(CUSTOMER_ID, ORDER_ID);
+
+        // Earned points are taken back and redeemed points returned: 5 - 12 = -7
+        verifyEntryInserted("REVERSE", -7, "order-42-reverse");
+        verifyBalanceUpsert(-12, -5);
+    }
+
+    @Test
+    void reverseWithNothingSettledStillWritesZeroPointEntry() {
+        givenSettledEntries();
+        givenEntryInserted();
+
+        loyaltyService.reverseOrderPoints(CUSTOMER_ID, ORDER_ID);
+
+        verifyEntryInserted("REVERSE", 0, "order-42-reverse");
+        verifyBalanceUpsert(0, 0);
+    }
+
+    @Test
+    void retriedReverseLeavesBalanceUntouched() {
+        givenSettledEntries(new Object[] {"EARN", 12});
+        givenEntryAlreadyApplied();
+
+        loyaltyService.reverseOrderPoints(CUSTOMER_ID, ORDER_ID);
+
+        verifyNoBalanceChange();
+    }
+
+    @Test
+    void earnAfterReverseIsGuardedByTheInsert() {
+        givenEntryBlockedByReverse();
+
+        loyaltyService.awardPoints(customer, ORDER_ID, new BigDecimal("800"));
+
+        // The INSERT's NOT EXISTS clause is keyed on the order, so a REVERSE row blocks it
+        verifyEntryInserted("EARN", 8, "order-42-earn");
+        assertThat(insertSql).contains("WHERE NOT EXISTS").contains("r.entry_type = 'REVERSE'");
+        verifyNoBalanceChange();
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────────────
+
+    private void givenEntryInserted() {
+        givenInsertOutcome(1, true);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(CUSTOMER_ID))).thenReturn(12);
+    }
+
+    /** Duplicate key: a no-op update that still reports 1 row under CLIENT_FOUND_ROWS, but no key. */
+    private void givenEntryAlreadyApplied() {
+        givenInsertOutcome(1, false);
+    }
+
+    /** NOT EXISTS found a REVERSE entry, so the SELECT produced no row to insert. */
+    private void givenEntryBlockedByReverse() {
+        givenInsertOutcome(0, false);
+    }
+
+    /** Runs the statement creator against a mocked connection and records the SQL and parameters. */
+    private void givenInsertOutcome(int updateCount, boolean generatesKey) {
+        doAnswer(invocation -> {
+            PreparedStatementCreator creator = invocation.getArgument(0);
+            KeyHolder keyHolder = invocation.getArgument(1);
+            Connection connection = mock(Connection.class);
+            PreparedStatement ps = mock(PreparedStatement.class);
+            when(connection.prepareStatement(anyString(), eq(Statement.RETURN_GENERATED_KEYS))).thenAnswer(call -> {
+                insertSql = call.getArgument(0);
+                return ps;
+            });
+            creator.createPreparedStatement(connection);
+            for (Invocation set : mockingDetails(ps).getInvocations()) {
+                insertParams.put(set.getArgument(0), set.getArgument(1));
+            }
+            if (generatesKey) {
+                keyHolder.getKeyList().add(Map.of("GENERATED_KEY", 1001L));
+            }
+            return updateCount;
+        }).when(jdbcTemplate).update(any(PreparedStatementCreator.class), any(KeyHolder.class));
+    }
+
+    /** Feeds (entry_type, SUM(points)) rows to the per-order summary query, which must lock. */
+    private void givenSettledEntries(Object[]... rows) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                handler.processRow(resultSet((String) row[0], (Integer) row[1]));
+            }
+            return null;
+        }).when(jdbcTemplate).query(endsWith("FOR UPDATE"), any(RowCallbackHandler.class), eq(ORDER_ID), eq(CUSTOMER_ID));
+    }
+
+    private static ResultSet resultSet(String entryType, int points) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(1)).thenReturn(entryType);
+        when(rs.getInt(2)).thenReturn(points);
+        return rs;
+    }
+
+    private void verifyEntryInserted(String type, int points, String idempotencyKey) {
+        assertThat(insertSql).startsWith("INSERT INTO loyalty_transactions").endsWith("ON DUPLICATE KEY UPDATE id = id");
+        assertThat(insertParams).containsEntry(1, CUSTOMER_ID).containsEntry(2, ORDER_ID)
+                .containsEntry(3, type).containsEntry(4, points).containsEntry(5, idempotencyKey)
+                .containsEntry(7, ORDER_ID);
+    }
+
+    private void verifyBalanceUpsert(int earnedDelta, int redeemedDelta) {
+        verify(jdbcTemplate, times(1)).update(startsWith("INSERT INTO loyalty_points"),
+                eq(CUSTOMER_ID), eq(earnedDelta), eq(redeemedDelta), any(), any());
+    }
+
+    private void verifyNoBalanceChange() {
+        verify(jdbcTemplate, never()).update(startsWith("INSERT INTO loyalty_points"),
+                any(), any(), any(), any(), any());
+        verify(jdbcTemplate, never()).update(startsWith("UPDATE loyalty_transactions"), any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+}
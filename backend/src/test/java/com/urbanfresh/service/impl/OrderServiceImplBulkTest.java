@@ -0,0 +1,322 @@
+package com.urbanfresh.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.urbanfresh.dto.request.BulkDeliveryAssignmentRequest;
+import com.urbanfresh.dto.request.BulkOrderStatusUpdateRequest;
+import com.urbanfresh.dto.response.BulkOperationResponse;
+import com.urbanfresh.dto.response.BulkOperationResponse.RowResult;
+import com.urbanfresh.event.DeliveryAssignmentsChangedEvent;
+import com.urbanfresh.event.OrderStatusChangedPayload;
+import com.urbanfresh.exception.InvalidOrderStatusTransitionException;
+import com.urbanfresh.model.Order;
+import com.urbanfresh.model.OrderItem;
+import com.urbanfresh.model.OrderItemBatchAllocation;
+import com.urbanfresh.model.OrderStatus;
+import com.urbanfresh.model.OutboxEventType;
+import com.urbanfresh.model.Product;
+import com.urbanfresh.model.ProductBatch;
+import com.urbanfresh.model.Role;
+import com.urbanfresh.model.User;
+import com.urbanfresh.repository.OrderItemBatchAllocationRepository;
+import com.urbanfresh.repository.OrderRepository;
+import com.urbanfresh.repository.ProductBatchRepository;
+import com.urbanfresh.repository.ProductRepository;
+import com.urbanfresh.repository.UserRepository;
+import com.urbanfresh.service.OutboxService;
+
+/**
+ * Per-order outcomes of OrderServiceImpl's bulk status update and bulk delivery assignment.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderServiceImplBulkTest {
+
+    private static final String ADMIN_EMAIL = "admin@urbanfresh.test";
+    private static final long ADMIN_ID = 1L;
+    private static final long RIDER_ID = 50L;
+
+    @Mock private OrderRepository orderRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private ProductRepository productRepository;
+    @Mock private ProductBatchRepository productBatchRepository;
+    @Mock private OrderItemBatchAllocationRepository allocationRepository;
+    @Mock private NamedParameterJdbcTemplate namedJdbcTemplate;
+    @Mock private OrderStatusHistoryAppender statusHistoryAppender;
+    @Mock private OutboxService outboxService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private OrderServiceImpl orderService;
+
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        admin = User.builder().id(ADMIN_ID).name("Admin").email(ADMIN_EMAIL).role(Role.ADMIN).build();
+    }
+
+    // ── Bulk status update ───────────────────────────────────────────────────
+
+    @Test
+    void bulkStatusReportsEveryRowAndUpdatesOnlyEligibleOrders() {
+        givenAdmin();
+        givenLockedRows(
+                row(1, OrderStatus.PROCESSING, 101, null),
+                row(2, OrderStatus.DELIVERED, 102, null),
+                row(3, OrderStatus.READY, 103, null),
+                row(4, OrderStatus.CONFIRMED, 104, null));
+
+        BulkOperationResponse response = orderService.bulkUpdateOrderStatus(
+                statusRequest("ready", null, 1L, 1L, null, 99L, 2L, 3L, 4L), ADMIN_EMAIL);
+
+        assertThat(response.getTotalRows()).isEqualTo(7);
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(5);
+        assertRow(response, 1, 1L, true, "PROCESSING → READY");
+        assertRow(response, 2, 1L, false, "Duplicate order ID in request.");
+        assertRow(response, 3, null, false, "Order ID is required.");
+        assertRow(response, 4, 99L, false, "Order not found with ID: 99");
+        assertRow(response, 5, 2L, false, "Admin cannot update an order once it reaches DELIVERED.");
+        assertRow(response, 6, 3L, true, "Already READY.");
+        assertRow(response, 7, 4L, false, "Cannot transition order status from CONFIRMED to READY.");
+
+        MapSqlParameterSource update = captureUpdate();
+        assertThat(update.getValue("status")).isEqualTo("READY");
+        assertThat((Iterable<Object>) update.getValue("ids")).containsExactly(1L);
+        verify(statusHistoryAppender).append(1L, OrderStatus.PROCESSING, OrderStatus.READY, ADMIN_ID, null, null);
+        assertThat(capturePayloads()).containsOnlyKeys(1L).containsEntry(1L,
+                new OrderStatusChangedPayload(1L, 101L, OrderStatus.PROCESSING, OrderStatus.READY, true));
+    }
+
+    @Test
+    void bulkStatusRequiresReasonForBackwardCorrection() {
+        givenAdmin();
+        givenLockedRows(row(3, OrderStatus.READY, 103, null));
+
+        BulkOperationResponse response = orderService.bulkUpdateOrderStatus(
+                statusRequest("PROCESSING", "   ", 3L), ADMIN_EMAIL);
+
+        assertRow(response, 1, 3L, false, "Correction reason is required for backward status updates.");
+        verify(namedJdbcTemplate, never()).update(anyString(), any(SqlParameterSource.class));
+        verify(outboxService, never()).appendAll(any(), any());
+    }
+
+    @Test
+    void bulkStatusAppliesBackwardCorrectionWithReason() {
+        givenAdmin();
+        givenLockedRows(row(3, OrderStatus.READY, 103, null));
+
+        BulkOperationResponse response = orderService.bulkUpdateOrderStatus(
+                statusRequest("PROCESSING", " Packed wrong items ", 3L), ADMIN_EMAIL);
+
+        assertRow(response, 1, 3L, true, "READY → PROCESSING");
+        verify(statusHistoryAppender).append(3L, OrderStatus.READY, OrderStatus.PROCESSING,
+                ADMIN_ID, null, "Packed wrong items");
+    }
+
+    @Test
+    void bulkCancelRestoresStockExceptFromExpiredBatches() {
+        givenAdmin();
+        givenLockedRows(row(7, OrderStatus.PROCESSING, 107, null));
+
+        Product product = Product.builder().id(30L).stockQuantity(10).build();
+        ProductBatch fresh = ProductBatch.builder().id(300L).product(product)
+                .expiryDate(LocalDate.now().plusDays(5)).availableQuantity(4).build();
+        ProductBatch expired = ProductBatch.builder().id(301L).product(product)
+                .expiryDate(LocalDate.now().minusDays(1)).availableQuantity(0).build();
+        OrderItem item = OrderItem.builder().id(70L).product(product).quantity(5).build();
+        Order order = Order.builder().id(7L).items(new ArrayList<>(List.of(item))).build();
+        when(orderRepository.findAllById(any())).thenReturn(List.of(order));
+        when(allocationRepository.findByOrderItemId(70L)).thenReturn(List.of(
+                OrderItemBatchAllocation.builder().orderItem(item).batch(fresh).allocatedQuantity(3).build(),
+                OrderItemBatchAllocation.builder().orderItem(item).batch(expired).allocatedQuantity(2).build()));
+
+        BulkOperationResponse response = orderService.bulkUpdateOrderStatus(
+                statusRequest("CANCELLED", null, 7L), ADMIN_EMAIL);
+
+        assertRow(response, 1, 7L, true, "PROCESSING → CANCELLED");
+        assertThat(fresh.getAvailableQuantity()).isEqualTo(7);
+        assertThat(expired.getAvailableQuantity()).isZero();
+        assertThat(product.getStockQuantity()).isEqualTo(13);
+        verify(productBatchRepository, never()).save(expired);
+        assertThat(captureUpdate().getValue("status")).isEqualTo("CANCELLED");
+    }
+
+    @Test
+    void bulkStatusWithNothingEligibleWritesNothing() {
+        givenAdmin();
+        givenLockedRows(row(3, OrderStatus.READY, 103, null));
+
+        BulkOperationResponse response = orderService.bulkUpdateOrderStatus(
+                statusRequest("READY", null, 3L), ADMIN_EMAIL);
+
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        verify(namedJdbcTemplate, never()).update(anyString(), any(SqlParameterSource.class));
+        verify(statusHistoryAppender, never()).append(any(), any(), any(), any(), any(), any());
+        verify(outboxService, never()).appendAll(any(), any());
+    }
+
+    @Test
+    void bulkStatusRejectsUnknownAndNonAdminTargets() {
+        assertThatThrownBy(() -> orderService.bulkUpdateOrderStatus(statusRequest("SHIPPED", null, 1L), ADMIN_EMAIL))
+                .isInstanceOf(InvalidOrderStatusTransitionException.class)
+                .hasMessageContaining("Invalid order status 'SHIPPED'");
+        assertThatThrownBy(() -> orderService.bulkUpdateOrderStatus(statusRequest("DELIVERED", null, 1L), ADMIN_EMAIL))
+                .isInstanceOf(InvalidOrderStatusTransitionException.class)
+                .hasMessageContaining("Admins can only set statuses");
+    }
+
+    // ── Bulk delivery assignment ─────────────────────────────────────────────
+
+    @Test
+    void bulkAssignMovesReadyOrdersAndReassignsOutForDelivery() {
+        givenAdmin();
+        givenRider(true);
+        givenLockedRows(
+                row(1, OrderStatus.READY, 101, null),
+                row(2, OrderStatus.OUT_FOR_DELIVERY, 102, 60L),
+                row(3, OrderStatus.OUT_FOR_DELIVERY, 103, RIDER_ID),
+                row(4, OrderStatus.PROCESSING, 104, null));
+
+        BulkOperationResponse response = orderService.bulkAssignDeliveryPersonnel(
+                assignmentRequest(1L, 2L, 3L, 4L, 4L), ADMIN_EMAIL);
+
+        assertRow(response, 1, 1L, true, "Assigned to Rider.");
+        assertRow(response, 2, 2L, true, "Assigned to Rider.");
+        assertRow(response, 3, 3L, true, "Already assigned to Rider.");
+        assertRow(response, 4, 4L, false,
+                "Delivery can only be assigned to orders in READY or OUT_FOR_DELIVERY status. Current status: PROCESSING.");
+        assertRow(response, 5, 4L, false, "Duplicate order ID in request.");
+
+        MapSqlParameterSource update = captureUpdate();
+        assertThat(update.getValue("deliveryPersonId")).isEqualTo(RIDER_ID);
+        assertThat((Iterable<Object>) update.getValue("ids")).containsExactly(1L, 2L);
+
+        String reason = "Assigned to delivery personnel: Rider";
+        verify(statusHistoryAppender).append(1L, OrderStatus.READY, OrderStatus.OUT_FOR_DELIVERY, ADMIN_ID, null, reason);
+        verify(statusHistoryAppender).append(2L, OrderStatus.OUT_FOR_DELIVERY, OrderStatus.OUT_FOR_DELIVERY,
+                ADMIN_ID, null, reason);
+        // Only the READY order changed status, so only it notifies the customer
+        assertThat(capturePayloads()).containsOnlyKeys(1L);
+
+        ArgumentCaptor<DeliveryAssignmentsChangedEvent> event = ArgumentCaptor.forClass(DeliveryAssignmentsChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getDeliveryPersonIds()).containsExactlyInAnyOrder(RIDER_ID, 60L);
+    }
+
+    @Test
+    void bulkAssignRejectsInactiveRider() {
+        givenRider(false);
+
+        assertThatThrownBy(() -> orderService.bulkAssignDeliveryPersonnel(assignmentRequest(1L), ADMIN_EMAIL))
+                .isInstanceOf(InvalidOrderStatusTransitionException.class)
+                .hasMessageContaining("inactive delivery person");
+        verify(namedJdbcTemplate, never()).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────────────
+
+    private record LockedRow(long id, OrderStatus status, long customerId, Long riderId) {
+    }
+
+    private static LockedRow row(long id, OrderStatus status, long customerId, Long riderId) {
+        return new LockedRow(id, status, customerId, riderId);
+    }
+
+    private void givenAdmin() {
+        when(userRepository.findByEmail(ADMIN_EMAIL)).thenReturn(Optional.of(admin));
+    }
+
+    private void givenRider(boolean active) {
+        User rider = User.builder().id(RIDER_ID).name("Rider").role(Role.DELIVERY).isActive(active).build();
+        when(userRepository.findByIdAndRole(RIDER_ID, Role.DELIVERY)).thenReturn(Optional.of(rider));
+    }
+
+    /** Feeds the rows to the FOR UPDATE query's RowCallbackHandler, one mocked ResultSet per row. */
+    private void givenLockedRows(LockedRow... rows) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            for (LockedRow row : rows) {
+                handler.processRow(resultSet(row));
+            }
+            return null;
+        }).when(namedJdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+    }
+
+    private static ResultSet resultSet(LockedRow row) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(row.id());
+        when(rs.getString("status")).thenReturn(row.status().name());
+        when(rs.getLong("user_id")).thenReturn(row.customerId());
+        when(rs.getObject("assigned_delivery_person_id", Long.class)).thenReturn(row.riderId());
+        return rs;
+    }
+
+    private static BulkOrderStatusUpdateRequest statusRequest(String status, String reason, Long... orderIds) {
+        BulkOrderStatusUpdateRequest request = new BulkOrderStatusUpdateRequest();
+        request.setOrderIds(Arrays.asList(orderIds));
+        request.setStatus(status);
+        request.setChangeReason(reason);
+        return request;
+    }
+
+    private static BulkDeliveryAssignmentRequest assignmentRequest(Long... orderIds) {
+        BulkDeliveryAssignmentRequest request = new BulkDeliveryAssignmentRequest();
+        request.setOrderIds(Arrays.asList(orderIds));
+        request.setDeliveryPersonId(RIDER_ID);
+        return request;
+    }
+
+    private static void assertRow(BulkOperationResponse response, int rowNumber, Long id, boolean success, String message) {
+        RowResult row = response.getResults().get(rowNumber - 1);
+        assertThat(row.getRowNumber()).isEqualTo(rowNumber);
+        assertThat(row.getId()).isEqualTo(id);
+        assertThat(row.isSuccess()).as("success of row %d", rowNumber).isEqualTo(success);
+        assertThat(row.getMessage()).isEqualTo(message);
+    }
+
+    @SuppressWarnings("unchecked")
+    private MapSqlParameterSource captureUpdate() {
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(namedJdbcTemplate).update(anyString(), params.capture());
+        return params.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Object> capturePayloads() {
+        ArgumentCaptor<Map<Long, ?>> payloads = ArgumentCaptor.forClass(Map.class);
+        verify(outboxService).appendAll(eq(OutboxEventType.ORDER_STATUS_CHANGED), payloads.capture());
+        return (Map<Long, Object>) payloads.getValue();
+    }
+}
@@ -0,0 +1,129 @@
+package com.urbanfresh.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.urbanfresh.model.OrderStatus;
+
+/**
+ * Transaction scoping of OrderStatusHistoryAppender: each transaction flushes only the rows it
+ * appended, including a REQUIRES_NEW transaction nested inside another.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderStatusHistoryAppenderTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private OrderStatusHistoryAppender appender;
+
+    private final StubTransactionManager transactionManager = new StubTransactionManager();
+    private final List<List<Long>> flushedBatches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            flushedBatches.add(rows.stream().map(row -> (Long) row[0]).toList());
+            return new int[rows.size()];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void requiresNewTransactionFlushesOnlyItsOwnRows() {
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        TransactionTemplate inner = new TransactionTemplate(transactionManager);
+        inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        outer.executeWithoutResult(outerStatus -> {
+            append(1L);
+            inner.executeWithoutResult(innerStatus -> append(2L));
+            append(3L);
+        });
+
+        assertThat(flushedBatches).containsExactly(List.of(2L), List.of(1L, 3L));
+    }
+
+    @Test
+    void innerRollbackKeepsOuterRows() {
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        TransactionTemplate inner = new TransactionTemplate(transactionManager);
+        inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        outer.executeWithoutResult(outerStatus -> {
+            append(1L);
+            inner.executeWithoutResult(innerStatus -> {
+                append(2L);
+                innerStatus.setRollbackOnly();
+            });
+        });
+
+        assertThat(flushedBatches).containsExactly(List.of(1L));
+    }
+
+    private void append(long orderId) {
+        appender.append(orderId, OrderStatus.PENDING, OrderStatus.CONFIRMED, null, null, null);
+    }
+
+    /** Resourceless transaction manager that supports suspension, enough to drive synchronizations. */
+    private static final class StubTransactionManager extends AbstractPlatformTransactionManager {
+
+        private int active;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return active > 0;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            active++;
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            active--;
+            return transaction;
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+            active++;
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            active--;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.urbanfresh.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.urbanfresh.exception.PaymentGatewayUnavailableException;
+
+class PaymentGatewayGuardTest {
+
+    private static final int FAILURE_THRESHOLD = 2;
+
+    private final PaymentGatewayGuard guard = new PaymentGatewayGuard(10, 100, 2_000, FAILURE_THRESHOLD, 60_000);
+
+    @AfterEach
+    void tearDown() {
+        guard.shutdown();
+    }
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        tripCircuit(guard);
+
+        assertThat(guard.isOpen()).isTrue();
+        assertThatThrownBy(() -> guard.execute(() -> "ok"))
+                .isInstanceOf(PaymentGatewayUnavailableException.class);
+    }
+
+    @Test
+    void lateSuccessFromCallStartedBeforeTripKeepsCircuitOpen() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> slowCall = CompletableFuture.supplyAsync(() -> guard.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+            return "late";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        tripCircuit(guard);
+        release.countDown();
+
+        assertThat(slowCall.get(5, TimeUnit.SECONDS)).isEqualTo("late");
+        assertThat(guard.isOpen()).isTrue();
+    }
+
+    @Test
+    void successfulProbeClosesCircuit() {
+        PaymentGatewayGuard shortOpen = new PaymentGatewayGuard(10, 100, 2_000, FAILURE_THRESHOLD, 0);
+        try {
+            tripCircuit(shortOpen);
+            assertThat(shortOpen.isOpen()).isTrue();
+
+            assertThat(shortOpen.execute(() -> "probe")).isEqualTo("probe");
+            assertThat(shortOpen.isOpen()).isFalse();
+        } finally {
+            shortOpen.shutdown();
+        }
+    }
+
+    private static void tripCircuit(PaymentGatewayGuard target) {
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> target.execute(() -> {
+                throw new PaymentGatewayUnavailableException("gateway down");
+            })).isInstanceOf(PaymentGatewayUnavailableException.class);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.urbanfresh.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.urbanfresh.service.impl.ConfirmedBasketReader.Basket;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationModelBuilderTest {
+
+    @Mock
+    private ConfirmedBasketReader basketReader;
+
+    @InjectMocks
+    private RecommendationModelBuilder builder;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(builder, "neighboursPerProduct", 10);
+        ReflectionTestUtils.setField(builder, "candidatesPerCustomer", 4);
+    }
+
+    @Test
+    void aggregatesUnitsAndNeighboursAcrossPages() {
+        givenPages(
+                List.of(basket(1, 100, new long[] {1, 2}, new long[] {3, 1}),
+                        basket(2, 200, new long[] {1, 3}, new long[] {1, 1})),
+                List.of(basket(3, 100, new long[] {1}, new long[] {2}),
+                        basket(4, 300, new long[] {2, 3}, new long[] {1, 1})));
+
+        RecommendationModel model = builder.build();
+
+        assertThat(model.byCustomer()).containsOnlyKeys(100L, 200L, 300L);
+        // Customer 100 bought product 1 (5 units) and 2 (1 unit); 3 is discovered through both
+        RecommendationModel.Candidates candidates = model.byCustomer().get(100L);
+        assertThat(candidates.productIds()).containsExactly(1, 2, 3);
+        assertThat(candidates.unitsOrdered()).containsExactly(5, 1, 0);
+    }
+
+    @Test
+    void emptyHistoryBuildsEmptyModel() {
+        givenPages();
+
+        assertThat(builder.build().byCustomer()).isEmpty();
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────────────
+
+    private static Basket basket(long orderId, long customerId, long[] productIds, long[] quantities) {
+        return new Basket(orderId, customerId, productIds, quantities);
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private void givenPages(List<Basket>... pages) {
+        doAnswer(invocation -> {
+            Consumer<List<Basket>> consumer = invocation.getArgument(0);
+            for (List<Basket> page : pages) {
+                consumer.accept(page);
+            }
+            return null;
+        }).when(basketReader).forEachPage(any(Consumer.class));
+    }
+}
@@ -123,3 +123,20 @@ export const uploadProductImage = (file) => {
     })
     .then((res) => res.data);
 };
+
+/**
+ * Imports a catalogue file (CSV with header row, or .jsonl / .ndjson JSON lines).
+ * Calls POST /api/admin/products/import  (multipart/form-data)
+ *
+ * @param {File} file - catalogue file
+ * @returns {Promise<BulkOperationResponse>} per-row import report
+ */
+export const importProducts = (file) => {
+  const formData = new FormData();
+  formData.append('file', file);
+  return api
+    .post('/api/admin/products/import', formData, {
+      headers: { 'Content-Type': 'multipart/form-data' },
+    })
+    .then((res) => res.data);
+};
@@ -25,4 +25,11 @@ export const createPurchaseOrder = (data) =>
  * @returns {Promise<Object>} The updated order
  */
 export const confirmDeliveryAndStock = (orderId, batchData = null) =>
-  api.put(`/api/admin/purchase-orders/${orderId}/confirm`, batchData).then((res) => res.data);
\ No newline at end of file
+  api.put(`/api/admin/purchase-orders/${orderId}/confirm`, batchData).then((res) => res.data);
+/**
+ * Get one page of purchase orders, newest first.
+ * @param {{ status?: string, page?: number, size?: number }} params
+ * @returns {Promise<Object>} Spring Page of PurchaseOrderDto
+ */
+export const getPurchaseOrdersPage = (params = {}) =>
+  api.get('/api/admin/purchase-orders/page', { params }).then((res) => res.data);
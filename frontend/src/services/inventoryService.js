@@ -26,3 +26,47 @@ export const updateInventory = (productId, data) =>
  */
 export const getProductBatches = (productId) =>
   api.get(`/api/admin/inventory/${productId}/batches`).then(res => res.data);
+
+/**
+ * Fetches one keyset-paginated slice of the inventory console.
+ * Pass the name and productId of the last item received as afterName / afterId
+ * to load the next slice.
+ *
+ * @param {{ lowStockOnly?: boolean, category?: string, brandId?: number,
+ *           afterName?: string, afterId?: number, size?: number }} params
+ * @returns {Promise<{ items: InventoryResponse[], pageSize: number, hasMore: boolean }>}
+ */
+export const getInventoryPage = (params = {}) =>
+  api.get('/api/admin/inventory/page', { params }).then(res => res.data);
+
+/**
+ * Fetches low-stock products, furthest below their reorder threshold first.
+ *
+ * @param {{ afterGap?: number, afterId?: number, size?: number }} params
+ * @returns {Promise<{ items: InventoryResponse[], pageSize: number, hasMore: boolean }>}
+ */
+export const getLowStockInventory = (params = {}) =>
+  api.get('/api/admin/inventory/low-stock', { params }).then(res => res.data);
+
+/**
+ * Applies a bulk stock-take adjustment.
+ *
+ * @param {{ productId: number, quantity: number, reorderThreshold: number }[]} rows
+ * @returns {Promise<BulkOperationResponse>} per-row result report
+ */
+export const bulkAdjustInventory = (rows) =>
+  api.post('/api/admin/inventory/bulk', { rows }).then(res => res.data);
+
+/**
+ * Uploads a stock-take CSV (header: productId,quantity,reorderThreshold).
+ *
+ * @param {File} file CSV file
+ * @returns {Promise<BulkOperationResponse>} per-row result report
+ */
+export const bulkAdjustInventoryCsv = (file) => {
+  const formData = new FormData();
+  formData.append('file', file);
+  return api.post('/api/admin/inventory/bulk/csv', formData, {
+    headers: { 'Content-Type': 'multipart/form-data' },
+  }).then(res => res.data);
+};
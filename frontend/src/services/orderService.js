@@ -109,6 +109,17 @@ export const resolveOrderForSuccess = async ({ orderId } = {}) => {
  */
 export const getLoyaltyPoints = () => api.get('/api/customer/loyalty').then((res) => res.data);
 
+/**
+ * Fetches the customer's loyalty ledger, newest first.
+ * GET /api/customer/loyalty/transactions
+ *
+ * @param {number} [page=0] zero-based page index
+ * @param {number} [size=20] page size
+ * @returns {Promise<Object>} Spring Page of LoyaltyTransactionResponse (type, points, balanceAfter, orderId)
+ */
+export const getLoyaltyTransactions = (page = 0, size = 20) =>
+	api.get('/api/customer/loyalty/transactions', { params: { page, size } }).then((res) => res.data);
+
 /**
  * Fetches a paginated list of all customer orders for admin operations.
  * GET /api/admin/orders?page={page}&size={size}
@@ -198,6 +209,39 @@ export const updateAssignedDeliveryOrderStatus = (orderId, status, changeReason
 export const assignDeliveryPersonnel = (orderId, deliveryPersonId) =>
 	api.put(`/api/admin/orders/${orderId}/assign-delivery`, { deliveryPersonId }).then((res) => res.data);
 
+/**
+ * Moves many orders to the same status; each order is validated individually.
+ * POST /api/admin/orders/bulk-status
+ *
+ * @param {number[]} orderIds target order IDs
+ * @param {string} status target status (PROCESSING, READY or CANCELLED)
+ * @param {string | null} [changeReason] reason, required for backward corrections
+ * @returns {Promise<Object>} BulkOperationResponse with per-order results
+ */
+export const bulkUpdateOrderStatus = (orderIds, status, changeReason = null) =>
+	api.post('/api/admin/orders/bulk-status', { orderIds, status, changeReason }).then((res) => res.data);
+
+/**
+ * Assigns one active delivery person to many READY/OUT_FOR_DELIVERY orders.
+ * POST /api/admin/orders/bulk-assign-delivery
+ *
+ * @param {number[]} orderIds target order IDs
+ * @param {number} deliveryPersonId active delivery personnel user ID
+ * @returns {Promise<Object>} BulkOperationResponse with per-order results
+ */
+export const bulkAssignDeliveryPersonnel = (orderIds, deliveryPersonId) =>
+	api.post('/api/admin/orders/bulk-assign-delivery', { orderIds, deliveryPersonId }).then((res) => res.data);
+
+/**
+ * Fetches proposed rider assignments for all READY, unassigned orders.
+ * Apply a rider's proposal with bulkAssignDeliveryPersonnel(plan.orderIds, plan.deliveryPersonId).
+ * GET /api/admin/dispatch/plan
+ *
+ * @returns {Promise<Object>} DispatchPlanResponse with per-rider trips
+ */
+export const getDispatchPlan = () =>
+	api.get('/api/admin/dispatch/plan').then((res) => res.data);
+
 /**
  * Fetches all active delivery personnel for the assignment dropdown.
  * GET /api/admin/delivery-personnel/active
@@ -26,4 +26,12 @@ export const updatePurchaseOrderStatus = (orderId, updateData) =>
  * Sends a notice to the admin to proceed with an order.
  */
 export const addSupplierNotice = (orderId, noticeText) => 
-  api.patch(`/api/supplier/purchase-orders/${orderId}/notice`, { notice: noticeText }).then((res) => res.data);
\ No newline at end of file
+  api.patch(`/api/supplier/purchase-orders/${orderId}/notice`, { notice: noticeText }).then((res) => res.data);
+/**
+ * Retrieves one page of the supplier's purchase orders, newest first.
+ *
+ * @param {{ status?: string, page?: number, size?: number }} params
+ * @returns {Promise<Object>} Spring Page of PurchaseOrderDto
+ */
+export const getPurchaseOrdersPage = (params = {}) =>
+  api.get('/api/supplier/purchase-orders/page', { params }).then((res) => res.data);